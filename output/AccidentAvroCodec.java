@@ -0,0 +1,427 @@
+import java.io.File;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.JsonProperties;
+import org.apache.avro.Schema;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
+import org.apache.avro.util.Utf8;
+
+/**
+ * Avro datum reader and writer specialized for the us_accidents schema that
+ * stage 1 imports with {@code --as-avrodatafile} ({@code output/us_accidents.avsc}).
+ * <p>
+ * Every column is a {@code ["null", type]} union; timestamps travel as epoch
+ * milliseconds in a {@code long}. {@link Reader} decodes a record straight
+ * into the setters of a reused {@link us_accidents} and {@link Writer} encodes
+ * from its getters, so there is no {@code GenericRecord}, schema walk or
+ * reflection per record; {@link PrimitiveWriter} does the same for a
+ * {@link PrimitiveAccident}. Both check once, in {@code setSchema}, that the
+ * file's schema has exactly this layout and otherwise fail with an
+ * {@link AvroTypeException}; files with an evolved schema have to go through
+ * the generic reader.
+ * <pre>
+ *   DataFileReader&lt;us_accidents&gt; in = AccidentAvroCodec.open(file);
+ *   us_accidents record = null;
+ *   while (in.hasNext()) {
+ *     record = in.next(record);
+ *   }
+ * </pre>
+ */
+public final class AccidentAvroCodec {
+
+  /** The schema Sqoop generates for the us_accidents table. */
+  public static final Schema SCHEMA = buildSchema();
+
+  private AccidentAvroCodec() {
+  }
+
+  /** Opens a local Avro container file for reading into us_accidents records. */
+  public static DataFileReader<us_accidents> open(File file) throws IOException {
+    return new DataFileReader<us_accidents>(file, new Reader());
+  }
+
+  private static Schema buildSchema() {
+    List<Schema.Field> fields = new ArrayList<Schema.Field>();
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      Schema union = Schema.createUnion(Arrays.asList(
+          Schema.create(Schema.Type.NULL), Schema.create(avroType(f))));
+      Schema.Field field = new Schema.Field(AccidentSchema.name(f), union, null,
+          JsonProperties.NULL_VALUE);
+      field.addProp("columnName", AccidentSchema.name(f));
+      field.addProp("sqlType", Integer.toString(sqlType(f)));
+      fields.add(field);
+    }
+    Schema schema = Schema.createRecord("us_accidents", "Sqoop import of us_accidents", null,
+        false, fields);
+    schema.addProp("tableName", "us_accidents");
+    return schema;
+  }
+
+  private static Schema.Type avroType(int field) {
+    switch (AccidentSchema.type(field)) {
+    case AccidentSchema.TYPE_INT:
+      return Schema.Type.INT;
+    case AccidentSchema.TYPE_STRING:
+      return Schema.Type.STRING;
+    case AccidentSchema.TYPE_TIMESTAMP:
+      return Schema.Type.LONG;
+    case AccidentSchema.TYPE_DOUBLE:
+      return Schema.Type.DOUBLE;
+    default:
+      return Schema.Type.BOOLEAN;
+    }
+  }
+
+  private static int sqlType(int field) {
+    switch (field) {
+    case AccidentSchema.SEVERITY:
+      return Types.SMALLINT;
+    case AccidentSchema.STATE:
+    case AccidentSchema.COUNTRY:
+    case AccidentSchema.AIRPORT_CODE:
+      return Types.CHAR;
+    default:
+      break;
+    }
+    switch (AccidentSchema.type(field)) {
+    case AccidentSchema.TYPE_INT:
+      return Types.INTEGER;
+    case AccidentSchema.TYPE_STRING:
+      return Types.VARCHAR;
+    case AccidentSchema.TYPE_TIMESTAMP:
+      return Types.TIMESTAMP;
+    case AccidentSchema.TYPE_DOUBLE:
+      return Types.DOUBLE;
+    default:
+      return Types.BIT;
+    }
+  }
+
+  /**
+   * Checks that {@code schema} is the us_accidents layout and returns, per
+   * column, which branch of its union is the null branch.
+   */
+  static int[] nullBranches(Schema schema) {
+    if (schema.getType() != Schema.Type.RECORD
+        || schema.getFields().size() != AccidentSchema.FIELD_COUNT) {
+      throw new AvroTypeException("Not a us_accidents schema: " + schema);
+    }
+    int[] branches = new int[AccidentSchema.FIELD_COUNT];
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      Schema.Field field = schema.getFields().get(f);
+      Schema type = field.schema();
+      if (!field.name().equals(AccidentSchema.name(f))
+          || type.getType() != Schema.Type.UNION || type.getTypes().size() != 2) {
+        throw new AvroTypeException("Unexpected us_accidents column " + field);
+      }
+      int nullBranch = type.getTypes().get(0).getType() == Schema.Type.NULL ? 0 : 1;
+      if (type.getTypes().get(nullBranch).getType() != Schema.Type.NULL
+          || type.getTypes().get(1 - nullBranch).getType() != avroType(f)) {
+        throw new AvroTypeException("Unexpected us_accidents column " + field);
+      }
+      branches[f] = nullBranch;
+    }
+    return branches;
+  }
+
+  /** Decodes us_accidents records, reusing the record passed to {@link #read}. */
+  public static class Reader implements DatumReader<us_accidents> {
+
+    private int[] nullBranch = nullBranches(SCHEMA);
+    private Utf8 scratch = new Utf8();
+
+    @Override
+    public void setSchema(Schema schema) {
+      nullBranch = nullBranches(schema);
+    }
+
+    @Override
+    public us_accidents read(us_accidents reuse, Decoder in) throws IOException {
+      if (reuse == null) {
+        reuse = new us_accidents();
+      }
+      reuse.set_id(isNull(in, AccidentSchema.ID) ? null : Integer.valueOf(in.readInt()));
+      reuse.set_id_str(isNull(in, AccidentSchema.ID_STR) ? null : readString(in, AccidentSchema.ID_STR));
+      reuse.set_source(isNull(in, AccidentSchema.SOURCE) ? null : readString(in, AccidentSchema.SOURCE));
+      reuse.set_severity(isNull(in, AccidentSchema.SEVERITY) ? null : Integer.valueOf(in.readInt()));
+      reuse.set_start_time(isNull(in, AccidentSchema.START_TIME) ? null : new Timestamp(in.readLong()));
+      reuse.set_end_time(isNull(in, AccidentSchema.END_TIME) ? null : new Timestamp(in.readLong()));
+      reuse.set_start_lat(isNull(in, AccidentSchema.START_LAT) ? null : Double.valueOf(in.readDouble()));
+      reuse.set_start_lng(isNull(in, AccidentSchema.START_LNG) ? null : Double.valueOf(in.readDouble()));
+      reuse.set_end_lat(isNull(in, AccidentSchema.END_LAT) ? null : Double.valueOf(in.readDouble()));
+      reuse.set_end_lng(isNull(in, AccidentSchema.END_LNG) ? null : Double.valueOf(in.readDouble()));
+      reuse.set_distance_mi(isNull(in, AccidentSchema.DISTANCE_MI) ? null : Double.valueOf(in.readDouble()));
+      reuse.set_description(isNull(in, AccidentSchema.DESCRIPTION) ? null : readString(in, AccidentSchema.DESCRIPTION));
+      reuse.set_street(isNull(in, AccidentSchema.STREET) ? null : readString(in, AccidentSchema.STREET));
+      reuse.set_city(isNull(in, AccidentSchema.CITY) ? null : readString(in, AccidentSchema.CITY));
+      reuse.set_county(isNull(in, AccidentSchema.COUNTY) ? null : readString(in, AccidentSchema.COUNTY));
+      reuse.set_state(isNull(in, AccidentSchema.STATE) ? null : readString(in, AccidentSchema.STATE));
+      reuse.set_zipcode(isNull(in, AccidentSchema.ZIPCODE) ? null : readString(in, AccidentSchema.ZIPCODE));
+      reuse.set_country(isNull(in, AccidentSchema.COUNTRY) ? null : readString(in, AccidentSchema.COUNTRY));
+      reuse.set_timezone(isNull(in, AccidentSchema.TIMEZONE) ? null : readString(in, AccidentSchema.TIMEZONE));
+      reuse.set_airport_code(isNull(in, AccidentSchema.AIRPORT_CODE) ? null : readString(in, AccidentSchema.AIRPORT_CODE));
+      reuse.set_weather_timestamp(isNull(in, AccidentSchema.WEATHER_TIMESTAMP) ? null : new Timestamp(in.readLong()));
+      reuse.set_temperature_f(isNull(in, AccidentSchema.TEMPERATURE_F) ? null : Double.valueOf(in.readDouble()));
+      reuse.set_wind_chill_f(isNull(in, AccidentSchema.WIND_CHILL_F) ? null : Double.valueOf(in.readDouble()));
+      reuse.set_humidity_percent(isNull(in, AccidentSchema.HUMIDITY_PERCENT) ? null : Double.valueOf(in.readDouble()));
+      reuse.set_pressure_in(isNull(in, AccidentSchema.PRESSURE_IN) ? null : Double.valueOf(in.readDouble()));
+      reuse.set_visibility_mi(isNull(in, AccidentSchema.VISIBILITY_MI) ? null : Double.valueOf(in.readDouble()));
+      reuse.set_wind_direction(isNull(in, AccidentSchema.WIND_DIRECTION) ? null : readString(in, AccidentSchema.WIND_DIRECTION));
+      reuse.set_wind_speed_mph(isNull(in, AccidentSchema.WIND_SPEED_MPH) ? null : Double.valueOf(in.readDouble()));
+      reuse.set_precipitation_in(isNull(in, AccidentSchema.PRECIPITATION_IN) ? null : Double.valueOf(in.readDouble()));
+      reuse.set_weather_condition(isNull(in, AccidentSchema.WEATHER_CONDITION) ? null : readString(in, AccidentSchema.WEATHER_CONDITION));
+      reuse.set_amenity(isNull(in, AccidentSchema.AMENITY) ? null : Boolean.valueOf(in.readBoolean()));
+      reuse.set_bump(isNull(in, AccidentSchema.BUMP) ? null : Boolean.valueOf(in.readBoolean()));
+      reuse.set_crossing(isNull(in, AccidentSchema.CROSSING) ? null : Boolean.valueOf(in.readBoolean()));
+      reuse.set_give_way(isNull(in, AccidentSchema.GIVE_WAY) ? null : Boolean.valueOf(in.readBoolean()));
+      reuse.set_junction(isNull(in, AccidentSchema.JUNCTION) ? null : Boolean.valueOf(in.readBoolean()));
+      reuse.set_no_exit(isNull(in, AccidentSchema.NO_EXIT) ? null : Boolean.valueOf(in.readBoolean()));
+      reuse.set_railway(isNull(in, AccidentSchema.RAILWAY) ? null : Boolean.valueOf(in.readBoolean()));
+      reuse.set_roundabout(isNull(in, AccidentSchema.ROUNDABOUT) ? null : Boolean.valueOf(in.readBoolean()));
+      reuse.set_station(isNull(in, AccidentSchema.STATION) ? null : Boolean.valueOf(in.readBoolean()));
+      reuse.set_stop(isNull(in, AccidentSchema.STOP) ? null : Boolean.valueOf(in.readBoolean()));
+      reuse.set_traffic_calming(isNull(in, AccidentSchema.TRAFFIC_CALMING) ? null : Boolean.valueOf(in.readBoolean()));
+      reuse.set_traffic_signal(isNull(in, AccidentSchema.TRAFFIC_SIGNAL) ? null : Boolean.valueOf(in.readBoolean()));
+      reuse.set_turning_loop(isNull(in, AccidentSchema.TURNING_LOOP) ? null : Boolean.valueOf(in.readBoolean()));
+      reuse.set_sunrise_sunset(isNull(in, AccidentSchema.SUNRISE_SUNSET) ? null : readString(in, AccidentSchema.SUNRISE_SUNSET));
+      reuse.set_civil_twilight(isNull(in, AccidentSchema.CIVIL_TWILIGHT) ? null : readString(in, AccidentSchema.CIVIL_TWILIGHT));
+      reuse.set_nautical_twilight(isNull(in, AccidentSchema.NAUTICAL_TWILIGHT) ? null : readString(in, AccidentSchema.NAUTICAL_TWILIGHT));
+      reuse.set_astronomical_twilight(isNull(in, AccidentSchema.ASTRONOMICAL_TWILIGHT) ? null : readString(in, AccidentSchema.ASTRONOMICAL_TWILIGHT));
+      return reuse;
+    }
+
+    private boolean isNull(Decoder in, int field) throws IOException {
+      if (in.readIndex() == nullBranch[field]) {
+        in.readNull();
+        return true;
+      }
+      return false;
+    }
+
+    private String readString(Decoder in, int field) throws IOException {
+      scratch = in.readString(scratch);
+      return AccidentDictionary.canonical(field, scratch.toString());
+    }
+  }
+
+  /** Encodes us_accidents records in the layout of {@link #SCHEMA}. */
+  public static class Writer implements DatumWriter<us_accidents> {
+
+    private int[] nullBranch = nullBranches(SCHEMA);
+
+    @Override
+    public void setSchema(Schema schema) {
+      nullBranch = nullBranches(schema);
+    }
+
+    @Override
+    public void write(us_accidents datum, Encoder out) throws IOException {
+      if (writeBranch(out, AccidentSchema.ID, datum.get_id())) {
+        out.writeInt(datum.get_id());
+      }
+      if (writeBranch(out, AccidentSchema.ID_STR, datum.get_id_str())) {
+        out.writeString(datum.get_id_str());
+      }
+      if (writeBranch(out, AccidentSchema.SOURCE, datum.get_source())) {
+        out.writeString(datum.get_source());
+      }
+      if (writeBranch(out, AccidentSchema.SEVERITY, datum.get_severity())) {
+        out.writeInt(datum.get_severity());
+      }
+      if (writeBranch(out, AccidentSchema.START_TIME, datum.get_start_time())) {
+        out.writeLong(datum.get_start_time().getTime());
+      }
+      if (writeBranch(out, AccidentSchema.END_TIME, datum.get_end_time())) {
+        out.writeLong(datum.get_end_time().getTime());
+      }
+      if (writeBranch(out, AccidentSchema.START_LAT, datum.get_start_lat())) {
+        out.writeDouble(datum.get_start_lat());
+      }
+      if (writeBranch(out, AccidentSchema.START_LNG, datum.get_start_lng())) {
+        out.writeDouble(datum.get_start_lng());
+      }
+      if (writeBranch(out, AccidentSchema.END_LAT, datum.get_end_lat())) {
+        out.writeDouble(datum.get_end_lat());
+      }
+      if (writeBranch(out, AccidentSchema.END_LNG, datum.get_end_lng())) {
+        out.writeDouble(datum.get_end_lng());
+      }
+      if (writeBranch(out, AccidentSchema.DISTANCE_MI, datum.get_distance_mi())) {
+        out.writeDouble(datum.get_distance_mi());
+      }
+      if (writeBranch(out, AccidentSchema.DESCRIPTION, datum.get_description())) {
+        out.writeString(datum.get_description());
+      }
+      if (writeBranch(out, AccidentSchema.STREET, datum.get_street())) {
+        out.writeString(datum.get_street());
+      }
+      if (writeBranch(out, AccidentSchema.CITY, datum.get_city())) {
+        out.writeString(datum.get_city());
+      }
+      if (writeBranch(out, AccidentSchema.COUNTY, datum.get_county())) {
+        out.writeString(datum.get_county());
+      }
+      if (writeBranch(out, AccidentSchema.STATE, datum.get_state())) {
+        out.writeString(datum.get_state());
+      }
+      if (writeBranch(out, AccidentSchema.ZIPCODE, datum.get_zipcode())) {
+        out.writeString(datum.get_zipcode());
+      }
+      if (writeBranch(out, AccidentSchema.COUNTRY, datum.get_country())) {
+        out.writeString(datum.get_country());
+      }
+      if (writeBranch(out, AccidentSchema.TIMEZONE, datum.get_timezone())) {
+        out.writeString(datum.get_timezone());
+      }
+      if (writeBranch(out, AccidentSchema.AIRPORT_CODE, datum.get_airport_code())) {
+        out.writeString(datum.get_airport_code());
+      }
+      if (writeBranch(out, AccidentSchema.WEATHER_TIMESTAMP, datum.get_weather_timestamp())) {
+        out.writeLong(datum.get_weather_timestamp().getTime());
+      }
+      if (writeBranch(out, AccidentSchema.TEMPERATURE_F, datum.get_temperature_f())) {
+        out.writeDouble(datum.get_temperature_f());
+      }
+      if (writeBranch(out, AccidentSchema.WIND_CHILL_F, datum.get_wind_chill_f())) {
+        out.writeDouble(datum.get_wind_chill_f());
+      }
+      if (writeBranch(out, AccidentSchema.HUMIDITY_PERCENT, datum.get_humidity_percent())) {
+        out.writeDouble(datum.get_humidity_percent());
+      }
+      if (writeBranch(out, AccidentSchema.PRESSURE_IN, datum.get_pressure_in())) {
+        out.writeDouble(datum.get_pressure_in());
+      }
+      if (writeBranch(out, AccidentSchema.VISIBILITY_MI, datum.get_visibility_mi())) {
+        out.writeDouble(datum.get_visibility_mi());
+      }
+      if (writeBranch(out, AccidentSchema.WIND_DIRECTION, datum.get_wind_direction())) {
+        out.writeString(datum.get_wind_direction());
+      }
+      if (writeBranch(out, AccidentSchema.WIND_SPEED_MPH, datum.get_wind_speed_mph())) {
+        out.writeDouble(datum.get_wind_speed_mph());
+      }
+      if (writeBranch(out, AccidentSchema.PRECIPITATION_IN, datum.get_precipitation_in())) {
+        out.writeDouble(datum.get_precipitation_in());
+      }
+      if (writeBranch(out, AccidentSchema.WEATHER_CONDITION, datum.get_weather_condition())) {
+        out.writeString(datum.get_weather_condition());
+      }
+      if (writeBranch(out, AccidentSchema.AMENITY, datum.get_amenity())) {
+        out.writeBoolean(datum.get_amenity());
+      }
+      if (writeBranch(out, AccidentSchema.BUMP, datum.get_bump())) {
+        out.writeBoolean(datum.get_bump());
+      }
+      if (writeBranch(out, AccidentSchema.CROSSING, datum.get_crossing())) {
+        out.writeBoolean(datum.get_crossing());
+      }
+      if (writeBranch(out, AccidentSchema.GIVE_WAY, datum.get_give_way())) {
+        out.writeBoolean(datum.get_give_way());
+      }
+      if (writeBranch(out, AccidentSchema.JUNCTION, datum.get_junction())) {
+        out.writeBoolean(datum.get_junction());
+      }
+      if (writeBranch(out, AccidentSchema.NO_EXIT, datum.get_no_exit())) {
+        out.writeBoolean(datum.get_no_exit());
+      }
+      if (writeBranch(out, AccidentSchema.RAILWAY, datum.get_railway())) {
+        out.writeBoolean(datum.get_railway());
+      }
+      if (writeBranch(out, AccidentSchema.ROUNDABOUT, datum.get_roundabout())) {
+        out.writeBoolean(datum.get_roundabout());
+      }
+      if (writeBranch(out, AccidentSchema.STATION, datum.get_station())) {
+        out.writeBoolean(datum.get_station());
+      }
+      if (writeBranch(out, AccidentSchema.STOP, datum.get_stop())) {
+        out.writeBoolean(datum.get_stop());
+      }
+      if (writeBranch(out, AccidentSchema.TRAFFIC_CALMING, datum.get_traffic_calming())) {
+        out.writeBoolean(datum.get_traffic_calming());
+      }
+      if (writeBranch(out, AccidentSchema.TRAFFIC_SIGNAL, datum.get_traffic_signal())) {
+        out.writeBoolean(datum.get_traffic_signal());
+      }
+      if (writeBranch(out, AccidentSchema.TURNING_LOOP, datum.get_turning_loop())) {
+        out.writeBoolean(datum.get_turning_loop());
+      }
+      if (writeBranch(out, AccidentSchema.SUNRISE_SUNSET, datum.get_sunrise_sunset())) {
+        out.writeString(datum.get_sunrise_sunset());
+      }
+      if (writeBranch(out, AccidentSchema.CIVIL_TWILIGHT, datum.get_civil_twilight())) {
+        out.writeString(datum.get_civil_twilight());
+      }
+      if (writeBranch(out, AccidentSchema.NAUTICAL_TWILIGHT, datum.get_nautical_twilight())) {
+        out.writeString(datum.get_nautical_twilight());
+      }
+      if (writeBranch(out, AccidentSchema.ASTRONOMICAL_TWILIGHT, datum.get_astronomical_twilight())) {
+        out.writeString(datum.get_astronomical_twilight());
+      }
+    }
+
+    /** Writes the union branch of a column; returns true if a value follows. */
+    private boolean writeBranch(Encoder out, int field, Object value) throws IOException {
+      if (value == null) {
+        out.writeIndex(nullBranch[field]);
+        out.writeNull();
+        return false;
+      }
+      out.writeIndex(1 - nullBranch[field]);
+      return true;
+    }
+  }
+
+  /**
+   * Encodes {@link PrimitiveAccident} records in the layout of {@link #SCHEMA},
+   * byte for byte as {@link Writer} encodes the same us_accidents record, but
+   * from the primitive getters and the null bitset, so nothing is boxed.
+   */
+  public static class PrimitiveWriter implements DatumWriter<PrimitiveAccident> {
+
+    private int[] nullBranch = nullBranches(SCHEMA);
+
+    @Override
+    public void setSchema(Schema schema) {
+      nullBranch = nullBranches(schema);
+    }
+
+    @Override
+    public void write(PrimitiveAccident datum, Encoder out) throws IOException {
+      for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+        if (datum.isNull(f)) {
+          out.writeIndex(nullBranch[f]);
+          out.writeNull();
+          continue;
+        }
+        out.writeIndex(1 - nullBranch[f]);
+        switch (AccidentSchema.type(f)) {
+        case AccidentSchema.TYPE_INT:
+          out.writeInt(datum.getInt(f));
+          break;
+        case AccidentSchema.TYPE_STRING:
+          out.writeString(datum.getString(f));
+          break;
+        case AccidentSchema.TYPE_TIMESTAMP:
+          out.writeLong(Math.floorDiv(datum.getMicros(f), 1000L));
+          break;
+        case AccidentSchema.TYPE_DOUBLE:
+          out.writeDouble(datum.getDouble(f));
+          break;
+        default:
+          out.writeBoolean(datum.getBoolean(f));
+          break;
+        }
+      }
+    }
+  }
+}
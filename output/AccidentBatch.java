@@ -0,0 +1,407 @@
+import java.io.DataInput;
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.apache.sqoop.lib.RecordParser;
+
+/**
+ * Struct-of-arrays container for up to {@link #capacity()} us_accidents rows.
+ * <p>
+ * Every column lives in its own primitive array indexed by row: ints in
+ * {@code int[]}, doubles in {@code double[]}, timestamps as epoch micros in
+ * {@code long[]} and the road-feature booleans as one {@code short[]} of
+ * {@code us_accidents.ROAD_*} masks. Columns known to
+ * {@link AccidentDictionary} are held as {@code int[]} codes; the rare value
+ * outside the dictionary has code 0 and is kept in a side {@code String[]}.
+ * Nulls are one bitset ({@code long[]}) per column. Aggregations can then
+ * run as plain loops over {@code severity()}, {@code startLat()} and so on.
+ * <p>
+ * Batches are meant to be refilled: {@link #clear()} keeps the arrays.
+ */
+public class AccidentBatch {
+
+  public static final int DEFAULT_CAPACITY = 4096;
+
+  private static final int KIND_INT = 0;
+  private static final int KIND_DOUBLE = 1;
+  private static final int KIND_MICROS = 2;
+  private static final int KIND_CODE = 3;
+  private static final int KIND_STRING = 4;
+  private static final int KIND_ROAD = 5;
+
+  private static final int[] KIND = new int[AccidentSchema.FIELD_COUNT];
+  private static final int[] SLOT = new int[AccidentSchema.FIELD_COUNT];
+  private static final int[] SLOT_COUNT = new int[KIND_ROAD + 1];
+
+  static {
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      int kind;
+      switch (AccidentSchema.type(f)) {
+      case AccidentSchema.TYPE_INT:
+        kind = KIND_INT;
+        break;
+      case AccidentSchema.TYPE_DOUBLE:
+        kind = KIND_DOUBLE;
+        break;
+      case AccidentSchema.TYPE_TIMESTAMP:
+        kind = KIND_MICROS;
+        break;
+      case AccidentSchema.TYPE_STRING:
+        kind = AccidentDictionary.isEncoded(f) ? KIND_CODE : KIND_STRING;
+        break;
+      default:
+        kind = KIND_ROAD;
+        break;
+      }
+      KIND[f] = kind;
+      SLOT[f] = kind == KIND_ROAD ? 0 : SLOT_COUNT[kind]++;
+    }
+  }
+
+  private final int capacity;
+  private int size;
+
+  private final int[][] ints;
+  private final double[][] doubles;
+  private final long[][] micros;
+  private final int[][] codes;
+  private final String[][] codeOverflow;
+  private final String[][] strings;
+  private final short[] roadFeatures;
+  private final long[][] nulls;
+
+  private PrimitiveAccident scratch;
+  private AccidentTextParser textParser;
+
+  public AccidentBatch() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public AccidentBatch(int capacity) {
+    this.capacity = capacity;
+    ints = new int[SLOT_COUNT[KIND_INT]][capacity];
+    doubles = new double[SLOT_COUNT[KIND_DOUBLE]][capacity];
+    micros = new long[SLOT_COUNT[KIND_MICROS]][capacity];
+    codes = new int[SLOT_COUNT[KIND_CODE]][capacity];
+    codeOverflow = new String[SLOT_COUNT[KIND_CODE]][];
+    strings = new String[SLOT_COUNT[KIND_STRING]][capacity];
+    roadFeatures = new short[capacity];
+    nulls = new long[AccidentSchema.FIELD_COUNT][(capacity + 63) >>> 6];
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isFull() {
+    return size == capacity;
+  }
+
+  public void clear() {
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      Arrays.fill(nulls[f], 0L);
+    }
+    for (String[] column : strings) {
+      Arrays.fill(column, 0, size, null);
+    }
+    for (String[] overflow : codeOverflow) {
+      if (overflow != null) {
+        Arrays.fill(overflow, 0, size, null);
+      }
+    }
+    size = 0;
+  }
+
+  public int[] intColumn(int field) {
+    return ints[slot(field, KIND_INT)];
+  }
+
+  public double[] doubleColumn(int field) {
+    return doubles[slot(field, KIND_DOUBLE)];
+  }
+
+  /** Timestamp column as epoch microseconds. */
+  public long[] microsColumn(int field) {
+    return micros[slot(field, KIND_MICROS)];
+  }
+
+  /** {@link AccidentDictionary} codes of a dictionary column; 0 means see {@link #getString}. */
+  public int[] codeColumn(int field) {
+    return codes[slot(field, KIND_CODE)];
+  }
+
+  /** Values of a string column that has no dictionary. */
+  public String[] stringColumn(int field) {
+    return strings[slot(field, KIND_STRING)];
+  }
+
+  /** Road-feature masks, one {@code us_accidents.ROAD_*} bit per column. */
+  public short[] roadFeatures() {
+    return roadFeatures;
+  }
+
+  /** Null bitset of a column: bit {@code row} is set when the value is null. */
+  public long[] nullBits(int field) {
+    return nulls[field];
+  }
+
+  public boolean isNull(int field, int row) {
+    return (nulls[field][row >>> 6] & (1L << row)) != 0;
+  }
+
+  public int[] id() {
+    return intColumn(AccidentSchema.ID);
+  }
+
+  public int[] severity() {
+    return intColumn(AccidentSchema.SEVERITY);
+  }
+
+  public long[] startTime() {
+    return microsColumn(AccidentSchema.START_TIME);
+  }
+
+  public long[] endTime() {
+    return microsColumn(AccidentSchema.END_TIME);
+  }
+
+  public double[] startLat() {
+    return doubleColumn(AccidentSchema.START_LAT);
+  }
+
+  public double[] startLng() {
+    return doubleColumn(AccidentSchema.START_LNG);
+  }
+
+  public int[] state() {
+    return codeColumn(AccidentSchema.STATE);
+  }
+
+  /** Returns any string column of a row, resolving dictionary codes. */
+  public String getString(int field, int row) throws IOException {
+    if (isNull(field, row)) {
+      return null;
+    }
+    if (KIND[field] == KIND_CODE) {
+      int slot = SLOT[field];
+      int code = codes[slot][row];
+      return code == 0 ? codeOverflow[slot][row] : AccidentDictionary.decode(field, code);
+    }
+    return strings[slot(field, KIND_STRING)][row];
+  }
+
+  private static int slot(int field, int kind) {
+    if (KIND[field] != kind) {
+      throw new IllegalArgumentException("Column " + AccidentSchema.name(field)
+          + " is not stored that way in a batch");
+    }
+    return SLOT[field];
+  }
+
+  /** Appends one row; returns false if the batch is full. */
+  public boolean add(PrimitiveAccident record) {
+    if (size == capacity) {
+      return false;
+    }
+    int row = size;
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      int kind = KIND[f];
+      if (kind == KIND_ROAD) {
+        continue;
+      }
+      if (record.isNull(f)) {
+        nulls[f][row >>> 6] |= 1L << row;
+        continue;
+      }
+      int slot = SLOT[f];
+      switch (kind) {
+      case KIND_INT:
+        ints[slot][row] = record.getInt(f);
+        break;
+      case KIND_DOUBLE:
+        doubles[slot][row] = record.getDouble(f);
+        break;
+      case KIND_MICROS:
+        micros[slot][row] = record.getMicros(f);
+        break;
+      case KIND_CODE:
+        setCode(f, slot, row, record.getString(f));
+        break;
+      default:
+        strings[slot][row] = record.getString(f);
+        break;
+      }
+    }
+    roadFeatures[row] = record.getRoadFeatures();
+    for (int f = AccidentSchema.AMENITY; f <= AccidentSchema.TURNING_LOOP; f++) {
+      if (record.isNull(f)) {
+        nulls[f][row >>> 6] |= 1L << row;
+      }
+    }
+    size++;
+    return true;
+  }
+
+  private void setCode(int field, int slot, int row, String value) {
+    int code = AccidentDictionary.encode(field, value);
+    codes[slot][row] = code;
+    if (code == 0) {
+      if (codeOverflow[slot] == null) {
+        codeOverflow[slot] = new String[capacity];
+      }
+      codeOverflow[slot][row] = value;
+    }
+  }
+
+  /** Appends one boxed record; returns false if the batch is full. */
+  public boolean add(us_accidents record) {
+    PrimitiveAccident row = scratch();
+    row.copyFrom(record);
+    return add(row);
+  }
+
+  /** Copies a row back into a reusable record. */
+  public void get(int row, PrimitiveAccident target) throws IOException {
+    if (row >= size) {
+      throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+    }
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      if (isNull(f, row)) {
+        target.setNull(f);
+        continue;
+      }
+      switch (KIND[f]) {
+      case KIND_INT:
+        target.setInt(f, ints[SLOT[f]][row]);
+        break;
+      case KIND_DOUBLE:
+        target.setDouble(f, doubles[SLOT[f]][row]);
+        break;
+      case KIND_MICROS:
+        target.setMicros(f, micros[SLOT[f]][row]);
+        break;
+      case KIND_ROAD:
+        target.setBoolean(f, (roadFeatures[row] & (1 << (f - AccidentSchema.AMENITY))) != 0);
+        break;
+      default:
+        target.setString(f, getString(f, row));
+        break;
+      }
+    }
+  }
+
+  /**
+   * Reads up to {@code rows} binary records (as written by
+   * {@code us_accidents.write(DataOutput)}) and returns how many were added.
+   */
+  public int readFields(DataInput in, int rows) throws IOException {
+    PrimitiveAccident row = scratch();
+    int added = 0;
+    while (added < rows && size < capacity) {
+      row.readFields(in);
+      add(row);
+      added++;
+    }
+    return added;
+  }
+
+  /**
+   * Parses comma-delimited text lines, as {@code us_accidents.parse} does,
+   * until the batch is full. A line is only taken from {@code lines} when
+   * there is room for it, so the caller can clear the batch and continue
+   * with the same iterator.
+   */
+  public int parse(Iterator<? extends CharSequence> lines) throws RecordParser.ParseError {
+    AccidentTextParser parser = textParser();
+    PrimitiveAccident row = scratch();
+    int added = 0;
+    while (size < capacity && lines.hasNext()) {
+      CharSequence line = lines.next();
+      if (line == null) {
+        throw new RecordParser.ParseError("null input string");
+      }
+      parser.split(line);
+      parser.load(row, AccidentSchema.ALL_FIELDS);
+      add(row);
+      added++;
+    }
+    return added;
+  }
+
+  /**
+   * Fills the batch from the current position of a result set whose columns
+   * follow the us_accidents table order. Returns the number of rows added;
+   * fewer than the free space means the result set is exhausted.
+   * <p>
+   * Cells go straight from the primitive getters into the column arrays and
+   * {@code wasNull} into the null bitsets, without a record in between.
+   */
+  public int readFields(ResultSet results) throws SQLException {
+    int added = 0;
+    while (size < capacity && results.next()) {
+      int row = size;
+      short roads = 0;
+      for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+        int column = f + 1;
+        int slot = SLOT[f];
+        switch (KIND[f]) {
+        case KIND_INT:
+          ints[slot][row] = results.getInt(column);
+          break;
+        case KIND_DOUBLE:
+          doubles[slot][row] = results.getDouble(column);
+          break;
+        case KIND_MICROS:
+          Timestamp ts = results.getTimestamp(column);
+          if (ts != null) {
+            micros[slot][row] = PrimitiveAccident.toMicros(ts);
+          }
+          break;
+        case KIND_CODE:
+          String value = results.getString(column);
+          if (value != null) {
+            setCode(f, slot, row, value);
+          }
+          break;
+        case KIND_STRING:
+          strings[slot][row] = results.getString(column);
+          break;
+        default:
+          if (results.getBoolean(column)) {
+            roads |= 1 << (f - AccidentSchema.AMENITY);
+          }
+          break;
+        }
+        if (results.wasNull()) {
+          nulls[f][row >>> 6] |= 1L << row;
+        }
+      }
+      roadFeatures[row] = roads;
+      size++;
+      added++;
+    }
+    return added;
+  }
+
+  private PrimitiveAccident scratch() {
+    if (scratch == null) {
+      scratch = new PrimitiveAccident();
+    }
+    return scratch;
+  }
+
+  private AccidentTextParser textParser() {
+    if (textParser == null) {
+      textParser = new AccidentTextParser();
+    }
+    return textParser;
+  }
+}
@@ -0,0 +1,584 @@
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+/**
+ * Off-heap, memory-mapped column store for us_accidents.
+ * <p>
+ * Each column is persisted to its own file in a store directory: fixed-width
+ * values in {@code <column>.col} (ints, doubles, epoch-micros timestamps and
+ * {@link AccidentDictionary} codes), a null bitset in {@code <column>.nulls},
+ * and for strings an offsets/bytes pair in {@code <column>.off} and
+ * {@code <column>.dat}. The road-feature booleans share one
+ * {@code road_features.col} of {@code us_accidents.ROAD_*} masks.
+ * {@link #open(File)} maps these files read-only, so reopening a store after
+ * a restart costs a handful of mmap calls rather than a re-parse, and the
+ * data never lives on the Java heap.
+ * <p>
+ * Stores are written once through {@link #create(File)}. Each file is mapped
+ * as a single buffer, which limits a column file to 2 GB.
+ */
+public class AccidentColumnStore implements Closeable {
+
+  private static final int MAGIC = 0x41435354;
+  private static final int FORMAT_VERSION = 1;
+  private static final String META_FILE = "store.meta";
+  private static final String ROAD_FILE = "road_features.col";
+
+  private final int rows;
+  private final ByteBuffer[] values = new ByteBuffer[AccidentSchema.FIELD_COUNT];
+  private final ByteBuffer[] nullBits = new ByteBuffer[AccidentSchema.FIELD_COUNT];
+  private final ByteBuffer[] stringOffsets = new ByteBuffer[AccidentSchema.FIELD_COUNT];
+  private final ByteBuffer[] stringData = new ByteBuffer[AccidentSchema.FIELD_COUNT];
+  private ByteBuffer roadFeatures;
+
+  private AccidentColumnStore(File dir) throws IOException {
+    DataInputStream meta = new DataInputStream(new FileInputStream(new File(dir, META_FILE)));
+    try {
+      if (meta.readInt() != MAGIC) {
+        throw new IOException(dir + " is not an accident column store");
+      }
+      int version = meta.readInt();
+      if (version != FORMAT_VERSION) {
+        throw new IOException("Unsupported column store version " + version);
+      }
+      AccidentDictionary.checkVersion(meta.readInt());
+      rows = meta.readInt();
+    } finally {
+      meta.close();
+    }
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      String name = AccidentSchema.name(f);
+      nullBits[f] = map(new File(dir, name + ".nulls"));
+      int type = AccidentSchema.type(f);
+      if (type == AccidentSchema.TYPE_BOOLEAN) {
+        continue;
+      }
+      if (type != AccidentSchema.TYPE_STRING || AccidentDictionary.isEncoded(f)) {
+        values[f] = map(new File(dir, name + ".col"));
+      }
+      if (type == AccidentSchema.TYPE_STRING) {
+        stringOffsets[f] = map(new File(dir, name + ".off"));
+        stringData[f] = map(new File(dir, name + ".dat"));
+      }
+    }
+    roadFeatures = map(new File(dir, ROAD_FILE));
+  }
+
+  /** Maps an existing store directory. */
+  public static AccidentColumnStore open(File dir) throws IOException {
+    return new AccidentColumnStore(dir);
+  }
+
+  /** Starts writing a new store into {@code dir}, replacing any files there. */
+  public static Writer create(File dir) throws IOException {
+    return new Writer(dir);
+  }
+
+  private static ByteBuffer map(File file) throws IOException {
+    RandomAccessFile raf = new RandomAccessFile(file, "r");
+    try {
+      FileChannel channel = raf.getChannel();
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException(file + " is larger than 2 GB");
+      }
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } finally {
+      // The mapping stays valid after the channel is closed.
+      raf.close();
+    }
+  }
+
+  public int rows() {
+    return rows;
+  }
+
+  public boolean isNull(int field, int row) {
+    return (nullBits[field].getLong((row >>> 6) << 3) & (1L << row)) != 0;
+  }
+
+  public int getInt(int field, int row) {
+    return values[field].getInt(row << 2);
+  }
+
+  public double getDouble(int field, int row) {
+    return values[field].getDouble(row << 3);
+  }
+
+  /** Timestamp column as epoch microseconds. */
+  public long getMicros(int field, int row) {
+    return values[field].getLong(row << 3);
+  }
+
+  public boolean getBoolean(int field, int row) {
+    return (roadFeatures.getShort(row << 1) & (1 << (field - AccidentSchema.AMENITY))) != 0;
+  }
+
+  public short getRoadFeatures(int row) {
+    return roadFeatures.getShort(row << 1);
+  }
+
+  /** {@link AccidentDictionary} code of a dictionary column, 0 for literals. */
+  public int getCode(int field, int row) {
+    return values[field].getInt(row << 2);
+  }
+
+  public String getString(int field, int row) {
+    if (isNull(field, row)) {
+      return null;
+    }
+    if (values[field] != null) {
+      int code = values[field].getInt(row << 2);
+      if (code != 0) {
+        try {
+          return AccidentDictionary.decode(field, code);
+        } catch (IOException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    }
+    int start = stringOffsets[field].getInt(row << 2);
+    int end = stringOffsets[field].getInt((row + 1) << 2);
+    byte[] bytes = new byte[end - start];
+    stringData[field].get(start, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /** Copies one row into a reusable record. */
+  public void get(int row, PrimitiveAccident target) {
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      if (isNull(f, row)) {
+        target.setNull(f);
+        continue;
+      }
+      switch (AccidentSchema.type(f)) {
+      case AccidentSchema.TYPE_INT:
+        target.setInt(f, getInt(f, row));
+        break;
+      case AccidentSchema.TYPE_DOUBLE:
+        target.setDouble(f, getDouble(f, row));
+        break;
+      case AccidentSchema.TYPE_TIMESTAMP:
+        target.setMicros(f, getMicros(f, row));
+        break;
+      case AccidentSchema.TYPE_BOOLEAN:
+        target.setBoolean(f, getBoolean(f, row));
+        break;
+      default:
+        target.setString(f, getString(f, row));
+        break;
+      }
+    }
+  }
+
+  public Integer get_id(int row) {
+    return isNull(AccidentSchema.ID, row) ? null : Integer.valueOf(getInt(AccidentSchema.ID, row));
+  }
+
+  public String get_id_str(int row) {
+    return getString(AccidentSchema.ID_STR, row);
+  }
+
+  public String get_source(int row) {
+    return getString(AccidentSchema.SOURCE, row);
+  }
+
+  public Integer get_severity(int row) {
+    return isNull(AccidentSchema.SEVERITY, row) ? null : Integer.valueOf(getInt(AccidentSchema.SEVERITY, row));
+  }
+
+  public Timestamp get_start_time(int row) {
+    return isNull(AccidentSchema.START_TIME, row) ? null : PrimitiveAccident.toTimestamp(getMicros(AccidentSchema.START_TIME, row));
+  }
+
+  public Timestamp get_end_time(int row) {
+    return isNull(AccidentSchema.END_TIME, row) ? null : PrimitiveAccident.toTimestamp(getMicros(AccidentSchema.END_TIME, row));
+  }
+
+  public Double get_start_lat(int row) {
+    return isNull(AccidentSchema.START_LAT, row) ? null : Double.valueOf(getDouble(AccidentSchema.START_LAT, row));
+  }
+
+  public Double get_start_lng(int row) {
+    return isNull(AccidentSchema.START_LNG, row) ? null : Double.valueOf(getDouble(AccidentSchema.START_LNG, row));
+  }
+
+  public Double get_end_lat(int row) {
+    return isNull(AccidentSchema.END_LAT, row) ? null : Double.valueOf(getDouble(AccidentSchema.END_LAT, row));
+  }
+
+  public Double get_end_lng(int row) {
+    return isNull(AccidentSchema.END_LNG, row) ? null : Double.valueOf(getDouble(AccidentSchema.END_LNG, row));
+  }
+
+  public Double get_distance_mi(int row) {
+    return isNull(AccidentSchema.DISTANCE_MI, row) ? null : Double.valueOf(getDouble(AccidentSchema.DISTANCE_MI, row));
+  }
+
+  public String get_description(int row) {
+    return getString(AccidentSchema.DESCRIPTION, row);
+  }
+
+  public String get_street(int row) {
+    return getString(AccidentSchema.STREET, row);
+  }
+
+  public String get_city(int row) {
+    return getString(AccidentSchema.CITY, row);
+  }
+
+  public String get_county(int row) {
+    return getString(AccidentSchema.COUNTY, row);
+  }
+
+  public String get_state(int row) {
+    return getString(AccidentSchema.STATE, row);
+  }
+
+  public String get_zipcode(int row) {
+    return getString(AccidentSchema.ZIPCODE, row);
+  }
+
+  public String get_country(int row) {
+    return getString(AccidentSchema.COUNTRY, row);
+  }
+
+  public String get_timezone(int row) {
+    return getString(AccidentSchema.TIMEZONE, row);
+  }
+
+  public String get_airport_code(int row) {
+    return getString(AccidentSchema.AIRPORT_CODE, row);
+  }
+
+  public Timestamp get_weather_timestamp(int row) {
+    return isNull(AccidentSchema.WEATHER_TIMESTAMP, row) ? null : PrimitiveAccident.toTimestamp(getMicros(AccidentSchema.WEATHER_TIMESTAMP, row));
+  }
+
+  public Double get_temperature_f(int row) {
+    return isNull(AccidentSchema.TEMPERATURE_F, row) ? null : Double.valueOf(getDouble(AccidentSchema.TEMPERATURE_F, row));
+  }
+
+  public Double get_wind_chill_f(int row) {
+    return isNull(AccidentSchema.WIND_CHILL_F, row) ? null : Double.valueOf(getDouble(AccidentSchema.WIND_CHILL_F, row));
+  }
+
+  public Double get_humidity_percent(int row) {
+    return isNull(AccidentSchema.HUMIDITY_PERCENT, row) ? null : Double.valueOf(getDouble(AccidentSchema.HUMIDITY_PERCENT, row));
+  }
+
+  public Double get_pressure_in(int row) {
+    return isNull(AccidentSchema.PRESSURE_IN, row) ? null : Double.valueOf(getDouble(AccidentSchema.PRESSURE_IN, row));
+  }
+
+  public Double get_visibility_mi(int row) {
+    return isNull(AccidentSchema.VISIBILITY_MI, row) ? null : Double.valueOf(getDouble(AccidentSchema.VISIBILITY_MI, row));
+  }
+
+  public String get_wind_direction(int row) {
+    return getString(AccidentSchema.WIND_DIRECTION, row);
+  }
+
+  public Double get_wind_speed_mph(int row) {
+    return isNull(AccidentSchema.WIND_SPEED_MPH, row) ? null : Double.valueOf(getDouble(AccidentSchema.WIND_SPEED_MPH, row));
+  }
+
+  public Double get_precipitation_in(int row) {
+    return isNull(AccidentSchema.PRECIPITATION_IN, row) ? null : Double.valueOf(getDouble(AccidentSchema.PRECIPITATION_IN, row));
+  }
+
+  public String get_weather_condition(int row) {
+    return getString(AccidentSchema.WEATHER_CONDITION, row);
+  }
+
+  public Boolean get_amenity(int row) {
+    return isNull(AccidentSchema.AMENITY, row) ? null : Boolean.valueOf(getBoolean(AccidentSchema.AMENITY, row));
+  }
+
+  public Boolean get_bump(int row) {
+    return isNull(AccidentSchema.BUMP, row) ? null : Boolean.valueOf(getBoolean(AccidentSchema.BUMP, row));
+  }
+
+  public Boolean get_crossing(int row) {
+    return isNull(AccidentSchema.CROSSING, row) ? null : Boolean.valueOf(getBoolean(AccidentSchema.CROSSING, row));
+  }
+
+  public Boolean get_give_way(int row) {
+    return isNull(AccidentSchema.GIVE_WAY, row) ? null : Boolean.valueOf(getBoolean(AccidentSchema.GIVE_WAY, row));
+  }
+
+  public Boolean get_junction(int row) {
+    return isNull(AccidentSchema.JUNCTION, row) ? null : Boolean.valueOf(getBoolean(AccidentSchema.JUNCTION, row));
+  }
+
+  public Boolean get_no_exit(int row) {
+    return isNull(AccidentSchema.NO_EXIT, row) ? null : Boolean.valueOf(getBoolean(AccidentSchema.NO_EXIT, row));
+  }
+
+  public Boolean get_railway(int row) {
+    return isNull(AccidentSchema.RAILWAY, row) ? null : Boolean.valueOf(getBoolean(AccidentSchema.RAILWAY, row));
+  }
+
+  public Boolean get_roundabout(int row) {
+    return isNull(AccidentSchema.ROUNDABOUT, row) ? null : Boolean.valueOf(getBoolean(AccidentSchema.ROUNDABOUT, row));
+  }
+
+  public Boolean get_station(int row) {
+    return isNull(AccidentSchema.STATION, row) ? null : Boolean.valueOf(getBoolean(AccidentSchema.STATION, row));
+  }
+
+  public Boolean get_stop(int row) {
+    return isNull(AccidentSchema.STOP, row) ? null : Boolean.valueOf(getBoolean(AccidentSchema.STOP, row));
+  }
+
+  public Boolean get_traffic_calming(int row) {
+    return isNull(AccidentSchema.TRAFFIC_CALMING, row) ? null : Boolean.valueOf(getBoolean(AccidentSchema.TRAFFIC_CALMING, row));
+  }
+
+  public Boolean get_traffic_signal(int row) {
+    return isNull(AccidentSchema.TRAFFIC_SIGNAL, row) ? null : Boolean.valueOf(getBoolean(AccidentSchema.TRAFFIC_SIGNAL, row));
+  }
+
+  public Boolean get_turning_loop(int row) {
+    return isNull(AccidentSchema.TURNING_LOOP, row) ? null : Boolean.valueOf(getBoolean(AccidentSchema.TURNING_LOOP, row));
+  }
+
+  public String get_sunrise_sunset(int row) {
+    return getString(AccidentSchema.SUNRISE_SUNSET, row);
+  }
+
+  public String get_civil_twilight(int row) {
+    return getString(AccidentSchema.CIVIL_TWILIGHT, row);
+  }
+
+  public String get_nautical_twilight(int row) {
+    return getString(AccidentSchema.NAUTICAL_TWILIGHT, row);
+  }
+
+  public String get_astronomical_twilight(int row) {
+    return getString(AccidentSchema.ASTRONOMICAL_TWILIGHT, row);
+  }
+
+  /**
+   * Drops this store's references to its mappings, which are unmapped once
+   * nothing else refers to them. The store must not be read afterwards.
+   */
+  @Override
+  public void close() {
+    Arrays.fill(values, null);
+    Arrays.fill(nullBits, null);
+    Arrays.fill(stringOffsets, null);
+    Arrays.fill(stringData, null);
+    roadFeatures = null;
+  }
+
+  /** Appends rows column by column and writes the store metadata on close. */
+  public static class Writer implements Closeable {
+
+    private final File dir;
+    private final DataOutputStream[] values = new DataOutputStream[AccidentSchema.FIELD_COUNT];
+    private final DataOutputStream[] nullBits = new DataOutputStream[AccidentSchema.FIELD_COUNT];
+    private final DataOutputStream[] stringOffsets = new DataOutputStream[AccidentSchema.FIELD_COUNT];
+    private final DataOutputStream[] stringData = new DataOutputStream[AccidentSchema.FIELD_COUNT];
+    private final int[] stringSizes = new int[AccidentSchema.FIELD_COUNT];
+    private final long[] pendingNulls = new long[AccidentSchema.FIELD_COUNT];
+    private final DataOutputStream roadFeatures;
+    private int rows;
+
+    private Writer(File dir) throws IOException {
+      if (!dir.isDirectory() && !dir.mkdirs()) {
+        throw new IOException("Cannot create " + dir);
+      }
+      this.dir = dir;
+      for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+        String name = AccidentSchema.name(f);
+        nullBits[f] = stream(name + ".nulls");
+        int type = AccidentSchema.type(f);
+        if (type == AccidentSchema.TYPE_BOOLEAN) {
+          continue;
+        }
+        if (type != AccidentSchema.TYPE_STRING || AccidentDictionary.isEncoded(f)) {
+          values[f] = stream(name + ".col");
+        }
+        if (type == AccidentSchema.TYPE_STRING) {
+          stringOffsets[f] = stream(name + ".off");
+          stringData[f] = stream(name + ".dat");
+          stringOffsets[f].writeInt(0);
+        }
+      }
+      roadFeatures = stream(ROAD_FILE);
+    }
+
+    private DataOutputStream stream(String file) throws IOException {
+      return new DataOutputStream(new BufferedOutputStream(
+          new FileOutputStream(new File(dir, file)), 1 << 16));
+    }
+
+    public void append(PrimitiveAccident record) throws IOException {
+      for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+        boolean isNull = record.isNull(f);
+        if (isNull) {
+          pendingNulls[f] |= 1L << rows;
+        }
+        switch (AccidentSchema.type(f)) {
+        case AccidentSchema.TYPE_INT:
+          values[f].writeInt(isNull ? 0 : record.getInt(f));
+          break;
+        case AccidentSchema.TYPE_DOUBLE:
+          values[f].writeDouble(isNull ? 0.0 : record.getDouble(f));
+          break;
+        case AccidentSchema.TYPE_TIMESTAMP:
+          values[f].writeLong(isNull ? 0L : record.getMicros(f));
+          break;
+        case AccidentSchema.TYPE_BOOLEAN:
+          break;
+        default:
+          writeString(f, record.getString(f));
+          break;
+        }
+      }
+      roadFeatures.writeShort(record.getRoadFeatures());
+      endRow();
+    }
+
+    /** Appends every row of a batch, one column at a time. */
+    public void append(AccidentBatch batch) throws IOException {
+      int n = batch.size();
+      for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+        switch (AccidentSchema.type(f)) {
+        case AccidentSchema.TYPE_INT:
+          int[] ints = batch.intColumn(f);
+          for (int row = 0; row < n; row++) {
+            values[f].writeInt(batch.isNull(f, row) ? 0 : ints[row]);
+          }
+          break;
+        case AccidentSchema.TYPE_DOUBLE:
+          double[] doubles = batch.doubleColumn(f);
+          for (int row = 0; row < n; row++) {
+            values[f].writeDouble(batch.isNull(f, row) ? 0.0 : doubles[row]);
+          }
+          break;
+        case AccidentSchema.TYPE_TIMESTAMP:
+          long[] micros = batch.microsColumn(f);
+          for (int row = 0; row < n; row++) {
+            values[f].writeLong(batch.isNull(f, row) ? 0L : micros[row]);
+          }
+          break;
+        case AccidentSchema.TYPE_BOOLEAN:
+          break;
+        default:
+          for (int row = 0; row < n; row++) {
+            writeString(f, batch.getString(f, row));
+          }
+          break;
+        }
+      }
+      short[] masks = batch.roadFeatures();
+      for (int row = 0; row < n; row++) {
+        roadFeatures.writeShort(masks[row]);
+        for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+          if (batch.isNull(f, row)) {
+            pendingNulls[f] |= 1L << rows;
+          }
+        }
+        endRow();
+      }
+    }
+
+    private void writeString(int field, String value) throws IOException {
+      if (values[field] != null) {
+        int code = value == null ? 0 : AccidentDictionary.encode(field, value);
+        values[field].writeInt(code);
+        if (code != 0) {
+          value = null;
+        }
+      }
+      if (value != null) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if ((long) stringSizes[field] + bytes.length > Integer.MAX_VALUE) {
+          throw new IOException("Column " + AccidentSchema.name(field) + " exceeds 2 GB");
+        }
+        stringData[field].write(bytes);
+        stringSizes[field] += bytes.length;
+      }
+      stringOffsets[field].writeInt(stringSizes[field]);
+    }
+
+    private void endRow() throws IOException {
+      rows++;
+      if ((rows & 63) == 0) {
+        flushNulls();
+      }
+    }
+
+    private void flushNulls() throws IOException {
+      for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+        nullBits[f].writeLong(pendingNulls[f]);
+        pendingNulls[f] = 0L;
+      }
+    }
+
+    /**
+     * Closes every column file, even when some fail, and then writes the
+     * metadata. After a failure the first exception is thrown, with later
+     * ones suppressed, and no metadata is written, so {@link #open} rejects
+     * the incomplete store.
+     */
+    @Override
+    public void close() throws IOException {
+      IOException failure = null;
+      if ((rows & 63) != 0) {
+        try {
+          flushNulls();
+        } catch (IOException e) {
+          failure = e;
+        }
+      }
+      for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+        failure = close(values[f], failure);
+        failure = close(nullBits[f], failure);
+        failure = close(stringOffsets[f], failure);
+        failure = close(stringData[f], failure);
+      }
+      failure = close(roadFeatures, failure);
+      if (failure != null) {
+        throw failure;
+      }
+      DataOutputStream meta = stream(META_FILE);
+      try {
+        meta.writeInt(MAGIC);
+        meta.writeInt(FORMAT_VERSION);
+        meta.writeInt(AccidentDictionary.VERSION);
+        meta.writeInt(rows);
+      } finally {
+        meta.close();
+      }
+    }
+
+    /** Closes {@code stream} and returns the first failure seen so far, adding later ones to it. */
+    private static IOException close(Closeable stream, IOException failure) {
+      if (stream != null) {
+        try {
+          stream.close();
+        } catch (IOException e) {
+          if (failure == null) {
+            return e;
+          }
+          failure.addSuppressed(e);
+        }
+      }
+      return failure;
+    }
+  }
+}
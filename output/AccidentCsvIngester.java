@@ -0,0 +1,327 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Parallel loader for the accidents CSV export (the files
+ * {@code build_projectdb.py} feeds to {@code COPY ... CSV HEADER}).
+ * <p>
+ * The file is memory-mapped and cut into chunks of roughly
+ * {@link #setChunkSize(int) chunk size} bytes that each start at the
+ * beginning of a record. A newline only ends a record outside quotes, so
+ * every region is first scanned in parallel for its quote count and for
+ * its first newline at even and at odd quote parity. A prefix sum of the
+ * counts then tells which of the two is the real record boundary, with no
+ * serial pass over the data. Chunks are parsed with
+ * {@link AccidentTextParser#csv()} on a fork-join pool into
+ * {@link AccidentBatch}es.
+ * <p>
+ * With {@link #setOrdered(boolean) ordered} delivery (the default), the
+ * sink sees batches on the calling thread in file order, and at most a few
+ * chunks per worker are in flight. Without it, workers hand their batches
+ * to the sink as soon as they are full, so the sink must be thread-safe.
+ * Either way a batch is recycled once {@code accept} returns.
+ */
+public class AccidentCsvIngester {
+
+  public static final int DEFAULT_CHUNK_SIZE = 8 << 20;
+
+  /** Receives parsed batches; a batch must not be kept after {@code accept} returns. */
+  public interface BatchSink {
+    void accept(AccidentBatch batch) throws IOException;
+  }
+
+  private final ForkJoinPool pool;
+  private final ConcurrentLinkedQueue<AccidentBatch> freeBatches =
+      new ConcurrentLinkedQueue<AccidentBatch>();
+  private int chunkSize = DEFAULT_CHUNK_SIZE;
+  private int batchCapacity = AccidentBatch.DEFAULT_CAPACITY;
+  private boolean ordered = true;
+  private boolean header = true;
+  private AccidentParseErrors parseErrors;
+
+  public AccidentCsvIngester() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  public AccidentCsvIngester(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  public void setChunkSize(int chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
+  public void setBatchCapacity(int batchCapacity) {
+    this.batchCapacity = batchCapacity;
+    freeBatches.clear();
+  }
+
+  /** Whether batches reach the sink in file order, on the calling thread. */
+  public void setOrdered(boolean ordered) {
+    this.ordered = ordered;
+  }
+
+  /** Whether the first line is a header to skip. */
+  public void setHeader(boolean header) {
+    this.header = header;
+  }
+
+  /**
+   * Makes bad values and malformed records count against {@code errors}
+   * rather than fail the ingest; null restores failing fast.
+   */
+  public void setParseErrors(AccidentParseErrors errors) {
+    this.parseErrors = errors;
+  }
+
+  /** Parses the whole file into the sink and returns the number of rows. */
+  public long ingest(File csv, final BatchSink sink) throws IOException {
+    final FileChannel channel = FileChannel.open(csv.toPath(), StandardOpenOption.READ);
+    try {
+      long[] bounds = chunkBounds(channel);
+      if (ordered) {
+        return ingestOrdered(channel, bounds, sink);
+      }
+      List<ForkJoinTask<Long>> tasks = new ArrayList<ForkJoinTask<Long>>();
+      for (int i = 0; i + 1 < bounds.length; i++) {
+        final long start = bounds[i];
+        final long end = bounds[i + 1];
+        tasks.add(pool.submit(new Callable<Long>() {
+          @Override
+          public Long call() throws IOException {
+            return parseChunk(channel, start, end, sink, null);
+          }
+        }));
+      }
+      long rows = 0;
+      for (ForkJoinTask<Long> task : tasks) {
+        rows += await(task);
+      }
+      return rows;
+    } finally {
+      channel.close();
+    }
+  }
+
+  private long ingestOrdered(final FileChannel channel, long[] bounds, BatchSink sink)
+      throws IOException {
+    int window = Math.max(2, pool.getParallelism() * 2);
+    ArrayDeque<ForkJoinTask<List<AccidentBatch>>> inFlight =
+        new ArrayDeque<ForkJoinTask<List<AccidentBatch>>>();
+    long rows = 0;
+    int next = 0;
+    try {
+      while (next + 1 < bounds.length || !inFlight.isEmpty()) {
+        while (next + 1 < bounds.length && inFlight.size() < window) {
+          final long start = bounds[next];
+          final long end = bounds[next + 1];
+          inFlight.add(pool.submit(new Callable<List<AccidentBatch>>() {
+            @Override
+            public List<AccidentBatch> call() throws IOException {
+              List<AccidentBatch> batches = new ArrayList<AccidentBatch>();
+              parseChunk(channel, start, end, null, batches);
+              return batches;
+            }
+          }));
+          next++;
+        }
+        for (AccidentBatch batch : await(inFlight.poll())) {
+          rows += batch.size();
+          sink.accept(batch);
+          recycle(batch);
+        }
+      }
+    } finally {
+      for (ForkJoinTask<List<AccidentBatch>> task : inFlight) {
+        task.cancel(false);
+      }
+    }
+    return rows;
+  }
+
+  /**
+   * Parses the records in {@code [start, end)}; full batches go to the sink
+   * when there is one and are collected into {@code out} otherwise.
+   */
+  private long parseChunk(FileChannel channel, long start, long end, BatchSink sink,
+      List<AccidentBatch> out) throws IOException {
+    int length = (int) (end - start);
+    byte[] bytes = new byte[length];
+    channel.map(FileChannel.MapMode.READ_ONLY, start, length).get(bytes);
+    AccidentTextParser parser = AccidentTextParser.csv();
+    PrimitiveAccident row = new PrimitiveAccident();
+    AccidentBatch batch = obtain();
+    long rows = 0;
+    int pos = 0;
+    if (start == 0 && header) {
+      pos = parser.split(bytes, 0, length);
+    }
+    AccidentParseErrors errors = parseErrors;
+    while (pos < length) {
+      int recordStart = pos;
+      try {
+        pos = parser.split(bytes, pos, length);
+        if (parser.fieldCount() == 1 && parser.isNull(0)) {
+          continue;
+        }
+        if (errors == null) {
+          parser.load(row, AccidentSchema.ALL_FIELDS);
+        } else if (parser.load(row, AccidentSchema.ALL_FIELDS, errors) != 0
+            && errors.isQuarantine()) {
+          continue;
+        }
+      } catch (RuntimeException e) {
+        if (errors == null) {
+          throw new IOException("Malformed CSV record at byte " + (start + recordStart), e);
+        }
+        pos = nextLine(bytes, recordStart, length);
+        errors.reject("malformed record at byte " + (start + recordStart),
+            new String(bytes, recordStart, pos - recordStart, StandardCharsets.UTF_8).trim());
+        continue;
+      }
+      if (batch.isFull()) {
+        deliver(batch, sink, out);
+        batch = obtain();
+      }
+      batch.add(row);
+      rows++;
+    }
+    if (batch.size() > 0) {
+      deliver(batch, sink, out);
+    } else {
+      recycle(batch);
+    }
+    return rows;
+  }
+
+  /** Resynchronizes after a malformed record at the next newline. */
+  private static int nextLine(byte[] bytes, int pos, int length) {
+    while (pos < length && bytes[pos] != '\n') {
+      pos++;
+    }
+    return pos < length ? pos + 1 : length;
+  }
+
+  private void deliver(AccidentBatch batch, BatchSink sink, List<AccidentBatch> out)
+      throws IOException {
+    if (sink == null) {
+      out.add(batch);
+    } else {
+      sink.accept(batch);
+      recycle(batch);
+    }
+  }
+
+  private AccidentBatch obtain() {
+    AccidentBatch batch = freeBatches.poll();
+    return batch != null ? batch : new AccidentBatch(batchCapacity);
+  }
+
+  private void recycle(AccidentBatch batch) {
+    if (batch.capacity() == batchCapacity) {
+      batch.clear();
+      freeBatches.add(batch);
+    }
+  }
+
+  /** Record-aligned chunk offsets, from 0 to the file size. */
+  long[] chunkBounds(final FileChannel channel) throws IOException {
+    final long size = channel.size();
+    int regions = (int) Math.max(1, (size + chunkSize - 1) / chunkSize);
+    final long[] quotes = new long[regions];
+    final long[] evenNewline = new long[regions];
+    final long[] oddNewline = new long[regions];
+    List<ForkJoinTask<?>> scans = new ArrayList<ForkJoinTask<?>>();
+    for (int i = 0; i < regions; i++) {
+      final int region = i;
+      scans.add(pool.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws IOException {
+          long start = (long) region * chunkSize;
+          long end = Math.min(size, start + chunkSize);
+          scanRegion(channel, start, end, region, quotes, evenNewline, oddNewline);
+          return null;
+        }
+      }));
+    }
+    for (ForkJoinTask<?> scan : scans) {
+      await(scan);
+    }
+    long[] bounds = new long[regions + 1];
+    int count = 1;
+    long parity = 0;
+    for (int i = 1; i < regions; i++) {
+      parity += quotes[i - 1];
+      long newline = (parity & 1) == 0 ? evenNewline[i] : oddNewline[i];
+      if (newline >= 0 && newline + 1 < size) {
+        bounds[count++] = newline + 1;
+      }
+    }
+    bounds[count++] = size;
+    long[] result = new long[count];
+    System.arraycopy(bounds, 0, result, 0, count);
+    return result;
+  }
+
+  private static void scanRegion(FileChannel channel, long start, long end, int region,
+      long[] quotes, long[] evenNewline, long[] oddNewline) throws IOException {
+    MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    int length = (int) (end - start);
+    long count = 0;
+    long even = -1;
+    long odd = -1;
+    for (int i = 0; i < length; i++) {
+      byte b = map.get(i);
+      if (b == '"') {
+        count++;
+      } else if (b == '\n') {
+        if ((count & 1) == 0) {
+          if (even < 0) {
+            even = start + i;
+          }
+        } else if (odd < 0) {
+          odd = start + i;
+        }
+      }
+    }
+    quotes[region] = count;
+    evenNewline[region] = even;
+    oddNewline[region] = odd;
+  }
+
+  private static <T> T await(ForkJoinTask<T> task) throws IOException {
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while ingesting", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      // The pool runs a submitted Callable inside a task that rethrows
+      // checked exceptions wrapped in a plain RuntimeException.
+      if (cause != null && cause.getClass() == RuntimeException.class
+          && cause.getCause() instanceof IOException) {
+        cause = cause.getCause();
+      }
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+}
@@ -0,0 +1,408 @@
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Set of the {@code id_str} keys already ingested, kept off the heap in a
+ * memory-mapped file so it survives between runs.
+ * <p>
+ * The file is an open-addressing hash table with linear probing. Each slot
+ * holds one key in 16 bytes. An ASCII key of up to 16 characters, which
+ * covers every {@code VARCHAR(16)} id such as {@code A-123456}, is stored as
+ * its bytes, so lookups are exact. Any other key is stored as a 128-bit hash
+ * with the top bit of its first byte set. An all-zero slot is free. The table
+ * doubles into a new file once it is {@link #MAX_LOAD} full and replaces the
+ * old one in one rename. The heap holds only the mapping objects, whatever
+ * the number of keys.
+ * <p>
+ * {@link #filter} puts the index in front of a
+ * {@link AccidentCsvIngester.BatchSink}, so re-ingesting overlapping exports
+ * drops the rows loaded before. The keys it lets through are only pending:
+ * they go into a second table of the same layout in {@code <file>.pending}
+ * and are merged into the index by {@link #commit} once the load behind the
+ * filter has been committed. {@link #rollback}, or closing the index without
+ * committing, throws them away, so a failed load leaves the index as it was.
+ * Commit after the load, not before: a crash in between then loads the rows
+ * again next time instead of skipping rows that never arrived. All methods
+ * are synchronized, so the filter also works with unordered ingestion.
+ */
+public class AccidentDedupIndex implements Closeable {
+
+  public static final long DEFAULT_EXPECTED_KEYS = 1 << 20;
+  public static final double MAX_LOAD = 0.6;
+
+  private static final long MAGIC = 0x4143434445445550L; // "ACCDEDUP"
+  private static final int VERSION = 1;
+  private static final int HEADER_BYTES = 64;
+  private static final int CAPACITY_OFFSET = 16;
+  private static final int SIZE_OFFSET = 24;
+  private static final int SLOT_BYTES = 16;
+  private static final int KEY_BYTES = 16;
+  /** Slots per mapping, 1 GiB; a single mapping cannot exceed 2 GiB. */
+  private static final int SEGMENT_SHIFT = 26;
+  private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+  private static final long HASHED = 0x80L;
+  private static final String PENDING_SUFFIX = ".pending";
+
+  private final File file;
+  private FileChannel channel;
+  private MappedByteBuffer header;
+  private MappedByteBuffer[] segments;
+  private long capacity;
+  private long size;
+  private long duplicates;
+  private AccidentDedupIndex pending;
+
+  private AccidentDedupIndex(File file, FileChannel channel, long capacity) throws IOException {
+    this.file = file;
+    map(channel, capacity);
+  }
+
+  /** Opens the index in {@code file}, creating it if it does not exist. */
+  public static AccidentDedupIndex open(File file) throws IOException {
+    return open(file, DEFAULT_EXPECTED_KEYS);
+  }
+
+  /**
+   * Opens the index in {@code file}. A new file is sized to hold
+   * {@code expectedKeys} without growing.
+   */
+  public static AccidentDedupIndex open(File file, long expectedKeys) throws IOException {
+    if (file.exists()) {
+      FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ,
+          StandardOpenOption.WRITE);
+      try {
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        if (header.getLong(0) != MAGIC || header.getInt(8) != VERSION) {
+          throw new IOException(file + " is not a dedup index");
+        }
+        long capacity = header.getLong(CAPACITY_OFFSET);
+        if (Long.bitCount(capacity) != 1
+            || channel.size() < HEADER_BYTES + capacity * SLOT_BYTES) {
+          throw new IOException(file + " is truncated");
+        }
+        return new AccidentDedupIndex(file, channel, capacity);
+      } catch (IOException e) {
+        channel.close();
+        throw e;
+      }
+    }
+    return create(file, capacityFor(expectedKeys));
+  }
+
+  private static AccidentDedupIndex create(File file, long capacity) throws IOException {
+    FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE_NEW,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      AccidentDedupIndex index = new AccidentDedupIndex(file, channel, capacity);
+      index.header.putLong(0, MAGIC);
+      index.header.putInt(8, VERSION);
+      index.header.putLong(CAPACITY_OFFSET, capacity);
+      index.header.putLong(SIZE_OFFSET, 0);
+      return index;
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private static long capacityFor(long keys) {
+    long slots = (long) Math.ceil(Math.max(keys, 1) / MAX_LOAD);
+    return Math.max(1L << 10, Long.highestOneBit(slots - 1) << 1);
+  }
+
+  private void map(FileChannel channel, long capacity) throws IOException {
+    MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+    header.order(ByteOrder.LITTLE_ENDIAN);
+    int count = (int) ((capacity + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+    MappedByteBuffer[] segments = new MappedByteBuffer[count];
+    for (int s = 0; s < count; s++) {
+      long slots = Math.min(capacity - ((long) s << SEGMENT_SHIFT), 1L << SEGMENT_SHIFT);
+      segments[s] = channel.map(FileChannel.MapMode.READ_WRITE,
+          HEADER_BYTES + ((long) s << SEGMENT_SHIFT) * SLOT_BYTES, slots * SLOT_BYTES);
+      segments[s].order(ByteOrder.LITTLE_ENDIAN);
+    }
+    this.channel = channel;
+    this.header = header;
+    this.segments = segments;
+    this.capacity = capacity;
+    this.size = header.getLong(SIZE_OFFSET);
+  }
+
+  /** Records a key now; returns false, and counts a duplicate, if it was already there. */
+  public synchronized boolean add(String idStr) throws IOException {
+    long k1 = encodeHigh(idStr);
+    long k2 = encodeLow(idStr, k1);
+    if (!add(k1, k2)) {
+      duplicates++;
+      return false;
+    }
+    return true;
+  }
+
+  /** Whether the key has been recorded; pending keys do not count. */
+  public synchronized boolean contains(String idStr) {
+    long k1 = encodeHigh(idStr);
+    return contains(k1, encodeLow(idStr, k1));
+  }
+
+  /**
+   * Records a key as pending unless it is in the index or already pending;
+   * returns false, and counts a duplicate, if it is.
+   */
+  public synchronized boolean addPending(String idStr) throws IOException {
+    long k1 = encodeHigh(idStr);
+    long k2 = encodeLow(idStr, k1);
+    if (contains(k1, k2) || !pending().add(k1, k2)) {
+      duplicates++;
+      return false;
+    }
+    return true;
+  }
+
+  /** Merges the pending keys into the index and writes it back to the file. */
+  public synchronized void commit() throws IOException {
+    if (pending == null) {
+      return;
+    }
+    for (long slot = 0; slot < pending.capacity; slot++) {
+      MappedByteBuffer segment = pending.segments[(int) (slot >>> SEGMENT_SHIFT)];
+      int offset = (int) (slot & SEGMENT_MASK) * SLOT_BYTES;
+      long s1 = segment.getLong(offset);
+      if (s1 != 0) {
+        add(s1, segment.getLong(offset + 8));
+      }
+    }
+    flush();
+    discardPending();
+  }
+
+  /** Forgets the pending keys. */
+  public synchronized void rollback() throws IOException {
+    if (pending != null) {
+      discardPending();
+    }
+  }
+
+  private AccidentDedupIndex pending() throws IOException {
+    if (pending == null) {
+      // A leftover file is from a run that never committed.
+      File next = new File(file.getPath() + PENDING_SUFFIX);
+      Files.deleteIfExists(next.toPath());
+      pending = create(next, capacityFor(DEFAULT_EXPECTED_KEYS));
+    }
+    return pending;
+  }
+
+  private void discardPending() throws IOException {
+    pending.channel.close();
+    Files.deleteIfExists(pending.file.toPath());
+    pending = null;
+  }
+
+  private boolean add(long k1, long k2) throws IOException {
+    if (!insert(k1, k2)) {
+      return false;
+    }
+    header.putLong(SIZE_OFFSET, size);
+    if (size > capacity * MAX_LOAD) {
+      grow();
+    }
+    return true;
+  }
+
+  private boolean contains(long k1, long k2) {
+    for (long slot = slotOf(k1, k2); ; slot = (slot + 1) & (capacity - 1)) {
+      MappedByteBuffer segment = segments[(int) (slot >>> SEGMENT_SHIFT)];
+      int offset = (int) (slot & SEGMENT_MASK) * SLOT_BYTES;
+      long s1 = segment.getLong(offset);
+      if (s1 == 0) {
+        return false;
+      }
+      if (s1 == k1 && segment.getLong(offset + 8) == k2) {
+        return true;
+      }
+    }
+  }
+
+  /** Number of distinct keys recorded, across runs, not counting pending ones. */
+  public synchronized long size() {
+    return size;
+  }
+
+  /** Keys rejected by {@link #add} and {@link #addPending} since the index was opened. */
+  public synchronized long getDuplicateCount() {
+    return duplicates;
+  }
+
+  /** Writes the mapped pages back to the file. */
+  public synchronized void flush() {
+    header.force();
+    for (MappedByteBuffer segment : segments) {
+      segment.force();
+    }
+  }
+
+  /** Rolls back the keys not committed yet and closes the file. */
+  @Override
+  public synchronized void close() throws IOException {
+    try {
+      rollback();
+    } finally {
+      flush();
+      channel.close();
+    }
+  }
+
+  /**
+   * Returns a sink that passes on only the rows whose {@code id_str} is not
+   * in the index yet, recording them as pending until {@link #commit}; a key
+   * repeated within the run passes only once. Rows without an
+   * {@code id_str} always pass. A batch without duplicates is forwarded as
+   * it is; otherwise the new rows are copied into a spare batch.
+   */
+  public AccidentCsvIngester.BatchSink filter(final AccidentCsvIngester.BatchSink downstream) {
+    final ConcurrentLinkedQueue<AccidentBatch> spares = new ConcurrentLinkedQueue<AccidentBatch>();
+    return new AccidentCsvIngester.BatchSink() {
+      @Override
+      public void accept(AccidentBatch batch) throws IOException {
+        long[] fresh = new long[(batch.size() + 63) >>> 6];
+        boolean all = true;
+        for (int r = 0; r < batch.size(); r++) {
+          String idStr = batch.isNull(AccidentSchema.ID_STR, r)
+              ? null : batch.getString(AccidentSchema.ID_STR, r);
+          if (idStr == null || addPending(idStr)) {
+            fresh[r >>> 6] |= 1L << r;
+          } else {
+            all = false;
+          }
+        }
+        if (all) {
+          downstream.accept(batch);
+          return;
+        }
+        AccidentBatch spare = spares.poll();
+        if (spare == null || spare.capacity() < batch.size()) {
+          spare = new AccidentBatch(batch.capacity());
+        }
+        PrimitiveAccident row = new PrimitiveAccident();
+        for (int r = 0; r < batch.size(); r++) {
+          if ((fresh[r >>> 6] & (1L << r)) != 0) {
+            batch.get(r, row);
+            spare.add(row);
+          }
+        }
+        try {
+          if (spare.size() > 0) {
+            downstream.accept(spare);
+          }
+        } finally {
+          spare.clear();
+          spares.add(spare);
+        }
+      }
+    };
+  }
+
+  private boolean insert(long k1, long k2) {
+    for (long slot = slotOf(k1, k2); ; slot = (slot + 1) & (capacity - 1)) {
+      MappedByteBuffer segment = segments[(int) (slot >>> SEGMENT_SHIFT)];
+      int offset = (int) (slot & SEGMENT_MASK) * SLOT_BYTES;
+      long s1 = segment.getLong(offset);
+      if (s1 == 0) {
+        segment.putLong(offset, k1);
+        segment.putLong(offset + 8, k2);
+        size++;
+        return true;
+      }
+      if (s1 == k1 && segment.getLong(offset + 8) == k2) {
+        return false;
+      }
+    }
+  }
+
+  /** Rehashes into a file of twice the capacity and renames it over this one. */
+  private void grow() throws IOException {
+    File next = new File(file.getPath() + ".grow");
+    Files.deleteIfExists(next.toPath());
+    AccidentDedupIndex bigger = create(next, capacity << 1);
+    for (long slot = 0; slot < capacity; slot++) {
+      MappedByteBuffer segment = segments[(int) (slot >>> SEGMENT_SHIFT)];
+      int offset = (int) (slot & SEGMENT_MASK) * SLOT_BYTES;
+      long s1 = segment.getLong(offset);
+      if (s1 != 0) {
+        bigger.insert(s1, segment.getLong(offset + 8));
+      }
+    }
+    bigger.header.putLong(SIZE_OFFSET, bigger.size);
+    bigger.flush();
+    Files.move(next.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+    channel.close();
+    this.channel = bigger.channel;
+    this.header = bigger.header;
+    this.segments = bigger.segments;
+    this.capacity = bigger.capacity;
+    this.size = bigger.size;
+  }
+
+  private long slotOf(long k1, long k2) {
+    return mix(k1 * 0x9e3779b97f4a7c15L ^ k2) & (capacity - 1);
+  }
+
+  /** First 8 bytes of the slot form of a key; see the class comment. */
+  private static long encodeHigh(String key) {
+    int length = key.length();
+    if (length == 0 || length > KEY_BYTES) {
+      return hash(key, 0x2545f4914f6cdd1dL) | HASHED;
+    }
+    long word = 0;
+    for (int i = 0; i < length; i++) {
+      char c = key.charAt(i);
+      if (c == 0 || c >= 0x80) {
+        return hash(key, 0x2545f4914f6cdd1dL) | HASHED;
+      }
+      if (i < 8) {
+        word |= (long) c << (8 * i);
+      }
+    }
+    return word;
+  }
+
+  /** Last 8 bytes of the slot form of a key whose first 8 are {@code high}. */
+  private static long encodeLow(String key, long high) {
+    if ((high & HASHED) != 0) {
+      return hash(key, 0x9e3779b97f4a7c15L);
+    }
+    long word = 0;
+    for (int i = 8; i < key.length(); i++) {
+      word |= (long) key.charAt(i) << (8 * (i - 8));
+    }
+    return word;
+  }
+
+  private static long hash(String key, long seed) {
+    long h = seed ^ key.length();
+    for (int i = 0; i < key.length(); i++) {
+      h = (h ^ key.charAt(i)) * 0x100000001b3L;
+    }
+    return mix(h);
+  }
+
+  private static long mix(long k) {
+    k ^= k >>> 33;
+    k *= 0xff51afd7ed558ccdL;
+    k ^= k >>> 33;
+    k *= 0xc4ceb9fe1a85ec53L;
+    k ^= k >>> 33;
+    return k;
+  }
+}
@@ -0,0 +1,194 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.hadoop.io.Text;
+
+/**
+ * Shared dictionary for the low-cardinality string columns of us_accidents.
+ * <p>
+ * In the dictionary-encoded binary mode each of these columns is written as
+ * a varint code: {@code k > 0} selects entry {@code k - 1} of the column's
+ * value list and {@code 0} is followed by the literal string for values the
+ * dictionary does not know. Decoding a code returns the canonical String
+ * instance held here, so repeated values are never re-materialized.
+ * <p>
+ * Value lists are append-only: a new {@link #VERSION} may add entries at the
+ * end of a list but never reorders or removes them, so data written against
+ * an older version stays readable.
+ */
+public final class AccidentDictionary {
+
+  public static final int VERSION = 1;
+
+  private static final String[] DAY_NIGHT = {"Day", "Night"};
+
+  private static final String[][] VALUES = new String[AccidentSchema.FIELD_COUNT][];
+  private static final Map<String, Integer>[] CODES = newCodeTables();
+  private static final byte[][][] UTF8 = new byte[AccidentSchema.FIELD_COUNT][][];
+
+  static {
+    VALUES[AccidentSchema.SOURCE] = new String[] {"Source1", "Source2", "Source3"};
+    VALUES[AccidentSchema.STATE] = new String[] {
+      "AL", "AR", "AZ", "CA", "CO", "CT", "DC", "DE", "FL", "GA", "IA", "ID", "IL",
+      "IN", "KS", "KY", "LA", "MA", "MD", "ME", "MI", "MN", "MO", "MS", "MT", "NC",
+      "ND", "NE", "NH", "NJ", "NM", "NV", "NY", "OH", "OK", "OR", "PA", "RI", "SC",
+      "SD", "TN", "TX", "UT", "VA", "VT", "WA", "WI", "WV", "WY"
+    };
+    VALUES[AccidentSchema.COUNTRY] = new String[] {"US"};
+    VALUES[AccidentSchema.TIMEZONE] = new String[] {
+      "US/Eastern", "US/Central", "US/Mountain", "US/Pacific"
+    };
+    VALUES[AccidentSchema.WIND_DIRECTION] = new String[] {
+      "CALM", "Calm", "VAR", "Variable", "N", "NNE", "NE", "ENE", "E", "ESE", "SE",
+      "SSE", "S", "SSW", "SW", "WSW", "W", "WNW", "NW", "NNW", "North", "South",
+      "East", "West"
+    };
+    VALUES[AccidentSchema.WEATHER_CONDITION] = new String[] {
+      "Fair", "Clear", "Mostly Cloudy", "Partly Cloudy", "Cloudy", "Overcast",
+      "Scattered Clouds", "Light Rain", "Rain", "Heavy Rain", "Light Snow", "Snow",
+      "Heavy Snow", "Fog", "Haze", "Smoke", "Mist", "Shallow Fog", "Patches of Fog",
+      "Light Drizzle", "Drizzle", "Fair / Windy", "Cloudy / Windy",
+      "Mostly Cloudy / Windy", "Partly Cloudy / Windy", "Light Rain / Windy",
+      "Rain / Windy", "Heavy Rain / Windy", "Light Snow / Windy", "Snow / Windy",
+      "Heavy Snow / Windy", "Fog / Windy", "Haze / Windy", "T-Storm", "Heavy T-Storm",
+      "T-Storm / Windy", "Heavy T-Storm / Windy", "Thunder", "Thunder in the Vicinity",
+      "Thunder / Windy", "Light Rain with Thunder", "Thunderstorm",
+      "Thunderstorms and Rain", "Light Thunderstorms and Rain",
+      "Heavy Thunderstorms and Rain", "Showers in the Vicinity", "Light Rain Showers",
+      "Rain Showers", "Light Snow Showers", "Light Freezing Rain", "Freezing Rain",
+      "Light Freezing Drizzle", "Light Freezing Fog", "Wintry Mix", "Wintry Mix / Windy",
+      "Light Sleet", "Sleet", "Light Ice Pellets", "Ice Pellets", "Blowing Snow",
+      "Blowing Snow / Windy", "Blowing Dust", "Blowing Dust / Windy", "Widespread Dust",
+      "Dust Whirls", "Sand / Dust Whirlwinds", "Squalls", "Hail", "Small Hail",
+      "Funnel Cloud", "Tornado", "Volcanic Ash", "N/A Precipitation"
+    };
+    VALUES[AccidentSchema.SUNRISE_SUNSET] = DAY_NIGHT;
+    VALUES[AccidentSchema.CIVIL_TWILIGHT] = DAY_NIGHT;
+    VALUES[AccidentSchema.NAUTICAL_TWILIGHT] = DAY_NIGHT;
+    VALUES[AccidentSchema.ASTRONOMICAL_TWILIGHT] = DAY_NIGHT;
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      if (VALUES[f] != null) {
+        CODES[f] = new HashMap<String, Integer>();
+        UTF8[f] = new byte[VALUES[f].length][];
+        for (int i = 0; i < VALUES[f].length; i++) {
+          CODES[f].put(VALUES[f][i], i + 1);
+          UTF8[f][i] = VALUES[f][i].getBytes(StandardCharsets.UTF_8);
+        }
+      }
+    }
+  }
+
+  private AccidentDictionary() {
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Map<String, Integer>[] newCodeTables() {
+    return new Map[AccidentSchema.FIELD_COUNT];
+  }
+
+  /** Whether a column is dictionary-encoded. */
+  public static boolean isEncoded(int field) {
+    return VALUES[field] != null;
+  }
+
+  /** Number of entries in a column's dictionary. */
+  public static int size(int field) {
+    return VALUES[field].length;
+  }
+
+  /** Returns the code of a value, or 0 if the dictionary does not know it. */
+  public static int encode(int field, String value) {
+    Integer code = CODES[field].get(value);
+    return code == null ? 0 : code;
+  }
+
+  /**
+   * Returns the dictionary's instance of the value held in UTF-8 in
+   * {@code bytes}, or null if the dictionary does not know it.
+   */
+  public static String lookup(int field, byte[] bytes, int start, int length) {
+    byte[][] values = UTF8[field];
+    for (int i = 0; i < values.length; i++) {
+      byte[] value = values[i];
+      if (value.length == length && regionMatches(value, bytes, start)) {
+        return VALUES[field][i];
+      }
+    }
+    return null;
+  }
+
+  private static boolean regionMatches(byte[] value, byte[] bytes, int start) {
+    for (int i = 0; i < value.length; i++) {
+      if (value[i] != bytes[start + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns the canonical String for a non-zero code. */
+  public static String decode(int field, int code) throws IOException {
+    String[] values = VALUES[field];
+    if (code < 1 || code > values.length) {
+      throw new IOException("Unknown dictionary code " + code + " for column "
+          + AccidentSchema.name(field));
+    }
+    return values[code - 1];
+  }
+
+  /** Returns the dictionary's own instance of a value if it has one. */
+  public static String canonical(int field, String value) {
+    if (value == null || VALUES[field] == null) {
+      return value;
+    }
+    int code = encode(field, value);
+    return code == 0 ? value : VALUES[field][code - 1];
+  }
+
+  public static void checkVersion(int version) throws IOException {
+    if (version < 1 || version > VERSION) {
+      throw new IOException("Unsupported dictionary version " + version
+          + ", this build knows up to " + VERSION);
+    }
+  }
+
+  /**
+   * Writes a string column, coded against the dictionary when
+   * {@code dictionary} is set and the column has one.
+   */
+  public static void writeString(DataOutput out, int field, String value, boolean dictionary)
+      throws IOException {
+    if (!dictionary || !isEncoded(field)) {
+      Text.writeString(out, value);
+      return;
+    }
+    int code = encode(field, value);
+    VarIntCodec.writeVInt(out, code);
+    if (code == 0) {
+      Text.writeString(out, value);
+    }
+  }
+
+  /** Reads a string column written by {@link #writeString}. */
+  public static String readString(DataInput in, int field, boolean dictionary)
+      throws IOException {
+    if (!dictionary || !isEncoded(field)) {
+      return Text.readString(in);
+    }
+    int code = VarIntCodec.readVInt(in);
+    return code == 0 ? Text.readString(in) : decode(field, code);
+  }
+
+  /** Advances past a string column written by {@link #writeString}. */
+  public static void skipString(DataInput in, int field, boolean dictionary)
+      throws IOException {
+    if (dictionary && isEncoded(field) && VarIntCodec.readVInt(in) != 0) {
+      return;
+    }
+    Text.skip(in);
+  }
+}
@@ -0,0 +1,149 @@
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Live {@code Map<String, Object>} view of the columns of a us_accidents
+ * record, in table order.
+ * <p>
+ * The map has one fixed slot per {@link AccidentSchema} field. Reads go
+ * through {@code us_accidents.getField(int)} and writes through
+ * {@code setField(int, Object)}, so no values are copied and nothing is
+ * hashed except the key passed to {@link #get}. {@link #setRecord} points
+ * the same view at another record. Code that walks every column of many
+ * records can therefore reuse one map instead of building a
+ * {@code HashMap} per record with {@code getFieldMap()}. The key set is
+ * fixed: {@code put} needs an existing column and {@code remove} is not
+ * supported. Not thread-safe.
+ */
+public class AccidentFieldMap extends AbstractMap<String, Object> {
+
+  private us_accidents record;
+  private final Slot[] slots = new Slot[AccidentSchema.FIELD_COUNT];
+  private final Set<Map.Entry<String, Object>> entries = new Entries();
+
+  public AccidentFieldMap(us_accidents record) {
+    this.record = record;
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      slots[f] = new Slot(f);
+    }
+  }
+
+  public us_accidents getRecord() {
+    return record;
+  }
+
+  /** Makes this view show {@code record}; entries already handed out follow it. */
+  public void setRecord(us_accidents record) {
+    this.record = record;
+  }
+
+  @Override
+  public int size() {
+    return AccidentSchema.FIELD_COUNT;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof String && AccidentSchema.indexOf((String) key) >= 0;
+  }
+
+  @Override
+  public Object get(Object key) {
+    int field = key instanceof String ? AccidentSchema.indexOf((String) key) : -1;
+    return field < 0 ? null : record.getField(field);
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    int field = AccidentSchema.indexOf(key);
+    if (field < 0) {
+      throw new IllegalArgumentException("No such field: " + key);
+    }
+    Object previous = record.getField(field);
+    record.setField(field, value);
+    return previous;
+  }
+
+  @Override
+  public Set<Map.Entry<String, Object>> entrySet() {
+    return entries;
+  }
+
+  private final class Slot implements Map.Entry<String, Object> {
+    private final int field;
+
+    Slot(int field) {
+      this.field = field;
+    }
+
+    @Override
+    public String getKey() {
+      return AccidentSchema.name(field);
+    }
+
+    @Override
+    public Object getValue() {
+      return record.getField(field);
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      Object previous = record.getField(field);
+      record.setField(field, value);
+      return previous;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+      Object value = getValue();
+      return getKey().equals(other.getKey())
+          && (value == null ? other.getValue() == null : value.equals(other.getValue()));
+    }
+
+    @Override
+    public int hashCode() {
+      Object value = getValue();
+      return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+
+  private final class Entries extends AbstractSet<Map.Entry<String, Object>> {
+    @Override
+    public int size() {
+      return AccidentSchema.FIELD_COUNT;
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, Object>> iterator() {
+      return new Iterator<Map.Entry<String, Object>>() {
+        private int next;
+
+        @Override
+        public boolean hasNext() {
+          return next < AccidentSchema.FIELD_COUNT;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+          if (next >= AccidentSchema.FIELD_COUNT) {
+            throw new NoSuchElementException();
+          }
+          return slots[next++];
+        }
+      };
+    }
+  }
+}
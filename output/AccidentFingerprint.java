@@ -0,0 +1,207 @@
+import java.sql.Timestamp;
+
+/**
+ * 128-bit content fingerprint of a us_accidents row, for finding duplicate
+ * and changed accidents across imports without comparing fields.
+ * <p>
+ * The fingerprint covers every column in table order. It is the same for
+ * a {@link us_accidents} and a {@link PrimitiveAccident} holding the same
+ * values, and the same on every JVM. It does not depend on the default
+ * time zone or on the wire format, so it can be stored next to the data
+ * and compared on a later run. Each value goes into the hash as 64-bit
+ * words: ints widened, doubles as {@code doubleToLongBits}, timestamps as
+ * wall-clock seconds since 1970-01-01 00:00 plus nanos, strings as their
+ * length followed by their UTF-16 units four to a word. The road features
+ * and the null bitmap are added last. The timestamp columns are
+ * {@code timestamp without time zone}, so the wall-clock value is the one
+ * stored, whichever zone the JVM reads it through.
+ * The mixing is that of MurmurHash3 x64 128.
+ * <p>
+ * An instance holds the last result in {@link #high()} and {@link #low()}
+ * and is meant to be reused; it allocates nothing. Not thread-safe.
+ * {@code us_accidents} computes its own fingerprint when it is read or
+ * written and keeps it until it changes; see {@code getFingerprintHigh()}
+ * and {@code getFingerprintLow()}. Its {@code equals} compares fingerprints
+ * before fields.
+ * Hash-based deduplication should key on the fingerprint: {@code hashCode}
+ * only covers the sort key.
+ */
+public final class AccidentFingerprint {
+
+  /** Changes whenever the encoding above changes, so old fingerprints never match. */
+  public static final int VERSION = 2;
+
+  private static final long C1 = 0x87c37b91114253d5L;
+  private static final long C2 = 0x4cf5ad432745937fL;
+
+  private final ZoneOffsetCache offsets = new ZoneOffsetCache();
+  private long h1;
+  private long h2;
+  private long pending;
+  private boolean halfBlock;
+  private long words;
+
+  /** Upper 64 bits of the last fingerprint; also usable on its own as a 64-bit fingerprint. */
+  public long high() {
+    return h1;
+  }
+
+  /** Lower 64 bits of the last fingerprint. */
+  public long low() {
+    return h2;
+  }
+
+  /** Fingerprints a record and returns its 64-bit form; see {@link #high()} and {@link #low()}. */
+  public long update(us_accidents record) {
+    start();
+    long nulls = 0L;
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      if (AccidentSchema.type(f) == AccidentSchema.TYPE_BOOLEAN) {
+        continue;
+      }
+      Object value = record.getField(f);
+      if (value == null) {
+        nulls |= 1L << f;
+        continue;
+      }
+      switch (AccidentSchema.type(f)) {
+      case AccidentSchema.TYPE_INT:
+        add(((Integer) value).intValue());
+        break;
+      case AccidentSchema.TYPE_DOUBLE:
+        add(Double.doubleToLongBits(((Double) value).doubleValue()));
+        break;
+      case AccidentSchema.TYPE_TIMESTAMP:
+        Timestamp ts = (Timestamp) value;
+        add(offsets.toLocal(Math.floorDiv(ts.getTime(), 1000L)));
+        add(ts.getNanos());
+        break;
+      default:
+        add((String) value);
+        break;
+      }
+    }
+    short roadNulls = record.get_road_feature_nulls();
+    nulls |= (long) roadNulls << AccidentSchema.AMENITY;
+    return finish(record.get_road_features() & ~roadNulls, nulls);
+  }
+
+  /** Fingerprints a record and returns its 64-bit form; equal content gives the same value as for us_accidents. */
+  public long update(PrimitiveAccident record) {
+    start();
+    long nulls = record.getNulls();
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      if ((nulls & (1L << f)) != 0) {
+        continue;
+      }
+      switch (AccidentSchema.type(f)) {
+      case AccidentSchema.TYPE_INT:
+        add(record.getInt(f));
+        break;
+      case AccidentSchema.TYPE_DOUBLE:
+        add(Double.doubleToLongBits(record.getDouble(f)));
+        break;
+      case AccidentSchema.TYPE_TIMESTAMP:
+        long micros = record.getMicros(f);
+        add(offsets.toLocal(Math.floorDiv(micros, 1000000L)));
+        add(Math.floorMod(micros, 1000000L) * 1000L);
+        break;
+      case AccidentSchema.TYPE_STRING:
+        add(record.getString(f));
+        break;
+      default:
+        break;
+      }
+    }
+    return finish(record.getRoadFeatures(), nulls);
+  }
+
+  /**
+   * Whether the record's fingerprint is {@code high}, {@code low}, e.g. as
+   * stored by an earlier import. Uses the value cached on the record, so
+   * checking the same record again costs two comparisons.
+   */
+  public static boolean matches(us_accidents record, long high, long low) {
+    return record.getFingerprintHigh() == high && record.getFingerprintLow() == low;
+  }
+
+  private void start() {
+    h1 = VERSION;
+    h2 = VERSION;
+    halfBlock = false;
+    words = 0;
+  }
+
+  private void add(String value) {
+    int length = value.length();
+    add(length);
+    int i = 0;
+    for (; i + 4 <= length; i += 4) {
+      add((long) value.charAt(i) | (long) value.charAt(i + 1) << 16
+          | (long) value.charAt(i + 2) << 32 | (long) value.charAt(i + 3) << 48);
+    }
+    if (i < length) {
+      long word = 0L;
+      for (int shift = 0; i < length; i++, shift += 16) {
+        word |= (long) value.charAt(i) << shift;
+      }
+      add(word);
+    }
+  }
+
+  private void add(long word) {
+    words++;
+    if (!halfBlock) {
+      pending = word;
+      halfBlock = true;
+      return;
+    }
+    halfBlock = false;
+    long k1 = pending;
+    long k2 = word;
+    k1 *= C1;
+    k1 = Long.rotateLeft(k1, 31);
+    k1 *= C2;
+    h1 ^= k1;
+    h1 = Long.rotateLeft(h1, 27);
+    h1 += h2;
+    h1 = h1 * 5 + 0x52dce729;
+    k2 *= C2;
+    k2 = Long.rotateLeft(k2, 33);
+    k2 *= C1;
+    h2 ^= k2;
+    h2 = Long.rotateLeft(h2, 31);
+    h2 += h1;
+    h2 = h2 * 5 + 0x38495ab5;
+  }
+
+  private long finish(long roadFeatures, long nulls) {
+    add(roadFeatures);
+    add(nulls);
+    if (halfBlock) {
+      long k1 = pending;
+      k1 *= C1;
+      k1 = Long.rotateLeft(k1, 31);
+      k1 *= C2;
+      h1 ^= k1;
+    }
+    h1 ^= words * 8;
+    h2 ^= words * 8;
+    h1 += h2;
+    h2 += h1;
+    h1 = fmix(h1);
+    h2 = fmix(h2);
+    h1 += h2;
+    h2 += h1;
+    return h1;
+  }
+
+  private static long fmix(long k) {
+    k ^= k >>> 33;
+    k *= 0xff51afd7ed558ccdL;
+    k ^= k >>> 33;
+    k *= 0xc4ceb9fe1a85ec53L;
+    k ^= k >>> 33;
+    return k;
+  }
+}
@@ -0,0 +1,191 @@
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Properties;
+
+import org.apache.hadoop.fs.FileContext;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Options;
+import org.apache.hadoop.fs.Path;
+
+/**
+ * Incremental import of us_accidents into an existing Avro warehouse
+ * directory, like Sqoop's {@code --incremental append}. The directory is a
+ * Hadoop {@link Path}, normally {@code project/warehouse/us_accidents} on
+ * HDFS as written by stage 1.
+ * <p>
+ * The last imported value of the check column, {@code id} or
+ * {@code start_time}, is kept in a {@link #WATERMARK_FILE} next to the data.
+ * A run reads only the rows past it and up to the column's current maximum
+ * through {@link AccidentJdbcExtractor}, appends them as new
+ * {@code part-m-NNNNN.avro} files and then moves the watermark forward. If
+ * a run fails, the watermark stays where it was and no file is added: the
+ * extractor stages the parts and moves them in only after every slice has
+ * finished. The next run reads the same rows again. Without a watermark
+ * file the first run imports the whole table.
+ * <p>
+ * Neither column guarantees that every row is seen. With {@code start_time}
+ * a row only counts as new when it starts after the previous maximum, so
+ * accidents that are loaded late with an earlier start time are not picked
+ * up. With {@code id} a row is skipped when its transaction drew a lower id
+ * from the {@code SERIAL} sequence but committed after a run had already
+ * read a higher one: ids are handed out in order, not made visible in
+ * order. Run the import when no load into the table is in progress.
+ */
+public class AccidentIncrementalImport {
+
+  /** Name of the watermark file; the leading underscore hides it from Hive and Avro readers. */
+  public static final String WATERMARK_FILE = "_watermark";
+
+  private static final String CHECK_COLUMN = "check.column";
+  private static final String LAST_VALUE = "last.value";
+
+  /** Column that tells new rows from imported ones. */
+  public enum CheckColumn {
+    ID, START_TIME
+  }
+
+  private final AccidentJdbcWriter.ConnectionFactory factory;
+  private final CheckColumn checkColumn;
+  private final AccidentJdbcExtractor extractor;
+  private String tableName = "us_accidents";
+
+  public AccidentIncrementalImport(AccidentJdbcWriter.ConnectionFactory factory,
+      CheckColumn checkColumn) {
+    this.factory = factory;
+    this.checkColumn = checkColumn;
+    this.extractor = new AccidentJdbcExtractor(factory);
+    this.extractor.setAppend(true);
+  }
+
+  /** The extractor doing the reads, for slice count, fetch size and codec. */
+  public AccidentJdbcExtractor getExtractor() {
+    return extractor;
+  }
+
+  public void setTableName(String tableName) {
+    this.tableName = tableName;
+    extractor.setTableName(tableName);
+  }
+
+  /** Appends the rows past the watermark to {@code dir} and returns how many there were. */
+  public long run(Path dir) throws IOException, SQLException {
+    FileSystem fs = dir.getFileSystem(extractor.getConf());
+    Path watermark = new Path(dir, WATERMARK_FILE);
+    String last = readWatermark(fs, watermark);
+    if (checkColumn == CheckColumn.ID) {
+      if (last == null) {
+        extractor.setWhere(null);
+      } else {
+        extractor.setWhere("id > ?", Long.valueOf(last));
+      }
+      long[] bounds = extractor.idBounds();
+      if (bounds == null) {
+        return 0;
+      }
+      long rows = extractor.extract(dir, bounds[0], bounds[1]);
+      writeWatermark(fs, watermark, Long.toString(bounds[1]));
+      return rows;
+    }
+    Timestamp high = maxStartTime(last == null ? null : Timestamp.valueOf(last));
+    if (high == null) {
+      return 0;
+    }
+    if (last == null) {
+      extractor.setWhere("start_time <= ?", high);
+    } else {
+      extractor.setWhere("start_time > ? AND start_time <= ?", Timestamp.valueOf(last), high);
+    }
+    long[] bounds = extractor.idBounds();
+    long rows = bounds == null ? 0 : extractor.extract(dir, bounds[0], bounds[1]);
+    writeWatermark(fs, watermark, high.toString());
+    return rows;
+  }
+
+  /** The latest start_time after {@code after}, or null when there is none. */
+  private Timestamp maxStartTime(Timestamp after) throws SQLException {
+    Connection connection = factory.open();
+    try {
+      PreparedStatement statement = connection.prepareStatement(
+          "SELECT MAX(start_time) FROM " + tableName
+          + (after == null ? "" : " WHERE start_time > ?"));
+      try {
+        if (after != null) {
+          statement.setTimestamp(1, after);
+        }
+        ResultSet rs = statement.executeQuery();
+        rs.next();
+        return rs.getTimestamp(1);
+      } finally {
+        statement.close();
+      }
+    } finally {
+      connection.close();
+    }
+  }
+
+  /** The stored last value, or null before the first run. */
+  private String readWatermark(FileSystem fs, Path file) throws IOException {
+    if (!fs.exists(file)) {
+      return null;
+    }
+    Properties properties = new Properties();
+    InputStream in = fs.open(file);
+    try {
+      properties.load(in);
+    } finally {
+      in.close();
+    }
+    String column = properties.getProperty(CHECK_COLUMN);
+    if (!checkColumn.name().equals(column)) {
+      throw new IOException(file + " is keyed on " + column + ", not " + checkColumn);
+    }
+    return properties.getProperty(LAST_VALUE);
+  }
+
+  /** Replaces the watermark file in one rename so a crash leaves the old or the new one. */
+  private void writeWatermark(FileSystem fs, Path file, String value) throws IOException {
+    Properties properties = new Properties();
+    properties.setProperty(CHECK_COLUMN, checkColumn.name());
+    properties.setProperty(LAST_VALUE, value);
+    Path temp = new Path(file.getParent(), file.getName() + ".tmp");
+    OutputStream out = fs.create(temp, true);
+    try {
+      properties.store(out, "us_accidents incremental import");
+    } finally {
+      out.close();
+    }
+    // FileSystem.rename refuses to replace an existing file; FileContext can, atomically on HDFS.
+    FileContext.getFileContext(fs.getUri(), extractor.getConf())
+        .rename(fs.makeQualified(temp), fs.makeQualified(file), Options.Rename.OVERWRITE);
+  }
+
+  /** Usage: {@code <jdbc-url> <user> <password-file> <dir> [id|start_time]}. */
+  public static void main(String[] args) throws Exception {
+    if (args.length != 4 && args.length != 5) {
+      System.err.println(
+          "Usage: AccidentIncrementalImport <jdbc-url> <user> <password-file> <dir> [id|start_time]");
+      System.exit(2);
+    }
+    BufferedReader reader = new BufferedReader(new FileReader(args[2]));
+    String password;
+    try {
+      password = reader.readLine();
+    } finally {
+      reader.close();
+    }
+    CheckColumn column = args.length == 5
+        ? CheckColumn.valueOf(args[4].toUpperCase())
+        : CheckColumn.ID;
+    AccidentIncrementalImport incremental = new AccidentIncrementalImport(
+        AccidentJdbcWriter.forUrl(args[0], args[1], password), column);
+    System.out.println("Imported " + incremental.run(new Path(args[3])) + " new rows");
+  }
+}
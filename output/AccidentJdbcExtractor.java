@@ -0,0 +1,351 @@
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+/**
+ * Parallel import of the us_accidents table into Avro data files, the
+ * counterpart of Sqoop's {@code import --as-avrodatafile} with several
+ * mappers.
+ * <p>
+ * The {@code id} range is split into {@link #setSlices slices} of equal
+ * width. Every slice is read on its own connection with
+ * {@link PrimitiveAccident#readFields(ResultSet)} into one reused record, so
+ * no column value is boxed, and appended to its own {@code part-m-NNNNN.avro}
+ * file through {@link AccidentAvroCodec.PrimitiveWriter}.
+ * The output directory is a Hadoop {@link Path}, so it can be the HDFS
+ * warehouse directory itself; relative paths resolve against the user's
+ * home directory on the default file system, as for Sqoop. The parts show
+ * up in it only once every slice has succeeded, so a failed run leaves it
+ * as it was.
+ * Autocommit is off and a fetch size is set, so the PostgreSQL driver reads
+ * through a server-side cursor and each slice holds at most one fetch of rows
+ * in memory.
+ */
+public class AccidentJdbcExtractor {
+
+  public static final int DEFAULT_SLICES = 4;
+  public static final int DEFAULT_FETCH_SIZE = 10000;
+
+  private static final Pattern PART_NAME = Pattern.compile("part-m-(\\d+)\\.avro");
+
+  private final AccidentJdbcWriter.ConnectionFactory factory;
+  private int slices = DEFAULT_SLICES;
+  private int fetchSize = DEFAULT_FETCH_SIZE;
+  private String tableName = "us_accidents";
+  private Configuration conf = new Configuration();
+  private CodecFactory codec = CodecFactory.snappyCodec();
+  private String where;
+  private Object[] whereParameters = new Object[0];
+  private boolean append;
+
+  public AccidentJdbcExtractor(AccidentJdbcWriter.ConnectionFactory factory) {
+    this.factory = factory;
+  }
+
+  /** Number of id ranges, and of connections and files, used by one extraction. */
+  public void setSlices(int slices) {
+    this.slices = slices;
+  }
+
+  /** Rows per round trip of the server-side cursor. */
+  public void setFetchSize(int fetchSize) {
+    this.fetchSize = fetchSize;
+  }
+
+  public void setTableName(String tableName) {
+    this.tableName = tableName;
+  }
+
+  public Configuration getConf() {
+    return conf;
+  }
+
+  /** Hadoop configuration that picks the file system of the output directory. */
+  public void setConf(Configuration conf) {
+    this.conf = conf;
+  }
+
+  /** Compression of the output files; snappy by default, as in stage 1. */
+  public void setCodec(CodecFactory codec) {
+    this.codec = codec;
+  }
+
+  /**
+   * Restricts the import to rows matching an SQL condition, like Sqoop's
+   * {@code --where}; {@code ?} placeholders are bound to {@code parameters}.
+   */
+  public void setWhere(String where, Object... parameters) {
+    this.where = where;
+    this.whereParameters = parameters.clone();
+  }
+
+  /**
+   * Whether files are numbered after the {@code part-m-NNNNN.avro} files
+   * already in the output directory instead of from zero.
+   */
+  public void setAppend(boolean append) {
+    this.append = append;
+  }
+
+  /** Reads the whole table, or the rows matching the condition, into {@code dir}. */
+  public long extract(Path dir) throws IOException, SQLException {
+    long[] bounds = idBounds();
+    return bounds == null ? 0 : extract(dir, bounds[0], bounds[1]);
+  }
+
+  /**
+   * Reads the rows with {@code minId <= id <= maxId} into {@code dir}. The
+   * parts are written under a {@code _tmp-} directory inside {@code dir} and
+   * moved into place only when every slice has succeeded; on failure none
+   * of them is left behind.
+   */
+  public long extract(Path dir, long minId, long maxId) throws IOException, SQLException {
+    FileSystem fs = dir.getFileSystem(conf);
+    if (!fs.mkdirs(dir)) {
+      throw new IOException("Cannot create " + dir);
+    }
+    int count = (int) Math.max(1, Math.min(slices, maxId - minId + 1));
+    int firstPart = append ? nextPart(fs, dir) : 0;
+    Path staging = new Path(dir, "_tmp-" + UUID.randomUUID());
+    List<Path> moved = new ArrayList<Path>();
+    boolean done = false;
+    try {
+      long rows = extractSlices(fs, staging, minId, maxId, count, firstPart);
+      for (int s = 0; s < count; s++) {
+        String name = partName(firstPart + s);
+        Path part = new Path(dir, name);
+        if (!fs.rename(new Path(staging, name), part)) {
+          throw new IOException("Cannot move " + name + " into " + dir);
+        }
+        moved.add(part);
+      }
+      done = true;
+      return rows;
+    } finally {
+      fs.delete(staging, true);
+      if (!done) {
+        for (Path part : moved) {
+          fs.delete(part, false);
+        }
+      }
+    }
+  }
+
+  /** Runs one slice per thread and returns only once every slice has stopped. */
+  private long extractSlices(final FileSystem fs, Path staging, long minId, long maxId,
+      int count, int firstPart) throws IOException, SQLException {
+    ExecutorService pool = Executors.newFixedThreadPool(count);
+    List<Future<Long>> results = new ArrayList<Future<Long>>();
+    try {
+      for (int s = 0; s < count; s++) {
+        final long lo = minId + (maxId - minId + 1) * s / count;
+        final long hi = minId + (maxId - minId + 1) * (s + 1) / count - 1;
+        final Path file = new Path(staging, partName(firstPart + s));
+        results.add(pool.submit(new Callable<Long>() {
+          @Override
+          public Long call() throws IOException, SQLException {
+            return extractSlice(lo, hi, fs, file);
+          }
+        }));
+      }
+      long rows = 0;
+      for (Future<Long> result : results) {
+        rows += await(result);
+      }
+      return rows;
+    } finally {
+      // After a failure the other slices are still running; stop them and
+      // wait, so that none of them writes once this method has returned.
+      for (Future<Long> result : results) {
+        result.cancel(true);
+      }
+      pool.shutdownNow();
+      awaitTermination(pool);
+    }
+  }
+
+  /** The smallest and largest id of the rows to read, or null when there are none. */
+  public long[] idBounds() throws SQLException {
+    Connection connection = factory.open();
+    try {
+      PreparedStatement statement = connection.prepareStatement(
+          "SELECT MIN(id), MAX(id) FROM " + tableName + (where == null ? "" : " WHERE " + where));
+      try {
+        bindWhere(statement, 1);
+        ResultSet rs = statement.executeQuery();
+        rs.next();
+        long min = rs.getLong(1);
+        return rs.wasNull() ? null : new long[] {min, rs.getLong(2)};
+      } finally {
+        statement.close();
+      }
+    } finally {
+      connection.close();
+    }
+  }
+
+  private long extractSlice(long lo, long hi, FileSystem fs, Path file)
+      throws IOException, SQLException {
+    long rows = 0;
+    DataFileWriter<PrimitiveAccident> out =
+        new DataFileWriter<PrimitiveAccident>(new AccidentAvroCodec.PrimitiveWriter());
+    out.setCodec(codec);
+    out.create(AccidentAvroCodec.SCHEMA, fs.create(file, false));
+    boolean done = false;
+    try {
+      Connection connection = factory.open();
+      try {
+        connection.setAutoCommit(false);
+        connection.setReadOnly(true);
+        PreparedStatement statement = connection.prepareStatement(selectSql(),
+            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        try {
+          statement.setFetchSize(fetchSize);
+          statement.setLong(1, lo);
+          statement.setLong(2, hi);
+          bindWhere(statement, 3);
+          ResultSet rs = statement.executeQuery();
+          PrimitiveAccident record = new PrimitiveAccident();
+          while (rs.next()) {
+            if (Thread.currentThread().isInterrupted()) {
+              throw new InterruptedIOException("Slice " + lo + ".." + hi + " cancelled");
+            }
+            record.readFields(rs);
+            out.append(record);
+            rows++;
+          }
+          rs.close();
+        } finally {
+          statement.close();
+        }
+        connection.commit();
+      } finally {
+        connection.close();
+      }
+      done = true;
+    } finally {
+      out.close();
+      if (!done) {
+        fs.delete(file, false);
+      }
+    }
+    return rows;
+  }
+
+  private String selectSql() {
+    StringBuilder sb = new StringBuilder("SELECT ");
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      if (f > 0) {
+        sb.append(", ");
+      }
+      sb.append(AccidentSchema.name(f));
+    }
+    sb.append(" FROM ").append(tableName).append(" WHERE id >= ? AND id <= ?");
+    if (where != null) {
+      sb.append(" AND (").append(where).append(')');
+    }
+    return sb.toString();
+  }
+
+  private void bindWhere(PreparedStatement statement, int first) throws SQLException {
+    if (where != null) {
+      for (int i = 0; i < whereParameters.length; i++) {
+        statement.setObject(first + i, whereParameters[i]);
+      }
+    }
+  }
+
+  private static String partName(int part) {
+    return String.format("part-m-%05d.avro", part);
+  }
+
+  /** One past the highest part number in {@code dir}. */
+  private static int nextPart(FileSystem fs, Path dir) throws IOException {
+    int next = 0;
+    for (FileStatus status : fs.listStatus(dir)) {
+      Matcher m = PART_NAME.matcher(status.getPath().getName());
+      if (m.matches()) {
+        next = Math.max(next, Integer.parseInt(m.group(1)) + 1);
+      }
+    }
+    return next;
+  }
+
+  private static void awaitTermination(ExecutorService pool) {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        if (pool.awaitTermination(1, TimeUnit.MINUTES)) {
+          break;
+        }
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static long await(Future<Long> result) throws IOException, SQLException {
+    try {
+      return result.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while extracting", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof SQLException) {
+        throw (SQLException) cause;
+      }
+      throw new IOException("Extraction failed", cause);
+    }
+  }
+
+  /** Usage: {@code <jdbc-url> <user> <password-file> <dir> [slices]}. */
+  public static void main(String[] args) throws Exception {
+    if (args.length != 4 && args.length != 5) {
+      System.err.println("Usage: AccidentJdbcExtractor <jdbc-url> <user> <password-file> <dir> [slices]");
+      System.exit(2);
+    }
+    BufferedReader reader = new BufferedReader(new FileReader(args[2]));
+    String password;
+    try {
+      password = reader.readLine();
+    } finally {
+      reader.close();
+    }
+    AccidentJdbcExtractor extractor =
+        new AccidentJdbcExtractor(AccidentJdbcWriter.forUrl(args[0], args[1], password));
+    if (args.length == 5) {
+      extractor.setSlices(Integer.parseInt(args[4]));
+    }
+    System.out.println("Extracted " + extractor.extract(new Path(args[3])) + " rows");
+  }
+}
@@ -0,0 +1,271 @@
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Bulk inserts of us_accidents records over several JDBC connections.
+ * <p>
+ * Records are split by {@code id} into as many contiguous ranges as there
+ * are connections, so each connection fills its own part of the primary key
+ * index. Every connection runs a multi-row
+ * {@code INSERT ... VALUES (...), (...)} statement, with each row bound by
+ * {@code us_accidents.write(PreparedStatement, int)} at its parameter
+ * offset. The statements are grouped with {@code addBatch} and committed
+ * once per {@code executeBatch}, so a failure can leave earlier batches in
+ * place, as with Sqoop's batched export.
+ * <p>
+ * The id range comes from {@link #setIdRange} or from a first pass over the
+ * records. Records are handed to other threads as they are, so the
+ * iterable must not reuse one instance for several rows.
+ */
+public class AccidentJdbcWriter {
+
+  public static final int DEFAULT_CONNECTIONS = 4;
+  public static final int DEFAULT_ROWS_PER_STATEMENT = 100;
+  public static final int DEFAULT_STATEMENTS_PER_BATCH = 10;
+
+  /** PostgreSQL's limit on bind parameters in one statement. */
+  private static final int MAX_PARAMETERS = 32767;
+  /** Chunks waiting per connection before the producer blocks. */
+  private static final int QUEUE_DEPTH = 4;
+  private static final List<us_accidents> END = new ArrayList<us_accidents>(0);
+
+  /** Opens the connections the writer inserts through. */
+  public interface ConnectionFactory {
+    Connection open() throws SQLException;
+  }
+
+  private final ConnectionFactory factory;
+  private int connections = DEFAULT_CONNECTIONS;
+  private int rowsPerStatement = DEFAULT_ROWS_PER_STATEMENT;
+  private int statementsPerBatch = DEFAULT_STATEMENTS_PER_BATCH;
+  private String tableName = "us_accidents";
+  private boolean idRangeSet;
+  private long minId;
+  private long maxId;
+  private volatile boolean failed;
+
+  public AccidentJdbcWriter(ConnectionFactory factory) {
+    this.factory = factory;
+  }
+
+  /** Connects through {@link DriverManager}. */
+  public static ConnectionFactory forUrl(final String url, final String user,
+      final String password) {
+    return new ConnectionFactory() {
+      @Override
+      public Connection open() throws SQLException {
+        return DriverManager.getConnection(url, user, password);
+      }
+    };
+  }
+
+  /** Number of connections, and of id ranges, used by one {@link #write}. */
+  public void setConnections(int connections) {
+    this.connections = connections;
+  }
+
+  /** Rows per INSERT statement; capped so that the parameters stay under 32767. */
+  public void setRowsPerStatement(int rowsPerStatement) {
+    this.rowsPerStatement = rowsPerStatement;
+  }
+
+  /** Statements per {@code executeBatch} and commit. */
+  public void setStatementsPerBatch(int statementsPerBatch) {
+    this.statementsPerBatch = statementsPerBatch;
+  }
+
+  public void setTableName(String tableName) {
+    this.tableName = tableName;
+  }
+
+  /** Bounds of the ids to split, inclusive; saves the first pass over the records. */
+  public void setIdRange(long minId, long maxId) {
+    this.minId = minId;
+    this.maxId = maxId;
+    this.idRangeSet = true;
+  }
+
+  /** Inserts all records and returns how many were written. */
+  public long write(Iterable<us_accidents> records) throws SQLException {
+    long lo = minId;
+    long hi = maxId;
+    if (!idRangeSet) {
+      lo = Long.MAX_VALUE;
+      hi = Long.MIN_VALUE;
+      for (us_accidents record : records) {
+        Integer id = record.get_id();
+        if (id != null) {
+          lo = Math.min(lo, id);
+          hi = Math.max(hi, id);
+        }
+      }
+      if (lo > hi) {
+        lo = 0;
+        hi = 0;
+      }
+    }
+    final int rows = Math.max(1, Math.min(rowsPerStatement,
+        MAX_PARAMETERS / AccidentSchema.FIELD_COUNT));
+    int partitions = Math.max(1, connections);
+    failed = false;
+    ExecutorService pool = Executors.newFixedThreadPool(partitions);
+    try {
+      List<BlockingQueue<List<us_accidents>>> queues =
+          new ArrayList<BlockingQueue<List<us_accidents>>>();
+      List<Future<Long>> results = new ArrayList<Future<Long>>();
+      for (int p = 0; p < partitions; p++) {
+        final BlockingQueue<List<us_accidents>> queue =
+            new ArrayBlockingQueue<List<us_accidents>>(QUEUE_DEPTH);
+        queues.add(queue);
+        results.add(pool.submit(new Callable<Long>() {
+          @Override
+          public Long call() throws SQLException, InterruptedException {
+            return insert(queue, rows);
+          }
+        }));
+      }
+      List<List<us_accidents>> pending = new ArrayList<List<us_accidents>>();
+      for (int p = 0; p < partitions; p++) {
+        pending.add(new ArrayList<us_accidents>(rows));
+      }
+      double width = ((double) hi - lo + 1) / partitions;
+      for (us_accidents record : records) {
+        if (failed) {
+          break;
+        }
+        Integer id = record.get_id();
+        int p = id == null ? 0 : (int) Math.max(0, Math.min(partitions - 1, (id - lo) / width));
+        List<us_accidents> chunk = pending.get(p);
+        chunk.add(record);
+        if (chunk.size() == rows) {
+          queues.get(p).put(chunk);
+          pending.set(p, new ArrayList<us_accidents>(rows));
+        }
+      }
+      for (int p = 0; p < partitions; p++) {
+        if (!pending.get(p).isEmpty() && !failed) {
+          queues.get(p).put(pending.get(p));
+        }
+        queues.get(p).put(END);
+      }
+      long written = 0;
+      for (Future<Long> result : results) {
+        written += result.get();
+      }
+      return written;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while writing " + tableName, e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof SQLException) {
+        throw (SQLException) cause;
+      }
+      throw new SQLException("Failed to write " + tableName, cause);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /** Inserts the chunks of one id range on its own connection. */
+  private long insert(BlockingQueue<List<us_accidents>> queue, int rows)
+      throws SQLException, InterruptedException {
+    long written = 0;
+    try {
+      Connection connection = factory.open();
+      try {
+        connection.setAutoCommit(false);
+        PreparedStatement statement = connection.prepareStatement(insertSql(rows));
+        try {
+          int batched = 0;
+          for (List<us_accidents> chunk = queue.take(); chunk != END; chunk = queue.take()) {
+            if (chunk.size() == rows) {
+              bind(statement, chunk);
+              statement.addBatch();
+              if (++batched == statementsPerBatch) {
+                statement.executeBatch();
+                connection.commit();
+                batched = 0;
+              }
+            } else {
+              PreparedStatement tail = connection.prepareStatement(insertSql(chunk.size()));
+              try {
+                bind(tail, chunk);
+                tail.executeUpdate();
+              } finally {
+                tail.close();
+              }
+            }
+            written += chunk.size();
+          }
+          if (batched > 0) {
+            statement.executeBatch();
+          }
+          connection.commit();
+        } finally {
+          statement.close();
+        }
+      } catch (SQLException | RuntimeException e) {
+        try {
+          connection.rollback();
+        } catch (SQLException suppressed) {
+          e.addSuppressed(suppressed);
+        }
+        throw e;
+      } finally {
+        connection.close();
+      }
+    } catch (SQLException | RuntimeException e) {
+      // Whatever went wrong, keep taking chunks so the producer cannot block.
+      failed = true;
+      drain(queue);
+      throw e;
+    }
+    return written;
+  }
+
+  /** Discards chunks until the end marker so the producer never blocks on a dead range. */
+  private static void drain(BlockingQueue<List<us_accidents>> queue) throws InterruptedException {
+    while (queue.take() != END) {
+      // discard
+    }
+  }
+
+  private static void bind(PreparedStatement statement, List<us_accidents> chunk)
+      throws SQLException {
+    int offset = 0;
+    for (us_accidents record : chunk) {
+      offset += record.write(statement, offset);
+    }
+  }
+
+  private String insertSql(int rows) {
+    StringBuilder sb = new StringBuilder("INSERT INTO ").append(tableName).append(" (");
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      if (f > 0) {
+        sb.append(", ");
+      }
+      sb.append(AccidentSchema.name(f));
+    }
+    sb.append(") VALUES ");
+    for (int r = 0; r < rows; r++) {
+      sb.append(r == 0 ? "(" : ", (");
+      for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+        sb.append(f == 0 ? "?" : ", ?");
+      }
+      sb.append(')');
+    }
+    return sb.toString();
+  }
+}
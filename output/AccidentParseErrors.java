@@ -0,0 +1,174 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Error accounting for tolerant bulk parsing.
+ * <p>
+ * When one of these is handed to {@code us_accidents.setParseErrors},
+ * {@link AccidentCsvIngester#setParseErrors} or
+ * {@link AccidentTextParser#load(PrimitiveAccident, long, AccidentParseErrors)},
+ * a value that does not parse no longer aborts the load. Depending on the
+ * {@link Policy} the cell becomes null, or the whole record is quarantined,
+ * meaning it is counted and sampled here and then dropped. Per-column counts
+ * are atomic counters and the sample keeps the first
+ * {@link #getSampleCapacity()} rejected lines in a fixed array, so any
+ * number of parsing threads can share one instance without locking.
+ */
+public class AccidentParseErrors {
+
+  public static final int DEFAULT_SAMPLE_CAPACITY = 100;
+
+  /** Longest sampled line kept, in characters. */
+  private static final int MAX_SAMPLE_LENGTH = 4096;
+
+  /** What happens to a record with a value that does not parse. */
+  public enum Policy {
+    /** Load the record with the bad values set to null. */
+    NULL_VALUES,
+    /** Drop the whole record. */
+    QUARANTINE
+  }
+
+  private final Policy policy;
+  private final AtomicLongArray columnErrors = new AtomicLongArray(AccidentSchema.FIELD_COUNT);
+  private final AtomicLong rejectedRecords = new AtomicLong();
+  private final AtomicLong malformedRecords = new AtomicLong();
+  private final AtomicReferenceArray<String> samples;
+  private final AtomicInteger sampled = new AtomicInteger();
+
+  public AccidentParseErrors() {
+    this(Policy.NULL_VALUES, DEFAULT_SAMPLE_CAPACITY);
+  }
+
+  public AccidentParseErrors(Policy policy) {
+    this(policy, DEFAULT_SAMPLE_CAPACITY);
+  }
+
+  public AccidentParseErrors(Policy policy, int sampleCapacity) {
+    this.policy = policy;
+    this.samples = new AtomicReferenceArray<String>(sampleCapacity);
+  }
+
+  public Policy getPolicy() {
+    return policy;
+  }
+
+  /** Whether records with bad values are dropped rather than loaded with nulls. */
+  public boolean isQuarantine() {
+    return policy == Policy.QUARANTINE;
+  }
+
+  /** Counts a record whose {@code failed} columns did not parse, and samples it. */
+  public void reject(long failed, AccidentTextParser record) {
+    rejectedRecords.incrementAndGet();
+    for (long bits = failed; bits != 0; bits &= bits - 1) {
+      columnErrors.incrementAndGet(Long.numberOfTrailingZeros(bits));
+    }
+    int slot = claimSample();
+    if (slot >= 0) {
+      samples.set(slot, describe(failed) + ": " + truncate(record.getRecordText()));
+    }
+  }
+
+  /** Counts a record that could not even be split into fields, and samples it. */
+  public void reject(String reason, CharSequence line) {
+    rejectedRecords.incrementAndGet();
+    malformedRecords.incrementAndGet();
+    int slot = claimSample();
+    if (slot >= 0) {
+      samples.set(slot, reason + ": " + truncate(line));
+    }
+  }
+
+  private int claimSample() {
+    if (sampled.get() >= samples.length()) {
+      return -1;
+    }
+    int slot = sampled.getAndIncrement();
+    return slot < samples.length() ? slot : -1;
+  }
+
+  private static String describe(long failed) {
+    StringBuilder sb = new StringBuilder();
+    for (long bits = failed; bits != 0; bits &= bits - 1) {
+      if (sb.length() > 0) {
+        sb.append(',');
+      }
+      sb.append(AccidentSchema.name(Long.numberOfTrailingZeros(bits)));
+    }
+    return sb.toString();
+  }
+
+  private static String truncate(CharSequence line) {
+    return line.length() <= MAX_SAMPLE_LENGTH
+        ? line.toString()
+        : line.subSequence(0, MAX_SAMPLE_LENGTH) + "...";
+  }
+
+  /** Number of values of a column that did not parse. */
+  public long getErrorCount(int field) {
+    return columnErrors.get(field);
+  }
+
+  /** Per-column error counts, indexed by {@link AccidentSchema} field. */
+  public long[] getErrorCounts() {
+    long[] counts = new long[AccidentSchema.FIELD_COUNT];
+    for (int f = 0; f < counts.length; f++) {
+      counts[f] = columnErrors.get(f);
+    }
+    return counts;
+  }
+
+  /** Records with at least one bad value, including malformed ones. */
+  public long getRejectedCount() {
+    return rejectedRecords.get();
+  }
+
+  /** Records that could not be split into fields at all. */
+  public long getMalformedCount() {
+    return malformedRecords.get();
+  }
+
+  public boolean hasErrors() {
+    return rejectedRecords.get() != 0;
+  }
+
+  public int getSampleCapacity() {
+    return samples.length();
+  }
+
+  /** The first rejected lines, each prefixed with the failed columns or the reason. */
+  public List<String> getSamples() {
+    int count = Math.min(sampled.get(), samples.length());
+    List<String> result = new ArrayList<String>(count);
+    for (int i = 0; i < count; i++) {
+      String sample = samples.get(i);
+      if (sample != null) {
+        result.add(sample);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append(rejectedRecords.get()).append(" rejected records");
+    if (malformedRecords.get() != 0) {
+      sb.append(" (").append(malformedRecords.get()).append(" malformed)");
+    }
+    String separator = ": ";
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      long count = columnErrors.get(f);
+      if (count != 0) {
+        sb.append(separator).append(AccidentSchema.name(f)).append('=').append(count);
+        separator = ", ";
+      }
+    }
+    return sb.toString();
+  }
+}
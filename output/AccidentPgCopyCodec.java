@@ -0,0 +1,728 @@
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyInputStream;
+import org.postgresql.copy.PGCopyOutputStream;
+
+/**
+ * Encoder and decoder for PostgreSQL's binary {@code COPY} format, laid out
+ * as the us_accidents table of {@code sql/create_tables.sql}.
+ * <p>
+ * Each column travels in the server's own binary representation: big-endian
+ * {@code int4} for {@code id}, {@code int2} for {@code severity},
+ * {@code float8} for the doubles, one byte for booleans, UTF-8 bytes for the
+ * character columns, and {@code timestamp} as microseconds since
+ * 2000-01-01 00:00 wall-clock time. Neither side formats or parses text.
+ * Timestamps are taken to be in the JVM default time zone on both sides,
+ * as the JDBC driver does for {@code timestamp without time zone}.
+ * <p>
+ * {@link #copyIn} and {@link #copyOut} open the stream on a PostgreSQL
+ * connection. The classes also work on files or any other stream:
+ * <pre>
+ *   try (AccidentPgCopyCodec.Encoder out = AccidentPgCopyCodec.copyIn(connection)) {
+ *     for (us_accidents record : records) {
+ *       out.write(record);
+ *     }
+ *   }
+ * </pre>
+ * The {@code main} method loads the dataset CSV this way and unloads the
+ * table to a file.
+ */
+public final class AccidentPgCopyCodec {
+
+  public static final String COPY_IN_SQL = "COPY us_accidents FROM STDIN WITH (FORMAT binary)";
+  public static final String COPY_OUT_SQL = "COPY us_accidents TO STDOUT WITH (FORMAT binary)";
+
+  private static final byte[] SIGNATURE = {
+    'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0
+  };
+  /** Header flag bit saying that every tuple starts with an OID. */
+  private static final int FLAG_OIDS = 1 << 16;
+
+  /** 2000-01-01T00:00, the PostgreSQL epoch, in seconds since 1970-01-01T00:00. */
+  private static final long PG_EPOCH_SECOND = 946684800L;
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private static final int KIND_INT4 = 0;
+  private static final int KIND_INT2 = 1;
+  private static final int KIND_FLOAT8 = 2;
+  private static final int KIND_TIMESTAMP = 3;
+  private static final int KIND_BOOL = 4;
+  private static final int KIND_TEXT = 5;
+
+  private static final int[] KIND = new int[AccidentSchema.FIELD_COUNT];
+
+  static {
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      switch (AccidentSchema.type(f)) {
+      case AccidentSchema.TYPE_INT:
+        KIND[f] = f == AccidentSchema.SEVERITY ? KIND_INT2 : KIND_INT4;
+        break;
+      case AccidentSchema.TYPE_DOUBLE:
+        KIND[f] = KIND_FLOAT8;
+        break;
+      case AccidentSchema.TYPE_TIMESTAMP:
+        KIND[f] = KIND_TIMESTAMP;
+        break;
+      case AccidentSchema.TYPE_BOOLEAN:
+        KIND[f] = KIND_BOOL;
+        break;
+      default:
+        KIND[f] = KIND_TEXT;
+        break;
+      }
+    }
+  }
+
+  private AccidentPgCopyCodec() {
+  }
+
+  /** Starts {@link #COPY_IN_SQL} on a PostgreSQL connection; closing the encoder ends it. */
+  public static Encoder copyIn(Connection connection) throws SQLException, IOException {
+    return new Encoder(new PGCopyOutputStream(connection.unwrap(PGConnection.class),
+        COPY_IN_SQL, BUFFER_SIZE));
+  }
+
+  /** Starts {@link #COPY_OUT_SQL} on a PostgreSQL connection. */
+  public static Decoder copyOut(Connection connection) throws SQLException, IOException {
+    return new Decoder(new PGCopyInputStream(connection.unwrap(PGConnection.class),
+        COPY_OUT_SQL));
+  }
+
+  /** Writes records in binary COPY format: the header now, the trailer on {@link #finish()}. */
+  public static class Encoder implements Closeable {
+
+    private final OutputStream out;
+    private final ZoneOffsetCache offsets = new ZoneOffsetCache();
+    private byte[] buf = new byte[BUFFER_SIZE];
+    private int count;
+    private long rows;
+    private boolean finished;
+
+    public Encoder(OutputStream out) throws IOException {
+      this.out = out;
+      ensure(SIGNATURE.length + 8);
+      System.arraycopy(SIGNATURE, 0, buf, 0, SIGNATURE.length);
+      count = SIGNATURE.length;
+      putInt(0);
+      putInt(0);
+    }
+
+    /** Number of records written so far. */
+    public long getRowCount() {
+      return rows;
+    }
+
+    public void write(us_accidents record) throws IOException {
+      ensure(2);
+      putShort(AccidentSchema.FIELD_COUNT);
+      writeInt4(record.get_id());
+      writeText(record.get_id_str());
+      writeText(record.get_source());
+      writeInt2(record.get_severity());
+      writeTimestamp(record.get_start_time());
+      writeTimestamp(record.get_end_time());
+      writeFloat8(record.get_start_lat());
+      writeFloat8(record.get_start_lng());
+      writeFloat8(record.get_end_lat());
+      writeFloat8(record.get_end_lng());
+      writeFloat8(record.get_distance_mi());
+      writeText(record.get_description());
+      writeText(record.get_street());
+      writeText(record.get_city());
+      writeText(record.get_county());
+      writeText(record.get_state());
+      writeText(record.get_zipcode());
+      writeText(record.get_country());
+      writeText(record.get_timezone());
+      writeText(record.get_airport_code());
+      writeTimestamp(record.get_weather_timestamp());
+      writeFloat8(record.get_temperature_f());
+      writeFloat8(record.get_wind_chill_f());
+      writeFloat8(record.get_humidity_percent());
+      writeFloat8(record.get_pressure_in());
+      writeFloat8(record.get_visibility_mi());
+      writeText(record.get_wind_direction());
+      writeFloat8(record.get_wind_speed_mph());
+      writeFloat8(record.get_precipitation_in());
+      writeText(record.get_weather_condition());
+      writeBool(record.get_amenity());
+      writeBool(record.get_bump());
+      writeBool(record.get_crossing());
+      writeBool(record.get_give_way());
+      writeBool(record.get_junction());
+      writeBool(record.get_no_exit());
+      writeBool(record.get_railway());
+      writeBool(record.get_roundabout());
+      writeBool(record.get_station());
+      writeBool(record.get_stop());
+      writeBool(record.get_traffic_calming());
+      writeBool(record.get_traffic_signal());
+      writeBool(record.get_turning_loop());
+      writeText(record.get_sunrise_sunset());
+      writeText(record.get_civil_twilight());
+      writeText(record.get_nautical_twilight());
+      writeText(record.get_astronomical_twilight());
+      endTuple();
+    }
+
+    public void write(PrimitiveAccident record) throws IOException {
+      ensure(2);
+      putShort(AccidentSchema.FIELD_COUNT);
+      for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+        if (record.isNull(f)) {
+          writeNull();
+          continue;
+        }
+        switch (KIND[f]) {
+        case KIND_INT4:
+          ensure(8);
+          putInt(4);
+          putInt(record.getInt(f));
+          break;
+        case KIND_INT2:
+          ensure(6);
+          putInt(2);
+          putShort(record.getInt(f));
+          break;
+        case KIND_FLOAT8:
+          ensure(12);
+          putInt(8);
+          putLong(Double.doubleToLongBits(record.getDouble(f)));
+          break;
+        case KIND_TIMESTAMP:
+          long micros = record.getMicros(f);
+          writeTimestamp(Math.floorDiv(micros, 1000000L), Math.floorMod(micros, 1000000L));
+          break;
+        case KIND_BOOL:
+          ensure(5);
+          putInt(1);
+          buf[count++] = (byte) (record.getBoolean(f) ? 1 : 0);
+          break;
+        default:
+          writeText(record.getString(f));
+          break;
+        }
+      }
+      endTuple();
+    }
+
+    /** Writes the trailer and flushes, leaving the stream open. */
+    public void finish() throws IOException {
+      if (!finished) {
+        ensure(2);
+        putShort(-1);
+        finished = true;
+      }
+      out.write(buf, 0, count);
+      count = 0;
+      out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        finish();
+      } finally {
+        out.close();
+      }
+    }
+
+    private void endTuple() throws IOException {
+      rows++;
+      if (count >= BUFFER_SIZE) {
+        out.write(buf, 0, count);
+        count = 0;
+      }
+    }
+
+    private void writeNull() {
+      ensure(4);
+      putInt(-1);
+    }
+
+    private void writeInt4(Integer value) {
+      if (value == null) {
+        writeNull();
+      } else {
+        ensure(8);
+        putInt(4);
+        putInt(value.intValue());
+      }
+    }
+
+    private void writeInt2(Integer value) {
+      if (value == null) {
+        writeNull();
+      } else {
+        ensure(6);
+        putInt(2);
+        putShort(value.intValue());
+      }
+    }
+
+    private void writeFloat8(Double value) {
+      if (value == null) {
+        writeNull();
+      } else {
+        ensure(12);
+        putInt(8);
+        putLong(Double.doubleToLongBits(value.doubleValue()));
+      }
+    }
+
+    private void writeBool(Boolean value) {
+      if (value == null) {
+        writeNull();
+      } else {
+        ensure(5);
+        putInt(1);
+        buf[count++] = (byte) (value.booleanValue() ? 1 : 0);
+      }
+    }
+
+    private void writeTimestamp(Timestamp value) {
+      if (value == null) {
+        writeNull();
+      } else {
+        writeTimestamp(Math.floorDiv(value.getTime(), 1000L), value.getNanos() / 1000);
+      }
+    }
+
+    private void writeTimestamp(long epochSecond, long micros) {
+      ensure(12);
+      putInt(8);
+      putLong((offsets.toLocal(epochSecond) - PG_EPOCH_SECOND) * 1000000L + micros);
+    }
+
+    private void writeText(String value) {
+      if (value == null) {
+        writeNull();
+        return;
+      }
+      int length = value.length();
+      ensure(4 + length * 3);
+      int start = count + 4;
+      int pos = start;
+      for (int i = 0; i < length; i++) {
+        char c = value.charAt(i);
+        if (c < 0x80) {
+          buf[pos++] = (byte) c;
+        } else if (c < 0x800) {
+          buf[pos++] = (byte) (0xc0 | (c >> 6));
+          buf[pos++] = (byte) (0x80 | (c & 0x3f));
+        } else if (Character.isHighSurrogate(c) && i + 1 < length
+            && Character.isLowSurrogate(value.charAt(i + 1))) {
+          int codePoint = Character.toCodePoint(c, value.charAt(++i));
+          buf[pos++] = (byte) (0xf0 | (codePoint >> 18));
+          buf[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+          buf[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+          buf[pos++] = (byte) (0x80 | (codePoint & 0x3f));
+        } else if (Character.isSurrogate(c)) {
+          buf[pos++] = '?';
+        } else {
+          buf[pos++] = (byte) (0xe0 | (c >> 12));
+          buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+          buf[pos++] = (byte) (0x80 | (c & 0x3f));
+        }
+      }
+      putInt(pos - start);
+      count = pos;
+    }
+
+    private void putShort(int value) {
+      buf[count++] = (byte) (value >>> 8);
+      buf[count++] = (byte) value;
+    }
+
+    private void putInt(int value) {
+      buf[count++] = (byte) (value >>> 24);
+      buf[count++] = (byte) (value >>> 16);
+      buf[count++] = (byte) (value >>> 8);
+      buf[count++] = (byte) value;
+    }
+
+    private void putLong(long value) {
+      putInt((int) (value >>> 32));
+      putInt((int) value);
+    }
+
+    private void ensure(int extra) {
+      if (count + extra > buf.length) {
+        buf = Arrays.copyOf(buf, Math.max(buf.length * 2, count + extra));
+      }
+    }
+  }
+
+  /** Reads records in binary COPY format, checking the header on construction. */
+  public static class Decoder implements Closeable {
+
+    private final InputStream in;
+    private final TimestampDecoder timestamps = new TimestampDecoder();
+    private byte[] buf = new byte[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private boolean done;
+
+    public Decoder(InputStream in) throws IOException {
+      this.in = in;
+      require(SIGNATURE.length + 8);
+      for (int i = 0; i < SIGNATURE.length; i++) {
+        if (buf[pos++] != SIGNATURE[i]) {
+          throw new IOException("Not a PostgreSQL binary COPY stream");
+        }
+      }
+      int flags = getInt();
+      if ((flags & FLAG_OIDS) != 0) {
+        throw new IOException("Binary COPY with OIDs is not supported");
+      }
+      int extension = getInt();
+      require(extension);
+      pos += extension;
+    }
+
+    /** Reads the next record into {@code reuse}; false at the end of the data. */
+    public boolean read(us_accidents reuse) throws IOException {
+      if (!beginTuple()) {
+        return false;
+      }
+      reuse.set_id(readInt4());
+      reuse.set_id_str(readText(AccidentSchema.ID_STR));
+      reuse.set_source(readText(AccidentSchema.SOURCE));
+      reuse.set_severity(readInt2());
+      reuse.set_start_time(readTimestamp());
+      reuse.set_end_time(readTimestamp());
+      reuse.set_start_lat(readFloat8());
+      reuse.set_start_lng(readFloat8());
+      reuse.set_end_lat(readFloat8());
+      reuse.set_end_lng(readFloat8());
+      reuse.set_distance_mi(readFloat8());
+      reuse.set_description(readText(AccidentSchema.DESCRIPTION));
+      reuse.set_street(readText(AccidentSchema.STREET));
+      reuse.set_city(readText(AccidentSchema.CITY));
+      reuse.set_county(readText(AccidentSchema.COUNTY));
+      reuse.set_state(readText(AccidentSchema.STATE));
+      reuse.set_zipcode(readText(AccidentSchema.ZIPCODE));
+      reuse.set_country(readText(AccidentSchema.COUNTRY));
+      reuse.set_timezone(readText(AccidentSchema.TIMEZONE));
+      reuse.set_airport_code(readText(AccidentSchema.AIRPORT_CODE));
+      reuse.set_weather_timestamp(readTimestamp());
+      reuse.set_temperature_f(readFloat8());
+      reuse.set_wind_chill_f(readFloat8());
+      reuse.set_humidity_percent(readFloat8());
+      reuse.set_pressure_in(readFloat8());
+      reuse.set_visibility_mi(readFloat8());
+      reuse.set_wind_direction(readText(AccidentSchema.WIND_DIRECTION));
+      reuse.set_wind_speed_mph(readFloat8());
+      reuse.set_precipitation_in(readFloat8());
+      reuse.set_weather_condition(readText(AccidentSchema.WEATHER_CONDITION));
+      reuse.set_amenity(readBool());
+      reuse.set_bump(readBool());
+      reuse.set_crossing(readBool());
+      reuse.set_give_way(readBool());
+      reuse.set_junction(readBool());
+      reuse.set_no_exit(readBool());
+      reuse.set_railway(readBool());
+      reuse.set_roundabout(readBool());
+      reuse.set_station(readBool());
+      reuse.set_stop(readBool());
+      reuse.set_traffic_calming(readBool());
+      reuse.set_traffic_signal(readBool());
+      reuse.set_turning_loop(readBool());
+      reuse.set_sunrise_sunset(readText(AccidentSchema.SUNRISE_SUNSET));
+      reuse.set_civil_twilight(readText(AccidentSchema.CIVIL_TWILIGHT));
+      reuse.set_nautical_twilight(readText(AccidentSchema.NAUTICAL_TWILIGHT));
+      reuse.set_astronomical_twilight(readText(AccidentSchema.ASTRONOMICAL_TWILIGHT));
+      return true;
+    }
+
+    /** Reads the next record into {@code reuse}; false at the end of the data. */
+    public boolean read(PrimitiveAccident reuse) throws IOException {
+      if (!beginTuple()) {
+        return false;
+      }
+      for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+        int length = fieldLength();
+        if (length < 0) {
+          reuse.setNull(f);
+          continue;
+        }
+        switch (KIND[f]) {
+        case KIND_INT4:
+          checkLength(length, 4);
+          reuse.setInt(f, getInt());
+          break;
+        case KIND_INT2:
+          checkLength(length, 2);
+          reuse.setInt(f, getShort());
+          break;
+        case KIND_FLOAT8:
+          checkLength(length, 8);
+          reuse.setDouble(f, Double.longBitsToDouble(getLong()));
+          break;
+        case KIND_TIMESTAMP:
+          checkLength(length, 8);
+          long pgMicros = getLong();
+          long epochSecond = toEpochSecond(pgMicros);
+          reuse.setMicros(f, epochSecond * 1000000L + Math.floorMod(pgMicros, 1000000L));
+          break;
+        case KIND_BOOL:
+          checkLength(length, 1);
+          reuse.setBoolean(f, buf[pos++] != 0);
+          break;
+        default:
+          reuse.setString(f, getText(f, length));
+          break;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+      in.close();
+    }
+
+    private boolean beginTuple() throws IOException {
+      if (done) {
+        return false;
+      }
+      require(2);
+      int fields = getShort();
+      if (fields == -1) {
+        done = true;
+        return false;
+      }
+      if (fields != AccidentSchema.FIELD_COUNT) {
+        throw new IOException("Expected " + AccidentSchema.FIELD_COUNT + " columns, got " + fields);
+      }
+      return true;
+    }
+
+    /** Reads a field length and makes the field available; -1 for null. */
+    private int fieldLength() throws IOException {
+      require(4);
+      int length = getInt();
+      if (length > 0) {
+        require(length);
+      }
+      return length;
+    }
+
+    private static void checkLength(int length, int expected) throws IOException {
+      if (length != expected) {
+        throw new IOException("Expected a " + expected + "-byte value, got " + length);
+      }
+    }
+
+    private Integer readInt4() throws IOException {
+      int length = fieldLength();
+      if (length < 0) {
+        return null;
+      }
+      checkLength(length, 4);
+      return Integer.valueOf(getInt());
+    }
+
+    private Integer readInt2() throws IOException {
+      int length = fieldLength();
+      if (length < 0) {
+        return null;
+      }
+      checkLength(length, 2);
+      return Integer.valueOf(getShort());
+    }
+
+    private Double readFloat8() throws IOException {
+      int length = fieldLength();
+      if (length < 0) {
+        return null;
+      }
+      checkLength(length, 8);
+      return Double.valueOf(Double.longBitsToDouble(getLong()));
+    }
+
+    private Boolean readBool() throws IOException {
+      int length = fieldLength();
+      if (length < 0) {
+        return null;
+      }
+      checkLength(length, 1);
+      return Boolean.valueOf(buf[pos++] != 0);
+    }
+
+    private Timestamp readTimestamp() throws IOException {
+      int length = fieldLength();
+      if (length < 0) {
+        return null;
+      }
+      checkLength(length, 8);
+      long pgMicros = getLong();
+      Timestamp value = new Timestamp(toEpochSecond(pgMicros) * 1000L);
+      value.setNanos((int) Math.floorMod(pgMicros, 1000000L) * 1000);
+      return value;
+    }
+
+    private String readText(int field) throws IOException {
+      int length = fieldLength();
+      return length < 0 ? null : getText(field, length);
+    }
+
+    private String getText(int field, int length) {
+      String value = AccidentDictionary.isEncoded(field)
+          ? AccidentDictionary.lookup(field, buf, pos, length)
+          : null;
+      if (value == null) {
+        value = new String(buf, pos, length, StandardCharsets.UTF_8);
+      }
+      pos += length;
+      return value;
+    }
+
+    private long toEpochSecond(long pgMicros) throws IOException {
+      if (pgMicros == Long.MAX_VALUE || pgMicros == Long.MIN_VALUE) {
+        throw new IOException("Infinite timestamps are not supported");
+      }
+      return timestamps.toEpochSecond(Math.floorDiv(pgMicros, 1000000L) + PG_EPOCH_SECOND);
+    }
+
+    private int getShort() {
+      return (short) (((buf[pos++] & 0xff) << 8) | (buf[pos++] & 0xff));
+    }
+
+    private int getInt() {
+      return ((buf[pos++] & 0xff) << 24) | ((buf[pos++] & 0xff) << 16)
+          | ((buf[pos++] & 0xff) << 8) | (buf[pos++] & 0xff);
+    }
+
+    private long getLong() {
+      return ((long) getInt() << 32) | (getInt() & 0xffffffffL);
+    }
+
+    /** Makes at least {@code n} unread bytes available in the buffer. */
+    private void require(int n) throws IOException {
+      if (limit - pos >= n) {
+        return;
+      }
+      if (n > buf.length) {
+        buf = Arrays.copyOf(buf, Math.max(buf.length * 2, n));
+      }
+      System.arraycopy(buf, pos, buf, 0, limit - pos);
+      limit -= pos;
+      pos = 0;
+      while (limit < n) {
+        int read = in.read(buf, limit, buf.length - limit);
+        if (read < 0) {
+          throw new EOFException("Binary COPY stream ends inside a record");
+        }
+        limit += read;
+      }
+    }
+  }
+
+  private static Connection connect(String url, String user, File passwordFile)
+      throws IOException, SQLException {
+    BufferedReader reader = new BufferedReader(new FileReader(passwordFile));
+    try {
+      return DriverManager.getConnection(url, user, reader.readLine());
+    } finally {
+      reader.close();
+    }
+  }
+
+  /**
+   * Usage: {@code load <csv> <jdbc-url> <user> <password-file> [dedup-index]}
+   * copies a dataset CSV into the table, skipping the ids already recorded
+   * in the {@link AccidentDedupIndex} file when one is given. If the load
+   * fails, the COPY is cancelled and none of its rows are committed, and
+   * the index is left as it was.
+   * {@code unload <jdbc-url> <user> <password-file> <file>} saves the table
+   * in binary COPY format.
+   */
+  public static void main(String[] args) throws Exception {
+    if ((args.length == 5 || args.length == 6) && args[0].equals("load")) {
+      Connection connection = connect(args[2], args[3], new File(args[4]));
+      AccidentDedupIndex index = null;
+      try {
+        if (args.length == 6) {
+          index = AccidentDedupIndex.open(new File(args[5]));
+        }
+        PGCopyOutputStream copy = new PGCopyOutputStream(
+            connection.unwrap(PGConnection.class), COPY_IN_SQL, BUFFER_SIZE);
+        final Encoder out = new Encoder(copy);
+        final PrimitiveAccident row = new PrimitiveAccident();
+        AccidentCsvIngester.BatchSink sink = new AccidentCsvIngester.BatchSink() {
+          @Override
+          public void accept(AccidentBatch batch) throws IOException {
+            for (int r = 0; r < batch.size(); r++) {
+              batch.get(r, row);
+              out.write(row);
+            }
+          }
+        };
+        boolean loaded = false;
+        try {
+          new AccidentCsvIngester().ingest(new File(args[1]),
+              index == null ? sink : index.filter(sink));
+          out.close();
+          loaded = true;
+        } finally {
+          if (!loaded && copy.isActive()) {
+            // Ending the COPY would commit the rows sent so far; abort it instead.
+            copy.cancelCopy();
+          }
+        }
+        if (index != null) {
+          // Only now that the rows are in the table; closing without this drops the new ids.
+          index.commit();
+        }
+        System.out.println("Loaded " + out.getRowCount() + " rows"
+            + (index == null ? "" : ", skipped " + index.getDuplicateCount() + " already loaded"));
+      } finally {
+        if (index != null) {
+          index.close();
+        }
+        connection.close();
+      }
+    } else if (args.length == 5 && args[0].equals("unload")) {
+      Connection connection = connect(args[1], args[2], new File(args[3]));
+      try {
+        InputStream in = new PGCopyInputStream(connection.unwrap(PGConnection.class),
+            COPY_OUT_SQL);
+        OutputStream out = new FileOutputStream(args[4]);
+        try {
+          byte[] chunk = new byte[BUFFER_SIZE];
+          int read;
+          while ((read = in.read(chunk)) >= 0) {
+            out.write(chunk, 0, read);
+          }
+        } finally {
+          out.close();
+          in.close();
+        }
+      } finally {
+        connection.close();
+      }
+    } else {
+      System.err.println(
+          "Usage: AccidentPgCopyCodec load <csv> <jdbc-url> <user> <password-file> [dedup-index]");
+      System.err.println("       AccidentPgCopyCodec unload <jdbc-url> <user> <password-file> <file>");
+      System.exit(2);
+    }
+  }
+}
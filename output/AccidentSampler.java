@@ -0,0 +1,382 @@
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * One-pass, fixed-memory replacement for {@code scripts/subsample_dataset.py}.
+ * <p>
+ * Records are read from the CSV export as a stream; each one draws a
+ * uniform random key from a generator seeded with {@link #SEED}, and the
+ * sample is the {@code size} records with the smallest keys, which makes
+ * it a uniform sample without replacement. Only the current candidates are
+ * kept, so memory is bounded by the sample size, not the input size. In
+ * stratified mode each severity keeps its own candidates and, at the end,
+ * gets a share of the sample proportional to its row count (largest
+ * remainder). Rows whose severity is empty or not a number form a stratum
+ * of their own. Since the shares are only known at the end, one pass needs
+ * up to {@code size} candidates per severity. With {@link #setCountFirst}
+ * a file input is read twice instead: the first pass only counts the
+ * severities, so each stratum keeps just its share and memory is bounded by
+ * {@code size} in total. Both ways select the same rows.
+ * <p>
+ * The output is in load format: the header and the selected records as
+ * they appeared in the input, each prefixed with its zero-based row number
+ * the way {@code DataFrame.to_csv} writes the index, which becomes the
+ * {@code id} column. Records are written in input order. The selection is
+ * deterministic for a given seed but is not the same rows pandas would pick.
+ * <pre>
+ *   java AccidentSampler [--stratify [--count-first]] [--size N] [--seed S] input.csv output.csv
+ * </pre>
+ */
+public class AccidentSampler {
+
+  public static final int SAMPLE_SIZE = 110000;
+  public static final long SEED = 42L;
+
+  private static final String SEVERITY_COLUMN = "Severity";
+  /** Stratum of the rows without a numeric severity, and of all rows when not stratifying. */
+  private static final Integer NO_STRATUM = Integer.MIN_VALUE;
+
+  private static final Comparator<Candidate> LARGEST_KEY_FIRST = new Comparator<Candidate>() {
+    @Override
+    public int compare(Candidate a, Candidate b) {
+      return Double.compare(b.key, a.key);
+    }
+  };
+
+  private final int size;
+  private final long seed;
+  private final boolean stratified;
+  private boolean countFirst;
+
+  public AccidentSampler() {
+    this(SAMPLE_SIZE, SEED, false);
+  }
+
+  public AccidentSampler(int size, long seed, boolean stratified) {
+    this.size = size;
+    this.seed = seed;
+    this.stratified = stratified;
+  }
+
+  /**
+   * Whether a stratified sample of a file counts the severities in a first
+   * pass, bounding memory by the sample size instead of the sample size per
+   * severity.
+   */
+  public void setCountFirst(boolean countFirst) {
+    this.countFirst = countFirst;
+  }
+
+  /** One selected record. */
+  private static final class Candidate {
+    final double key;
+    final long row;
+    final byte[] bytes;
+
+    Candidate(double key, long row, byte[] bytes) {
+      this.key = key;
+      this.row = row;
+      this.bytes = bytes;
+    }
+  }
+
+  /** Samples {@code input} into {@code output} and returns the number of rows written. */
+  public int sample(File input, File output) throws IOException {
+    InputStream in = new FileInputStream(input);
+    try {
+      TreeMap<Integer, Integer> caps = null;
+      if (stratified && countFirst) {
+        caps = quotas(countStrata(in));
+        in.close();
+        in = new FileInputStream(input);
+      }
+      OutputStream out = new BufferedOutputStream(new FileOutputStream(output), 1 << 16);
+      try {
+        return sample(in, out, caps);
+      } finally {
+        out.close();
+      }
+    } finally {
+      in.close();
+    }
+  }
+
+  public int sample(InputStream in, OutputStream out) throws IOException {
+    return sample(in, out, null);
+  }
+
+  /**
+   * Samples with at most {@code caps.get(stratum)} candidates per stratum, or
+   * {@code size} when {@code caps} is null.
+   */
+  private int sample(InputStream in, OutputStream out, TreeMap<Integer, Integer> caps)
+      throws IOException {
+    RecordReader reader = new RecordReader(in);
+    AccidentTextParser parser = AccidentTextParser.csv();
+    int severityColumn = readHeader(reader, parser);
+    byte[] header = reader.record();
+
+    Random random = new Random(seed);
+    TreeMap<Integer, PriorityQueue<Candidate>> strata =
+        new TreeMap<Integer, PriorityQueue<Candidate>>();
+    TreeMap<Integer, Long> counts = new TreeMap<Integer, Long>();
+    long rows = 0;
+    while (reader.next(parser)) {
+      if (parser.fieldCount() == 1 && parser.isEmpty(0)) {
+        continue;
+      }
+      double key = random.nextDouble();
+      Integer stratum = stratified ? stratum(parser, severityColumn) : NO_STRATUM;
+      PriorityQueue<Candidate> candidates = strata.get(stratum);
+      if (candidates == null) {
+        candidates = new PriorityQueue<Candidate>(Math.min(size, 1024) + 1, LARGEST_KEY_FIRST);
+        strata.put(stratum, candidates);
+        counts.put(stratum, 0L);
+      }
+      counts.put(stratum, counts.get(stratum) + 1);
+      Integer capped = caps == null ? Integer.valueOf(size) : caps.get(stratum);
+      int cap = capped == null ? 0 : capped;
+      if (candidates.size() < cap) {
+        candidates.add(new Candidate(key, rows, reader.record()));
+      } else if (cap > 0 && key < candidates.peek().key) {
+        candidates.poll();
+        candidates.add(new Candidate(key, rows, reader.record()));
+      }
+      rows++;
+    }
+
+    List<Candidate> selected = select(strata, quotas(counts));
+    Collections.sort(selected, new Comparator<Candidate>() {
+      @Override
+      public int compare(Candidate a, Candidate b) {
+        return Long.compare(a.row, b.row);
+      }
+    });
+    out.write(',');
+    out.write(header);
+    out.write('\n');
+    for (Candidate candidate : selected) {
+      out.write(Long.toString(candidate.row).getBytes(StandardCharsets.US_ASCII));
+      out.write(',');
+      out.write(candidate.bytes);
+      out.write('\n');
+    }
+    out.flush();
+    return selected.size();
+  }
+
+  /** The header row's index of the severity column, or -1. */
+  private int readHeader(RecordReader reader, AccidentTextParser parser) throws IOException {
+    if (!reader.next(parser)) {
+      throw new IOException("Empty input");
+    }
+    int severityColumn = -1;
+    for (int f = 0; f < parser.fieldCount(); f++) {
+      if (SEVERITY_COLUMN.equalsIgnoreCase(parser.getText(f))) {
+        severityColumn = f;
+      }
+    }
+    if (stratified && severityColumn < 0) {
+      throw new IOException("No " + SEVERITY_COLUMN + " column to stratify on");
+    }
+    return severityColumn;
+  }
+
+  /** The severity of the current record, or {@link #NO_STRATUM} when it is empty or not a number. */
+  private static Integer stratum(AccidentTextParser parser, int severityColumn) {
+    if (parser.isNull(severityColumn) || parser.isEmpty(severityColumn)) {
+      return NO_STRATUM;
+    }
+    try {
+      return parser.getInt(severityColumn);
+    } catch (RuntimeException e) {
+      return NO_STRATUM;
+    }
+  }
+
+  /** Rows per stratum, read without keeping any record. */
+  private TreeMap<Integer, Long> countStrata(InputStream in) throws IOException {
+    RecordReader reader = new RecordReader(in);
+    AccidentTextParser parser = AccidentTextParser.csv();
+    int severityColumn = readHeader(reader, parser);
+    TreeMap<Integer, Long> counts = new TreeMap<Integer, Long>();
+    while (reader.next(parser)) {
+      if (parser.fieldCount() == 1 && parser.isEmpty(0)) {
+        continue;
+      }
+      Integer stratum = stratum(parser, severityColumn);
+      Long count = counts.get(stratum);
+      counts.put(stratum, count == null ? 1L : count + 1);
+    }
+    return counts;
+  }
+
+  /** Takes from each stratum the candidates with the smallest keys, up to its quota. */
+  private static List<Candidate> select(TreeMap<Integer, PriorityQueue<Candidate>> strata,
+      TreeMap<Integer, Integer> quotas) {
+    List<Candidate> selected = new ArrayList<Candidate>();
+    for (Integer stratum : strata.keySet()) {
+      List<Candidate> candidates = new ArrayList<Candidate>(strata.get(stratum));
+      Collections.sort(candidates, Collections.reverseOrder(LARGEST_KEY_FIRST));
+      selected.addAll(candidates.subList(0, Math.min(quotas.get(stratum), candidates.size())));
+    }
+    return selected;
+  }
+
+  /** Splits the sample between strata in proportion to their row counts. */
+  private TreeMap<Integer, Integer> quotas(TreeMap<Integer, Long> counts) {
+    long rows = 0;
+    for (long count : counts.values()) {
+      rows += count;
+    }
+    int total = (int) Math.min(size, rows);
+    Integer[] keys = counts.keySet().toArray(new Integer[0]);
+    int[] quota = new int[keys.length];
+    double[] remainder = new double[keys.length];
+    int assigned = 0;
+    for (int i = 0; i < keys.length; i++) {
+      double exact = (double) total * counts.get(keys[i]) / rows;
+      quota[i] = (int) exact;
+      remainder[i] = exact - quota[i];
+      assigned += quota[i];
+    }
+    Integer[] order = new Integer[keys.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    final double[] remainders = remainder;
+    Arrays.sort(order, new Comparator<Integer>() {
+      @Override
+      public int compare(Integer a, Integer b) {
+        int c = Double.compare(remainders[b], remainders[a]);
+        return c != 0 ? c : Integer.compare(a, b);
+      }
+    });
+    for (int i = 0; assigned < total; i++) {
+      quota[order[i % order.length]]++;
+      assigned++;
+    }
+    TreeMap<Integer, Integer> quotas = new TreeMap<Integer, Integer>();
+    for (int i = 0; i < keys.length; i++) {
+      quotas.put(keys[i], quota[i]);
+    }
+    return quotas;
+  }
+
+  /** Streams quote-aware CSV records through a growable buffer. */
+  private static final class RecordReader {
+    private final InputStream in;
+    private byte[] buf = new byte[1 << 20];
+    private int pos;
+    private int limit;
+    private boolean eof;
+    private int recordStart;
+    private int recordEnd;
+
+    RecordReader(InputStream in) {
+      this.in = in;
+    }
+
+    /** Splits the next record into {@code parser}; false at the end of the input. */
+    boolean next(AccidentTextParser parser) throws IOException {
+      while (true) {
+        if (pos == limit) {
+          if (eof) {
+            return false;
+          }
+          fill();
+          continue;
+        }
+        int next;
+        try {
+          next = parser.split(buf, pos, limit);
+        } catch (IllegalArgumentException e) {
+          if (eof) {
+            throw new IOException("Malformed CSV record", e);
+          }
+          fill();
+          continue;
+        }
+        boolean complete = next < limit || buf[limit - 1] == '\n';
+        if (!complete && !eof) {
+          fill();
+          continue;
+        }
+        recordStart = pos;
+        recordEnd = buf[next - 1] == '\n' ? next - 1 : next;
+        if (recordEnd > recordStart && buf[recordEnd - 1] == '\r') {
+          recordEnd--;
+        }
+        pos = next;
+        return true;
+      }
+    }
+
+    /** A copy of the last record without its line ending. */
+    byte[] record() {
+      return Arrays.copyOfRange(buf, recordStart, recordEnd);
+    }
+
+    private void fill() throws IOException {
+      if (pos > 0) {
+        System.arraycopy(buf, pos, buf, 0, limit - pos);
+        limit -= pos;
+        pos = 0;
+      } else if (limit == buf.length) {
+        buf = Arrays.copyOf(buf, buf.length * 2);
+      }
+      int read = in.read(buf, limit, buf.length - limit);
+      if (read < 0) {
+        eof = true;
+      } else {
+        limit += read;
+      }
+    }
+  }
+
+  public static void main(String[] args) throws IOException {
+    int size = SAMPLE_SIZE;
+    long seed = SEED;
+    boolean stratified = false;
+    boolean countFirst = false;
+    int i = 0;
+    for (; i < args.length && args[i].startsWith("--"); i++) {
+      if (args[i].equals("--stratify")) {
+        stratified = true;
+      } else if (args[i].equals("--count-first")) {
+        countFirst = true;
+      } else if (args[i].equals("--size")) {
+        size = Integer.parseInt(args[++i]);
+      } else if (args[i].equals("--seed")) {
+        seed = Long.parseLong(args[++i]);
+      } else {
+        throw new IllegalArgumentException("Unknown option " + args[i]);
+      }
+    }
+    if (args.length - i != 2) {
+      System.err.println("Usage: AccidentSampler [--stratify [--count-first]] [--size N] [--seed S]"
+          + " input.csv output.csv");
+      System.err.println("  --stratify keeps up to N rows per severity in memory;"
+          + " --count-first reads the input twice to keep N in total.");
+      System.exit(2);
+    }
+    AccidentSampler sampler = new AccidentSampler(size, seed, stratified);
+    sampler.setCountFirst(countFirst);
+    int written = sampler.sample(new File(args[i]), new File(args[i + 1]));
+    System.out.println("Wrote " + written + " rows to " + args[i + 1]);
+  }
+}
@@ -0,0 +1,196 @@
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Column layout of the us_accidents table as seen by the record classes.
+ * Field numbers follow the column order of {@code sql/create_tables.sql}
+ * and double as bit positions in null bitsets and projections.
+ */
+public final class AccidentSchema {
+
+  public static final int TYPE_INT = 0;
+  public static final int TYPE_STRING = 1;
+  public static final int TYPE_TIMESTAMP = 2;
+  public static final int TYPE_DOUBLE = 3;
+  public static final int TYPE_BOOLEAN = 4;
+
+  public static final int ID = 0;
+  public static final int ID_STR = 1;
+  public static final int SOURCE = 2;
+  public static final int SEVERITY = 3;
+  public static final int START_TIME = 4;
+  public static final int END_TIME = 5;
+  public static final int START_LAT = 6;
+  public static final int START_LNG = 7;
+  public static final int END_LAT = 8;
+  public static final int END_LNG = 9;
+  public static final int DISTANCE_MI = 10;
+  public static final int DESCRIPTION = 11;
+  public static final int STREET = 12;
+  public static final int CITY = 13;
+  public static final int COUNTY = 14;
+  public static final int STATE = 15;
+  public static final int ZIPCODE = 16;
+  public static final int COUNTRY = 17;
+  public static final int TIMEZONE = 18;
+  public static final int AIRPORT_CODE = 19;
+  public static final int WEATHER_TIMESTAMP = 20;
+  public static final int TEMPERATURE_F = 21;
+  public static final int WIND_CHILL_F = 22;
+  public static final int HUMIDITY_PERCENT = 23;
+  public static final int PRESSURE_IN = 24;
+  public static final int VISIBILITY_MI = 25;
+  public static final int WIND_DIRECTION = 26;
+  public static final int WIND_SPEED_MPH = 27;
+  public static final int PRECIPITATION_IN = 28;
+  public static final int WEATHER_CONDITION = 29;
+  public static final int AMENITY = 30;
+  public static final int BUMP = 31;
+  public static final int CROSSING = 32;
+  public static final int GIVE_WAY = 33;
+  public static final int JUNCTION = 34;
+  public static final int NO_EXIT = 35;
+  public static final int RAILWAY = 36;
+  public static final int ROUNDABOUT = 37;
+  public static final int STATION = 38;
+  public static final int STOP = 39;
+  public static final int TRAFFIC_CALMING = 40;
+  public static final int TRAFFIC_SIGNAL = 41;
+  public static final int TURNING_LOOP = 42;
+  public static final int SUNRISE_SUNSET = 43;
+  public static final int CIVIL_TWILIGHT = 44;
+  public static final int NAUTICAL_TWILIGHT = 45;
+  public static final int ASTRONOMICAL_TWILIGHT = 46;
+
+  public static final int FIELD_COUNT = 47;
+  public static final long ALL_FIELDS = (1L << FIELD_COUNT) - 1;
+
+  private static final String[] NAMES = {
+    "id",
+    "id_str",
+    "source",
+    "severity",
+    "start_time",
+    "end_time",
+    "start_lat",
+    "start_lng",
+    "end_lat",
+    "end_lng",
+    "distance_mi",
+    "description",
+    "street",
+    "city",
+    "county",
+    "state",
+    "zipcode",
+    "country",
+    "timezone",
+    "airport_code",
+    "weather_timestamp",
+    "temperature_f",
+    "wind_chill_f",
+    "humidity_percent",
+    "pressure_in",
+    "visibility_mi",
+    "wind_direction",
+    "wind_speed_mph",
+    "precipitation_in",
+    "weather_condition",
+    "amenity",
+    "bump",
+    "crossing",
+    "give_way",
+    "junction",
+    "no_exit",
+    "railway",
+    "roundabout",
+    "station",
+    "stop",
+    "traffic_calming",
+    "traffic_signal",
+    "turning_loop",
+    "sunrise_sunset",
+    "civil_twilight",
+    "nautical_twilight",
+    "astronomical_twilight"
+  };
+
+  private static final int[] TYPES = {
+    TYPE_INT,
+    TYPE_STRING,
+    TYPE_STRING,
+    TYPE_INT,
+    TYPE_TIMESTAMP,
+    TYPE_TIMESTAMP,
+    TYPE_DOUBLE,
+    TYPE_DOUBLE,
+    TYPE_DOUBLE,
+    TYPE_DOUBLE,
+    TYPE_DOUBLE,
+    TYPE_STRING,
+    TYPE_STRING,
+    TYPE_STRING,
+    TYPE_STRING,
+    TYPE_STRING,
+    TYPE_STRING,
+    TYPE_STRING,
+    TYPE_STRING,
+    TYPE_STRING,
+    TYPE_TIMESTAMP,
+    TYPE_DOUBLE,
+    TYPE_DOUBLE,
+    TYPE_DOUBLE,
+    TYPE_DOUBLE,
+    TYPE_DOUBLE,
+    TYPE_STRING,
+    TYPE_DOUBLE,
+    TYPE_DOUBLE,
+    TYPE_STRING,
+    TYPE_BOOLEAN,
+    TYPE_BOOLEAN,
+    TYPE_BOOLEAN,
+    TYPE_BOOLEAN,
+    TYPE_BOOLEAN,
+    TYPE_BOOLEAN,
+    TYPE_BOOLEAN,
+    TYPE_BOOLEAN,
+    TYPE_BOOLEAN,
+    TYPE_BOOLEAN,
+    TYPE_BOOLEAN,
+    TYPE_BOOLEAN,
+    TYPE_BOOLEAN,
+    TYPE_STRING,
+    TYPE_STRING,
+    TYPE_STRING,
+    TYPE_STRING
+  };
+
+  private static final Map<String, Integer> INDEX = new HashMap<String, Integer>();
+
+  static {
+    for (int f = 0; f < FIELD_COUNT; f++) {
+      INDEX.put(NAMES[f], f);
+    }
+  }
+
+  private AccidentSchema() {
+  }
+
+  public static String name(int field) {
+    return NAMES[field];
+  }
+
+  public static int type(int field) {
+    return TYPES[field];
+  }
+
+  /** Returns the field number of a column, or -1 if there is no such column. */
+  public static int indexOf(String name) {
+    Integer field = INDEX.get(name);
+    return field == null ? -1 : field.intValue();
+  }
+
+  public static long bit(int field) {
+    return 1L << field;
+  }
+}
@@ -0,0 +1,506 @@
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+
+import org.apache.sqoop.lib.DelimiterSet;
+
+/**
+ * Single-pass parser for delimited us_accidents text records.
+ * <p>
+ * {@link #split(byte[], int, int)} scans the raw UTF-8 bytes of one record
+ * once and remembers where each field starts and ends; nothing is copied.
+ * The typed getters then decode a field in place, so numbers, booleans and
+ * timestamps never become a {@code String}. The rules are those of Sqoop's
+ * {@code RecordParser} plus {@code us_accidents.__loadFromFields} for
+ * delimiters without enclosing or escaping: a field runs up to the next
+ * field delimiter, the record ends at the line delimiter or the end of the
+ * input, missing trailing fields read as {@code null}, and the text
+ * {@code null} (or, for non-string columns, an empty field) is a null value.
+ * Timestamps go through {@link TimestampDecoder}. Inputs outside the fast
+ * paths, such as exponents or timestamps with one-digit months, are handed to
+ * the JDK parsers so results and errors are the same.
+ * <p>
+ * {@link #csv()} instead reads the CSV dialect of PostgreSQL's
+ * {@code COPY ... CSV}, the format of the dataset files: fields may be
+ * enclosed in double quotes, with a doubled quote standing for one quote and
+ * delimiters allowed inside; an unquoted empty field is null while the text
+ * {@code null} is an ordinary value; and a carriage return before the line
+ * delimiter is dropped.
+ * <p>
+ * A parser holds the state of the last record split and is not thread-safe.
+ */
+public class AccidentTextParser {
+
+  private static final byte[] NULL_TEXT = {'n', 'u', 'l', 'l'};
+
+  private static final double[] POW10 = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+    1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  private final byte fieldDelim;
+  private final byte recordDelim;
+  private final byte quote;
+  private final int[] starts = new int[AccidentSchema.FIELD_COUNT];
+  private final int[] ends = new int[AccidentSchema.FIELD_COUNT];
+  private final TimestampDecoder timestamps = new TimestampDecoder();
+
+  private byte[] buf;
+  private int recordStart;
+  private int recordEnd;
+  private int fields;
+  private long quoted;
+  private long escaped;
+  private byte[] scratch = new byte[1024];
+
+  /** Creates a parser for comma-separated, newline-terminated records. */
+  public AccidentTextParser() {
+    this(',', '\n');
+  }
+
+  /** Creates a parser for the given delimiters, which must not enclose or escape. */
+  public AccidentTextParser(DelimiterSet delimiters) {
+    this(delimiters.getFieldsTerminatedBy(), delimiters.getLinesTerminatedBy());
+    if (delimiters.getEnclosedBy() != 0 || delimiters.getEscapedBy() != 0) {
+      throw new IllegalArgumentException(
+          "AccidentTextParser does not support enclosed or escaped fields");
+    }
+  }
+
+  public AccidentTextParser(char fieldDelim, char recordDelim) {
+    this(fieldDelim, recordDelim, (char) 0);
+  }
+
+  private AccidentTextParser(char fieldDelim, char recordDelim, char quote) {
+    if (fieldDelim >= 0x80 || recordDelim >= 0x80 || quote >= 0x80) {
+      throw new IllegalArgumentException("Delimiters must be ASCII characters");
+    }
+    this.fieldDelim = (byte) fieldDelim;
+    this.recordDelim = (byte) recordDelim;
+    this.quote = (byte) quote;
+  }
+
+  /** Creates a parser for comma-separated CSV as read by PostgreSQL's COPY. */
+  public static AccidentTextParser csv() {
+    return new AccidentTextParser(',', '\n', '"');
+  }
+
+  /**
+   * Splits the record starting at {@code start} and returns the position
+   * just after its line delimiter, or {@code end} if the input ends first.
+   * Fields past the last column are ignored.
+   */
+  public int split(byte[] bytes, int start, int end) {
+    if (quote != 0) {
+      return splitQuoted(bytes, start, end);
+    }
+    this.buf = bytes;
+    this.recordStart = start;
+    int field = 0;
+    int fieldStart = start;
+    int pos = start;
+    while (pos < end) {
+      byte b = bytes[pos];
+      if (b == recordDelim) {
+        break;
+      }
+      if (b == fieldDelim) {
+        if (field < AccidentSchema.FIELD_COUNT) {
+          starts[field] = fieldStart;
+          ends[field] = pos;
+        }
+        field++;
+        fieldStart = pos + 1;
+      }
+      pos++;
+    }
+    if (field < AccidentSchema.FIELD_COUNT) {
+      starts[field] = fieldStart;
+      ends[field] = pos;
+    }
+    fields = Math.min(field + 1, AccidentSchema.FIELD_COUNT);
+    recordEnd = pos;
+    return pos < end ? pos + 1 : end;
+  }
+
+  private int splitQuoted(byte[] bytes, int start, int end) {
+    this.buf = bytes;
+    this.recordStart = start;
+    this.quoted = 0L;
+    this.escaped = 0L;
+    int field = 0;
+    int pos = start;
+    while (true) {
+      int fieldStart;
+      int fieldEnd;
+      if (pos < end && bytes[pos] == quote) {
+        fieldStart = ++pos;
+        boolean doubled = false;
+        while (true) {
+          if (pos >= end) {
+            throw new IllegalArgumentException("Unterminated quoted field at byte " + fieldStart);
+          }
+          if (bytes[pos] == quote) {
+            if (pos + 1 < end && bytes[pos + 1] == quote) {
+              doubled = true;
+              pos += 2;
+              continue;
+            }
+            break;
+          }
+          pos++;
+        }
+        fieldEnd = pos++;
+        if (pos < end && bytes[pos] == '\r' && (pos + 1 == end || bytes[pos + 1] == recordDelim)) {
+          pos++;
+        }
+        if (pos < end && bytes[pos] != fieldDelim && bytes[pos] != recordDelim) {
+          throw new IllegalArgumentException("Unexpected data after quoted field at byte " + pos);
+        }
+        if (field < AccidentSchema.FIELD_COUNT) {
+          quoted |= 1L << field;
+          if (doubled) {
+            escaped |= 1L << field;
+          }
+        }
+      } else {
+        fieldStart = pos;
+        while (pos < end && bytes[pos] != fieldDelim && bytes[pos] != recordDelim) {
+          pos++;
+        }
+        fieldEnd = pos;
+        if (fieldEnd > fieldStart && bytes[fieldEnd - 1] == '\r'
+            && (pos == end || bytes[pos] == recordDelim)) {
+          fieldEnd--;
+        }
+      }
+      if (field < AccidentSchema.FIELD_COUNT) {
+        starts[field] = fieldStart;
+        ends[field] = fieldEnd;
+      }
+      if (pos >= end || bytes[pos] == recordDelim) {
+        break;
+      }
+      field++;
+      pos++;
+    }
+    fields = Math.min(field + 1, AccidentSchema.FIELD_COUNT);
+    recordEnd = pos;
+    return pos < end ? pos + 1 : end;
+  }
+
+  /** Splits a record held in a character sequence. */
+  public void split(CharSequence record) {
+    int length = record.length();
+    if (scratch.length < length) {
+      scratch = new byte[Math.max(length, scratch.length * 2)];
+    }
+    for (int i = 0; i < length; i++) {
+      char c = record.charAt(i);
+      if (c >= 0x80) {
+        byte[] bytes = record.toString().getBytes(StandardCharsets.UTF_8);
+        split(bytes, 0, bytes.length);
+        return;
+      }
+      scratch[i] = (byte) c;
+    }
+    split(scratch, 0, length);
+  }
+
+  /** Splits the remaining bytes of a buffer without moving its position. */
+  public void split(ByteBuffer record) {
+    if (record.hasArray()) {
+      int start = record.arrayOffset() + record.position();
+      split(record.array(), start, start + record.remaining());
+      return;
+    }
+    int length = record.remaining();
+    if (scratch.length < length) {
+      scratch = new byte[Math.max(length, scratch.length * 2)];
+    }
+    record.duplicate().get(scratch, 0, length);
+    split(scratch, 0, length);
+  }
+
+  public void split(char[] record) {
+    split(CharBuffer.wrap(record));
+  }
+
+  /** The last record as text, without its line delimiter. */
+  public String getRecordText() {
+    return new String(buf, recordStart, recordEnd - recordStart, StandardCharsets.UTF_8);
+  }
+
+  /** Number of fields in the last record, capped at the column count. */
+  public int fieldCount() {
+    return fields;
+  }
+
+  /**
+   * Whether a field is missing or holds the text {@code null}; for CSV,
+   * whether it is missing or empty and unquoted.
+   */
+  public boolean isNull(int field) {
+    if (field >= fields) {
+      return true;
+    }
+    if (quote != 0) {
+      return starts[field] == ends[field] && (quoted & (1L << field)) == 0;
+    }
+    int start = starts[field];
+    if (ends[field] - start != NULL_TEXT.length) {
+      return false;
+    }
+    for (int i = 0; i < NULL_TEXT.length; i++) {
+      if (buf[start + i] != NULL_TEXT[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Whether a field is present but empty. */
+  public boolean isEmpty(int field) {
+    return field < fields && starts[field] == ends[field];
+  }
+
+  /**
+   * The null rule of a column: the text {@code null} for strings, and also
+   * an empty field for every other type.
+   */
+  public boolean isNullValue(int field) {
+    return isNull(field) || (AccidentSchema.type(field) != AccidentSchema.TYPE_STRING
+        && isEmpty(field));
+  }
+
+  /** Returns the text of a field, without enclosing quotes. */
+  public String getText(int field) {
+    if (field >= fields) {
+      return "null";
+    }
+    String text = new String(buf, starts[field], ends[field] - starts[field],
+        StandardCharsets.UTF_8);
+    if ((escaped & (1L << field)) != 0) {
+      char q = (char) quote;
+      return text.replace(new String(new char[] {q, q}), String.valueOf(q));
+    }
+    return text;
+  }
+
+  public int getInt(int field) {
+    int pos = starts[field];
+    int end = ends[field];
+    boolean negative = false;
+    if (pos < end && (buf[pos] == '-' || buf[pos] == '+')) {
+      negative = buf[pos] == '-';
+      pos++;
+    }
+    if (pos == end || end - pos > 9) {
+      return parseIntText(field);
+    }
+    int value = 0;
+    for (; pos < end; pos++) {
+      int digit = buf[pos] - '0';
+      if (digit < 0 || digit > 9) {
+        return parseIntText(field);
+      }
+      value = value * 10 + digit;
+    }
+    return negative ? -value : value;
+  }
+
+  private int parseIntText(int field) {
+    try {
+      return Integer.parseInt(getText(field));
+    } catch (RuntimeException e) {
+      throw parseError(field, e);
+    }
+  }
+
+  /**
+   * Decodes plain decimals of up to 15 digits exactly (the mantissa and the
+   * power of ten are both exact doubles, so one division rounds correctly);
+   * anything else goes through {@link Double#parseDouble}.
+   */
+  public double getDouble(int field) {
+    int pos = starts[field];
+    int end = ends[field];
+    boolean negative = false;
+    if (pos < end && (buf[pos] == '-' || buf[pos] == '+')) {
+      negative = buf[pos] == '-';
+      pos++;
+    }
+    long mantissa = 0;
+    int digits = 0;
+    int scale = 0;
+    boolean fraction = false;
+    for (; pos < end; pos++) {
+      byte b = buf[pos];
+      if (b >= '0' && b <= '9') {
+        mantissa = mantissa * 10 + (b - '0');
+        digits++;
+        if (fraction) {
+          scale++;
+        }
+      } else if (b == '.' && !fraction) {
+        fraction = true;
+      } else {
+        return parseDoubleText(field);
+      }
+    }
+    if (digits == 0 || digits > 15) {
+      return parseDoubleText(field);
+    }
+    double value = mantissa / POW10[scale];
+    return negative ? -value : value;
+  }
+
+  private double parseDoubleText(int field) {
+    try {
+      return Double.parseDouble(getText(field));
+    } catch (RuntimeException e) {
+      throw parseError(field, e);
+    }
+  }
+
+  /** Same truth values as Sqoop's {@code BooleanParser}: true, t, on, yes and 1. */
+  public boolean getBoolean(int field) {
+    int pos = starts[field];
+    switch (ends[field] - pos) {
+    case 1:
+      return buf[pos] == '1' || (buf[pos] | 0x20) == 't';
+    case 2:
+      return (buf[pos] | 0x20) == 'o' && (buf[pos + 1] | 0x20) == 'n';
+    case 3:
+      return (buf[pos] | 0x20) == 'y' && (buf[pos + 1] | 0x20) == 'e'
+          && (buf[pos + 2] | 0x20) == 's';
+    case 4:
+      return (buf[pos] | 0x20) == 't' && (buf[pos + 1] | 0x20) == 'r'
+          && (buf[pos + 2] | 0x20) == 'u' && (buf[pos + 3] | 0x20) == 'e';
+    default:
+      return false;
+    }
+  }
+
+  /**
+   * Decodes a timestamp field in the default time zone, as
+   * {@link Timestamp#valueOf} does.
+   */
+  public Timestamp getTimestamp(int field) {
+    long seconds = timestamps.decode(buf, starts[field], ends[field]);
+    if (seconds == TimestampDecoder.INVALID) {
+      return parseTimestampText(field);
+    }
+    Timestamp value = new Timestamp(seconds * 1000L);
+    value.setNanos(timestamps.nanos());
+    return value;
+  }
+
+  /** Decodes a timestamp field as epoch microseconds without allocating. */
+  public long getMicros(int field) {
+    long micros = timestamps.decodeMicros(buf, starts[field], ends[field]);
+    if (micros == TimestampDecoder.INVALID) {
+      return PrimitiveAccident.toMicros(parseTimestampText(field));
+    }
+    return micros;
+  }
+
+  private Timestamp parseTimestampText(int field) {
+    try {
+      return Timestamp.valueOf(getText(field));
+    } catch (RuntimeException e) {
+      throw parseError(field, e);
+    }
+  }
+
+  /**
+   * Returns a string field; values known to {@link AccidentDictionary} come
+   * back as its shared instances without decoding the bytes.
+   */
+  public String getString(int field) {
+    if (AccidentDictionary.isEncoded(field) && (escaped & (1L << field)) == 0) {
+      String value = AccidentDictionary.lookup(field, buf, starts[field], ends[field] - starts[field]);
+      if (value != null) {
+        return value;
+      }
+    }
+    return getText(field);
+  }
+
+  private RuntimeException parseError(int field, RuntimeException cause) {
+    return new RuntimeException("Can't parse input data: '" + getText(field) + "'", cause);
+  }
+
+  /**
+   * Loads the split record into {@code target}; columns outside
+   * {@code projection} are left null.
+   */
+  public void load(PrimitiveAccident target, long projection) {
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      if ((projection & (1L << f)) == 0 || isNullValue(f)) {
+        target.setNull(f);
+        continue;
+      }
+      switch (AccidentSchema.type(f)) {
+      case AccidentSchema.TYPE_INT:
+        target.setInt(f, getInt(f));
+        break;
+      case AccidentSchema.TYPE_DOUBLE:
+        target.setDouble(f, getDouble(f));
+        break;
+      case AccidentSchema.TYPE_TIMESTAMP:
+        target.setMicros(f, getMicros(f));
+        break;
+      case AccidentSchema.TYPE_BOOLEAN:
+        target.setBoolean(f, getBoolean(f));
+        break;
+      default:
+        target.setString(f, getString(f));
+        break;
+      }
+    }
+  }
+
+  /**
+   * Loads the split record like {@link #load(PrimitiveAccident, long)}, but
+   * a value that does not parse is set to null and counted in
+   * {@code errors} instead of failing the record. Returns the columns that
+   * failed as a bit mask, 0 for a clean record.
+   */
+  public long load(PrimitiveAccident target, long projection, AccidentParseErrors errors) {
+    long failed = 0L;
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      if ((projection & (1L << f)) == 0 || isNullValue(f)) {
+        target.setNull(f);
+        continue;
+      }
+      try {
+        switch (AccidentSchema.type(f)) {
+        case AccidentSchema.TYPE_INT:
+          target.setInt(f, getInt(f));
+          break;
+        case AccidentSchema.TYPE_DOUBLE:
+          target.setDouble(f, getDouble(f));
+          break;
+        case AccidentSchema.TYPE_TIMESTAMP:
+          target.setMicros(f, getMicros(f));
+          break;
+        case AccidentSchema.TYPE_BOOLEAN:
+          target.setBoolean(f, getBoolean(f));
+          break;
+        default:
+          target.setString(f, getString(f));
+          break;
+        }
+      } catch (RuntimeException e) {
+        target.setNull(f);
+        failed |= 1L << f;
+      }
+    }
+    if (failed != 0) {
+      errors.reject(failed, this);
+    }
+    return failed;
+  }
+}
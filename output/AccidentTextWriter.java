@@ -0,0 +1,572 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+import org.apache.hadoop.io.Text;
+import org.apache.sqoop.lib.DelimiterSet;
+
+/**
+ * Writes us_accidents records as delimited text into a reusable UTF-8 byte
+ * buffer, byte for byte the same as {@code us_accidents.toString}.
+ * <p>
+ * The generated {@code toString} formats each number with
+ * {@code "" + value} and sends all 47 fields through
+ * {@code FieldFormatter.escapeAndEnclose}, which costs several temporary
+ * strings per field. Here integers, doubles and timestamps are formatted
+ * directly as ASCII digits, strings are encoded in place, and escaping only
+ * runs when the delimiters could occur in the value. With the default
+ * delimiters (no escape and no enclosing character) that is never.
+ * Doubles take a digit loop whenever a short decimal represents them
+ * exactly, which covers coordinates and readings. Timestamps are split into
+ * fields with offsets from a {@link ZoneOffsetCache}. Anything else
+ * (exponents, years before 1900) goes through the JDK formatting.
+ * <p>
+ * Records accumulate until {@link #reset()}; {@link #writeTo},
+ * {@link #toText} and {@link #appendTo} hand the text on. Instances are not
+ * thread-safe.
+ */
+public class AccidentTextWriter {
+
+  private static final DelimiterSet DEFAULT_DELIMITERS =
+      new DelimiterSet(',', '\n', DelimiterSet.NULL_CHAR, DelimiterSet.NULL_CHAR, false);
+
+  /** Every character a formatted number, timestamp or boolean can contain. */
+  private static final String SCALAR_CHARS = "0123456789-.: EINaefilnrstuy";
+
+  private static final double[] POW10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8};
+  private static final long[] LONG_POW10 = {1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L,
+    10000000L, 100000000L};
+
+  private final DelimiterSet delimiters;
+  private final char fieldDelim;
+  private final char separator;
+  private final char recordDelim;
+  private final char escape;
+  private final char enclose;
+  private final boolean encloseRequired;
+  private final boolean plainText;
+  private final boolean plainScalars;
+
+  private final ZoneOffsetCache offsets = new ZoneOffsetCache();
+
+  private String nullText = "null";
+  private byte[] buf = new byte[1024];
+  private int count;
+
+  /** Writes with the us_accidents output delimiters: commas and newlines. */
+  public AccidentTextWriter() {
+    this(DEFAULT_DELIMITERS);
+  }
+
+  public AccidentTextWriter(DelimiterSet delimiters) {
+    this(delimiters, delimiters.getFieldsTerminatedBy());
+  }
+
+  /**
+   * Escapes and encloses values for {@code delimiters} but puts
+   * {@code separator} between fields, as {@code us_accidents.toString0} does.
+   */
+  public AccidentTextWriter(DelimiterSet delimiters, char separator) {
+    this.delimiters = delimiters.copy();
+    this.fieldDelim = delimiters.getFieldsTerminatedBy();
+    this.separator = separator;
+    this.recordDelim = delimiters.getLinesTerminatedBy();
+    this.escape = delimiters.getEscapedBy();
+    this.enclose = delimiters.getEnclosedBy();
+    this.encloseRequired = delimiters.isEncloseRequired();
+    this.plainText = escape == DelimiterSet.NULL_CHAR && enclose == DelimiterSet.NULL_CHAR;
+    this.plainScalars = plainText || (!encloseRequired
+        && SCALAR_CHARS.indexOf(fieldDelim) < 0 && SCALAR_CHARS.indexOf(recordDelim) < 0
+        && (escape == DelimiterSet.NULL_CHAR || SCALAR_CHARS.indexOf(escape) < 0)
+        && (enclose == DelimiterSet.NULL_CHAR || SCALAR_CHARS.indexOf(enclose) < 0));
+  }
+
+  /** Whether this writer formats with exactly these delimiters. */
+  public boolean uses(DelimiterSet delimiters) {
+    return uses(delimiters, delimiters.getFieldsTerminatedBy());
+  }
+
+  /** Whether this writer formats with these delimiters and field separator. */
+  public boolean uses(DelimiterSet delimiters, char separator) {
+    return this.separator == separator && this.delimiters.equals(delimiters);
+  }
+
+  /** Text written for null values; {@code null} by default, as in Sqoop. */
+  public void setNullText(String nullText) {
+    this.nullText = nullText;
+  }
+
+  public void write(us_accidents record) {
+    write(record, true);
+  }
+
+  /** Appends one record, followed by the record delimiter if asked. */
+  public void write(us_accidents record, boolean useRecordDelim) {
+    writeInt(record.get_id());
+    writeField();
+    writeString(record.get_id_str());
+    writeField();
+    writeString(record.get_source());
+    writeField();
+    writeInt(record.get_severity());
+    writeField();
+    writeTimestamp(record.get_start_time());
+    writeField();
+    writeTimestamp(record.get_end_time());
+    writeField();
+    writeDouble(record.get_start_lat());
+    writeField();
+    writeDouble(record.get_start_lng());
+    writeField();
+    writeDouble(record.get_end_lat());
+    writeField();
+    writeDouble(record.get_end_lng());
+    writeField();
+    writeDouble(record.get_distance_mi());
+    writeField();
+    writeString(record.get_description());
+    writeField();
+    writeString(record.get_street());
+    writeField();
+    writeString(record.get_city());
+    writeField();
+    writeString(record.get_county());
+    writeField();
+    writeString(record.get_state());
+    writeField();
+    writeString(record.get_zipcode());
+    writeField();
+    writeString(record.get_country());
+    writeField();
+    writeString(record.get_timezone());
+    writeField();
+    writeString(record.get_airport_code());
+    writeField();
+    writeTimestamp(record.get_weather_timestamp());
+    writeField();
+    writeDouble(record.get_temperature_f());
+    writeField();
+    writeDouble(record.get_wind_chill_f());
+    writeField();
+    writeDouble(record.get_humidity_percent());
+    writeField();
+    writeDouble(record.get_pressure_in());
+    writeField();
+    writeDouble(record.get_visibility_mi());
+    writeField();
+    writeString(record.get_wind_direction());
+    writeField();
+    writeDouble(record.get_wind_speed_mph());
+    writeField();
+    writeDouble(record.get_precipitation_in());
+    writeField();
+    writeString(record.get_weather_condition());
+    writeField();
+    writeBoolean(record.get_amenity());
+    writeField();
+    writeBoolean(record.get_bump());
+    writeField();
+    writeBoolean(record.get_crossing());
+    writeField();
+    writeBoolean(record.get_give_way());
+    writeField();
+    writeBoolean(record.get_junction());
+    writeField();
+    writeBoolean(record.get_no_exit());
+    writeField();
+    writeBoolean(record.get_railway());
+    writeField();
+    writeBoolean(record.get_roundabout());
+    writeField();
+    writeBoolean(record.get_station());
+    writeField();
+    writeBoolean(record.get_stop());
+    writeField();
+    writeBoolean(record.get_traffic_calming());
+    writeField();
+    writeBoolean(record.get_traffic_signal());
+    writeField();
+    writeBoolean(record.get_turning_loop());
+    writeField();
+    writeString(record.get_sunrise_sunset());
+    writeField();
+    writeString(record.get_civil_twilight());
+    writeField();
+    writeString(record.get_nautical_twilight());
+    writeField();
+    writeString(record.get_astronomical_twilight());
+    if (useRecordDelim) {
+      writeChar(recordDelim);
+    }
+  }
+
+  /** Appends one record in the same format, without boxing anything. */
+  public void write(PrimitiveAccident record, boolean useRecordDelim) {
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      if (f > 0) {
+        writeField();
+      }
+      if (record.isNull(f)) {
+        writeText(nullText);
+        continue;
+      }
+      switch (AccidentSchema.type(f)) {
+      case AccidentSchema.TYPE_INT:
+        writeInt(record.getInt(f));
+        break;
+      case AccidentSchema.TYPE_DOUBLE:
+        writeDouble(record.getDouble(f));
+        break;
+      case AccidentSchema.TYPE_TIMESTAMP:
+        long micros = record.getMicros(f);
+        writeTimestamp(Math.floorDiv(micros, 1000000L),
+            (int) Math.floorMod(micros, 1000000L) * 1000, null);
+        break;
+      case AccidentSchema.TYPE_BOOLEAN:
+        writeBoolean(record.getBoolean(f));
+        break;
+      default:
+        writeText(record.getString(f));
+        break;
+      }
+    }
+    if (useRecordDelim) {
+      writeChar(recordDelim);
+    }
+  }
+
+  /** The buffer holding the text written since the last {@link #reset()}. */
+  public byte[] getBytes() {
+    return buf;
+  }
+
+  /** Number of valid bytes in {@link #getBytes()}. */
+  public int size() {
+    return count;
+  }
+
+  public void reset() {
+    count = 0;
+  }
+
+  public void writeTo(OutputStream out) throws IOException {
+    out.write(buf, 0, count);
+  }
+
+  /** Copies the text into a Hadoop {@code Text}, reusing its storage. */
+  public void toText(Text text) {
+    text.set(buf, 0, count);
+  }
+
+  /** Appends the text to {@code sb}, decoding the bytes in place. */
+  public void appendTo(StringBuilder sb) {
+    sb.ensureCapacity(sb.length() + count);
+    for (int i = 0; i < count; i++) {
+      int b = buf[i];
+      if (b >= 0) {
+        sb.append((char) b);
+      } else if ((b & 0xe0) == 0xc0) {
+        sb.append((char) ((b & 0x1f) << 6 | (buf[++i] & 0x3f)));
+      } else if ((b & 0xf0) == 0xe0) {
+        sb.append((char) ((b & 0x0f) << 12 | (buf[i + 1] & 0x3f) << 6 | (buf[i + 2] & 0x3f)));
+        i += 2;
+      } else {
+        sb.appendCodePoint((b & 0x07) << 18 | (buf[i + 1] & 0x3f) << 12
+            | (buf[i + 2] & 0x3f) << 6 | (buf[i + 3] & 0x3f));
+        i += 3;
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return new String(buf, 0, count, StandardCharsets.UTF_8);
+  }
+
+  private void writeField() {
+    writeChar(separator);
+  }
+
+  private void writeInt(Integer value) {
+    if (value == null) {
+      writeText(nullText);
+    } else {
+      writeInt(value.intValue());
+    }
+  }
+
+  private void writeDouble(Double value) {
+    if (value == null) {
+      writeText(nullText);
+    } else {
+      writeDouble(value.doubleValue());
+    }
+  }
+
+  private void writeBoolean(Boolean value) {
+    if (value == null) {
+      writeText(nullText);
+    } else {
+      writeBoolean(value.booleanValue());
+    }
+  }
+
+  private void writeString(String value) {
+    writeText(value == null ? nullText : value);
+  }
+
+  private void writeTimestamp(Timestamp value) {
+    if (value == null) {
+      writeText(nullText);
+    } else {
+      writeTimestamp(Math.floorDiv(value.getTime(), 1000L), value.getNanos(), value);
+    }
+  }
+
+  private void writeInt(int value) {
+    int start = count;
+    writeLong(value);
+    scalarWritten(start);
+  }
+
+  private void writeBoolean(boolean value) {
+    int start = count;
+    writeAscii(value ? "true" : "false");
+    scalarWritten(start);
+  }
+
+  /** Writes {@code Double.toString(value)}. */
+  private void writeDouble(double value) {
+    int start = count;
+    double abs = Math.abs(value);
+    boolean negative = value < 0 || (value == 0 && 1 / value < 0);
+    if (abs == 0) {
+      writeAscii(negative ? "-0.0" : "0.0");
+    } else if (abs >= 1e-3 && abs < 1e7 && writeShortDecimal(abs, negative)) {
+      // written
+    } else {
+      writeAscii(Double.toString(value));
+    }
+    scalarWritten(start);
+  }
+
+  /**
+   * Writes a value below 1e7 that is exactly the double nearest a decimal
+   * with at most 8 fraction digits, using the fewest such digits as
+   * {@code Double.toString} does. Below 1e7 one unit in the last place is
+   * far finer than 1e-8, so that decimal is unique.
+   */
+  private boolean writeShortDecimal(double abs, boolean negative) {
+    for (int digits = 1; digits < POW10.length; digits++) {
+      long scaled = Math.round(abs * POW10[digits]);
+      if (scaled / POW10[digits] == abs) {
+        if (negative) {
+          writeByte('-');
+        }
+        long unit = LONG_POW10[digits];
+        writeLong(scaled / unit);
+        writeByte('.');
+        long fraction = scaled % unit;
+        for (long place = unit / 10; place > 0; place /= 10) {
+          writeByte('0' + (int) (fraction / place % 10));
+        }
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Writes {@code Timestamp.toString()} for an instant in the default time zone. */
+  private void writeTimestamp(long epochSecond, int nanos, Timestamp value) {
+    int start = count;
+    long local = offsets.toLocal(epochSecond);
+    long day = Math.floorDiv(local, 86400L);
+    int secondOfDay = (int) Math.floorMod(local, 86400L);
+    // Days to civil date, after Howard Hinnant's civil_from_days.
+    long shifted = day + 719468;
+    long era = Math.floorDiv(shifted, 146097L);
+    long dayOfEra = shifted - era * 146097;
+    long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    long monthIndex = (5 * dayOfYear + 2) / 153;
+    int dayOfMonth = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+    int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+    long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+    if (year < 1900 || year > 9999) {
+      writeAscii((value != null ? value : slowTimestamp(epochSecond, nanos)).toString());
+      scalarWritten(start);
+      return;
+    }
+    writeDigits((int) year, 4);
+    writeByte('-');
+    writeDigits(month, 2);
+    writeByte('-');
+    writeDigits(dayOfMonth, 2);
+    writeByte(' ');
+    writeDigits(secondOfDay / 3600, 2);
+    writeByte(':');
+    writeDigits(secondOfDay / 60 % 60, 2);
+    writeByte(':');
+    writeDigits(secondOfDay % 60, 2);
+    writeByte('.');
+    if (nanos == 0) {
+      writeByte('0');
+    } else {
+      int digits = 9;
+      while (nanos % 10 == 0) {
+        nanos /= 10;
+        digits--;
+      }
+      writeDigits(nanos, digits);
+    }
+    scalarWritten(start);
+  }
+
+  private static Timestamp slowTimestamp(long epochSecond, int nanos) {
+    Timestamp ts = new Timestamp(epochSecond * 1000L);
+    ts.setNanos(nanos);
+    return ts;
+  }
+
+  /**
+   * Re-writes a scalar that was formatted verbatim from {@code start} when
+   * the delimiters call for escaping or enclosing it.
+   */
+  private void scalarWritten(int start) {
+    if (!plainScalars) {
+      String value = new String(buf, start, count - start, StandardCharsets.ISO_8859_1);
+      count = start;
+      writeText(value);
+    }
+  }
+
+  /** Writes a value with {@code FieldFormatter.escapeAndEnclose} rules. */
+  private void writeText(String value) {
+    if (plainText) {
+      writeUtf8(value);
+      return;
+    }
+    boolean escaping = escape != DelimiterSet.NULL_CHAR;
+    boolean enclosing = enclose != DelimiterSet.NULL_CHAR && (encloseRequired
+        || value.indexOf(fieldDelim) >= 0 || value.indexOf(recordDelim) >= 0);
+    if (enclosing) {
+      writeChar(enclose);
+    }
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (escaping && (c == escape || (enclose == DelimiterSet.NULL_CHAR
+          ? c == fieldDelim || c == recordDelim : c == enclose))) {
+        writeChar(escape);
+      }
+      if (Character.isHighSurrogate(c) && i + 1 < length
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        writeUtf8(value.substring(i, i + 2));
+        i++;
+      } else {
+        writeChar(c);
+      }
+    }
+    if (enclosing) {
+      writeChar(enclose);
+    }
+  }
+
+  private void writeUtf8(String value) {
+    int length = value.length();
+    ensure(length);
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        buf[count++] = (byte) c;
+        continue;
+      }
+      ensure((length - i) * 3);
+      if (c < 0x800) {
+        buf[count++] = (byte) (0xc0 | (c >> 6));
+        buf[count++] = (byte) (0x80 | (c & 0x3f));
+      } else if (Character.isHighSurrogate(c) && i + 1 < length
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        buf[count++] = (byte) (0xf0 | (codePoint >> 18));
+        buf[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+        buf[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+        buf[count++] = (byte) (0x80 | (codePoint & 0x3f));
+      } else if (Character.isSurrogate(c)) {
+        // Unpaired surrogates become '?', as in String.getBytes.
+        buf[count++] = '?';
+      } else {
+        buf[count++] = (byte) (0xe0 | (c >> 12));
+        buf[count++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        buf[count++] = (byte) (0x80 | (c & 0x3f));
+      }
+    }
+  }
+
+  private void writeChar(char c) {
+    if (c < 0x80) {
+      writeByte(c);
+    } else {
+      writeUtf8(String.valueOf(c));
+    }
+  }
+
+  private void writeAscii(String value) {
+    int length = value.length();
+    ensure(length);
+    for (int i = 0; i < length; i++) {
+      buf[count++] = (byte) value.charAt(i);
+    }
+  }
+
+  private void writeLong(long value) {
+    if (value == Long.MIN_VALUE) {
+      writeAscii(Long.toString(value));
+      return;
+    }
+    ensure(20);
+    if (value < 0) {
+      buf[count++] = '-';
+      value = -value;
+    }
+    int end = count + digitCount(value);
+    int pos = end;
+    do {
+      buf[--pos] = (byte) ('0' + value % 10);
+      value /= 10;
+    } while (value != 0);
+    count = end;
+  }
+
+  /** Writes a non-negative value zero-padded to {@code width} digits. */
+  private void writeDigits(int value, int width) {
+    ensure(width);
+    for (int pos = count + width - 1; pos >= count; pos--) {
+      buf[pos] = (byte) ('0' + value % 10);
+      value /= 10;
+    }
+    count += width;
+  }
+
+  private static int digitCount(long value) {
+    int digits = 1;
+    while (value >= 10) {
+      value /= 10;
+      digits++;
+    }
+    return digits;
+  }
+
+  private void writeByte(int b) {
+    ensure(1);
+    buf[count++] = (byte) b;
+  }
+
+  private void ensure(int extra) {
+    if (count + extra > buf.length) {
+      buf = Arrays.copyOf(buf, Math.max(buf.length * 2, count + extra));
+    }
+  }
+}
@@ -0,0 +1,224 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.WritableComparator;
+import org.apache.hadoop.io.WritableUtils;
+
+/**
+ * Read-only flyweight over one serialized us_accidents record.
+ * <p>
+ * {@link #wrap(byte[], int, int)} only reads the header; field offsets are
+ * found by skipping over the preceding payloads the first time a column is
+ * asked for and are remembered for later calls. Nothing is decoded for
+ * columns that are never read, so string columns such as {@code description}
+ * cost a length prefix to step over. Both the compact format written by
+ * {@link us_accidents#write(java.io.DataOutput)}, with or without dictionary
+ * coding, and the PROTOCOL_VERSION 3 layout written by {@code write0} are
+ * understood. One view can be re-wrapped
+ * for every record of a scan.
+ */
+public class AccidentView {
+
+  private final int[] offsets = new int[AccidentSchema.FIELD_COUNT];
+
+  private byte[] bytes;
+  private int end;
+  private boolean compact;
+  private boolean dictionary;
+  private boolean roadMask;
+  private int roadMaskOffset;
+  private long nulls;
+  private int scanned;
+  private int nextOffset;
+
+  public AccidentView wrap(byte[] buf) {
+    return wrap(buf, 0, buf.length);
+  }
+
+  public AccidentView wrap(byte[] buf, int off, int len) {
+    this.bytes = buf;
+    this.end = off + len;
+    this.scanned = 0;
+    int format = buf[off] & 0xFF;
+    if (format == us_accidents.COMPACT_PROTOCOL_VERSION
+        || format == us_accidents.FLAGGED_PROTOCOL_VERSION) {
+      int pos = off + 1;
+      int flags = 0;
+      if (format == us_accidents.FLAGGED_PROTOCOL_VERSION) {
+        flags = buf[pos++] & 0xFF;
+        if ((flags & ~(us_accidents.FLAG_DICTIONARY | us_accidents.FLAG_ROAD_MASK)) != 0) {
+          throw new IllegalArgumentException("Unknown us_accidents format flags: " + flags);
+        }
+      }
+      compact = true;
+      dictionary = (flags & us_accidents.FLAG_DICTIONARY) != 0;
+      roadMask = (flags & us_accidents.FLAG_ROAD_MASK) != 0;
+      nulls = 0L;
+      for (int i = 0; i < us_accidents.NULL_BITMAP_BYTES; i++) {
+        nulls |= (long) (buf[pos++] & 0xFF) << (8 * i);
+      }
+      if (dictionary) {
+        int version = buf[pos++] & 0xFF;
+        if (version < 1 || version > AccidentDictionary.VERSION) {
+          throw new IllegalArgumentException("Unsupported dictionary version " + version);
+        }
+      }
+      nextOffset = pos;
+    } else {
+      // The legacy layout keeps a null flag in front of every field, so the
+      // null bits are filled in while scanning.
+      compact = false;
+      dictionary = false;
+      roadMask = false;
+      nulls = 0L;
+      nextOffset = off;
+    }
+    return this;
+  }
+
+  /** Wraps the remaining bytes of a heap buffer without copying them. */
+  public AccidentView wrap(ByteBuffer buf) {
+    if (!buf.hasArray()) {
+      throw new IllegalArgumentException("AccidentView needs a heap ByteBuffer");
+    }
+    return wrap(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+  }
+
+  public boolean isNull(int field) throws IOException {
+    locate(field);
+    return (nulls & (1L << field)) != 0;
+  }
+
+  public int getInt(int field) throws IOException {
+    int pos = require(field, AccidentSchema.TYPE_INT);
+    return compact ? VarIntCodec.readVInt(bytes, pos) : WritableComparator.readInt(bytes, pos);
+  }
+
+  public double getDouble(int field) throws IOException {
+    return WritableComparator.readDouble(bytes, require(field, AccidentSchema.TYPE_DOUBLE));
+  }
+
+  public boolean getBoolean(int field) throws IOException {
+    int pos = require(field, AccidentSchema.TYPE_BOOLEAN);
+    if (roadMask) {
+      return (WritableComparator.readUnsignedShort(bytes, pos)
+          & (1 << (field - AccidentSchema.AMENITY))) != 0;
+    }
+    return bytes[pos] != 0;
+  }
+
+  /** Returns a timestamp column as epoch microseconds. */
+  public long getMicros(int field) throws IOException {
+    return getEpochSeconds(field) * 1000000L + getNanos(field) / 1000;
+  }
+
+  /** Returns the whole seconds of a timestamp column since the epoch. */
+  public long getEpochSeconds(int field) throws IOException {
+    int pos = require(field, AccidentSchema.TYPE_TIMESTAMP);
+    if (compact) {
+      return VarIntCodec.readVLong(bytes, pos);
+    }
+    return Math.floorDiv(WritableComparator.readLong(bytes, pos), 1000L);
+  }
+
+  /** Returns the fractional part of a timestamp column in nanoseconds. */
+  public int getNanos(int field) throws IOException {
+    int pos = require(field, AccidentSchema.TYPE_TIMESTAMP);
+    if (compact) {
+      return VarIntCodec.readVInt(bytes, pos + VarIntCodec.vIntSize(bytes, pos));
+    }
+    return WritableComparator.readInt(bytes, pos + 8);
+  }
+
+  public Timestamp getTimestamp(int field) throws IOException {
+    return isNull(field) ? null : PrimitiveAccident.toTimestamp(getMicros(field));
+  }
+
+  public String getString(int field) throws IOException {
+    if (isNull(field)) {
+      return null;
+    }
+    int pos = require(field, AccidentSchema.TYPE_STRING);
+    if (dictionary && AccidentDictionary.isEncoded(field)) {
+      int code = VarIntCodec.readVInt(bytes, pos);
+      if (code != 0) {
+        return AccidentDictionary.decode(field, code);
+      }
+      pos += VarIntCodec.vIntSize(bytes, pos);
+    }
+    int prefix = WritableUtils.decodeVIntSize(bytes[pos]);
+    int length = WritableComparator.readVInt(bytes, pos);
+    return Text.decode(bytes, pos + prefix, length);
+  }
+
+  private int require(int field, int type) throws IOException {
+    if (AccidentSchema.type(field) != type) {
+      throw new IllegalArgumentException("Column " + AccidentSchema.name(field)
+          + " has a different type");
+    }
+    if (isNull(field)) {
+      throw new IllegalStateException("Column " + AccidentSchema.name(field) + " is null");
+    }
+    return offsets[field];
+  }
+
+  private void locate(int field) throws IOException {
+    while (scanned <= field) {
+      int f = scanned;
+      int pos = nextOffset;
+      if (!compact) {
+        if (bytes[pos++] != 0) {
+          nulls |= 1L << f;
+        }
+      }
+      if (roadMask && AccidentSchema.type(f) == AccidentSchema.TYPE_BOOLEAN) {
+        // All road-feature columns share the mask written in place of amenity.
+        if (f == AccidentSchema.AMENITY) {
+          roadMaskOffset = pos;
+          pos += 2;
+        }
+        offsets[f] = (nulls & (1L << f)) != 0 ? -1 : roadMaskOffset;
+      } else if ((nulls & (1L << f)) != 0) {
+        offsets[f] = -1;
+      } else {
+        offsets[f] = pos;
+        pos += payloadSize(f, pos);
+      }
+      if (pos > end) {
+        throw new IOException("Record truncated at column " + AccidentSchema.name(f));
+      }
+      nextOffset = pos;
+      scanned++;
+    }
+  }
+
+  private int payloadSize(int field, int pos) throws IOException {
+    switch (AccidentSchema.type(field)) {
+    case AccidentSchema.TYPE_INT:
+      return compact ? VarIntCodec.vIntSize(bytes, pos) : 4;
+    case AccidentSchema.TYPE_STRING:
+      int codeSize = 0;
+      if (dictionary && AccidentDictionary.isEncoded(field)) {
+        if (VarIntCodec.readVInt(bytes, pos) != 0) {
+          return VarIntCodec.vIntSize(bytes, pos);
+        }
+        codeSize = VarIntCodec.vIntSize(bytes, pos);
+        pos += codeSize;
+      }
+      return codeSize + WritableUtils.decodeVIntSize(bytes[pos])
+          + WritableComparator.readVInt(bytes, pos);
+    case AccidentSchema.TYPE_TIMESTAMP:
+      if (!compact) {
+        return 12;
+      }
+      int secondsSize = VarIntCodec.vIntSize(bytes, pos);
+      return secondsSize + VarIntCodec.vIntSize(bytes, pos + secondsSize);
+    case AccidentSchema.TYPE_DOUBLE:
+      return 8;
+    default:
+      return 1;
+    }
+  }
+}
@@ -0,0 +1,1320 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import org.apache.hadoop.conf.Configurable;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.Writable;
+
+/**
+ * Reusable, primitive-backed variant of {@link us_accidents}.
+ * <p>
+ * Numeric, boolean and timestamp columns are stored as primitives and nulls
+ * are tracked in one bitset indexed by {@link AccidentSchema} field number,
+ * so {@link #readFields(DataInput)} allocates nothing but the string columns
+ * and one instance can be reused for every record of a task. Timestamps are
+ * held as epoch microseconds. The boxed {@code get_*}/{@code set_*} accessors
+ * mirror {@link us_accidents} for existing callers.
+ */
+public class PrimitiveAccident implements Writable, Configurable {
+
+  private Configuration conf;
+  private boolean dictionaryEncoding;
+
+  private long nulls = AccidentSchema.ALL_FIELDS;
+
+  private int id;
+  private String id_str;
+  private String source;
+  private int severity;
+  private long start_time_micros;
+  private long end_time_micros;
+  private double start_lat;
+  private double start_lng;
+  private double end_lat;
+  private double end_lng;
+  private double distance_mi;
+  private String description;
+  private String street;
+  private String city;
+  private String county;
+  private String state;
+  private String zipcode;
+  private String country;
+  private String timezone;
+  private String airport_code;
+  private long weather_timestamp_micros;
+  private double temperature_f;
+  private double wind_chill_f;
+  private double humidity_percent;
+  private double pressure_in;
+  private double visibility_mi;
+  private String wind_direction;
+  private double wind_speed_mph;
+  private double precipitation_in;
+  private String weather_condition;
+  private short road_features;
+  private String sunrise_sunset;
+  private String civil_twilight;
+  private String nautical_twilight;
+  private String astronomical_twilight;
+
+  public boolean isNull(int field) {
+    return (nulls & (1L << field)) != 0;
+  }
+
+  public long getNulls() {
+    return nulls;
+  }
+
+  public void setNull(int field) {
+    nulls |= 1L << field;
+    int type = AccidentSchema.type(field);
+    if (type == AccidentSchema.TYPE_STRING) {
+      setStringValue(field, null);
+    } else if (type == AccidentSchema.TYPE_BOOLEAN) {
+      road_features &= ~roadBit(field);
+    }
+  }
+
+  /** Marks every column null so the instance can be refilled. */
+  public void clear() {
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      setNull(f);
+    }
+  }
+
+  private void present(int field) {
+    nulls &= ~(1L << field);
+  }
+
+  public int id() {
+    return id;
+  }
+  public void set_id(int id) {
+    this.id = id;
+    present(AccidentSchema.ID);
+  }
+  public Integer get_id() {
+    return isNull(AccidentSchema.ID) ? null : Integer.valueOf(id);
+  }
+  public void set_id(Integer id) {
+    if (id == null) {
+      setNull(AccidentSchema.ID);
+    } else {
+      set_id(id.intValue());
+    }
+  }
+
+  public String get_id_str() {
+    return id_str;
+  }
+  public void set_id_str(String id_str) {
+    setString(AccidentSchema.ID_STR, id_str);
+  }
+
+  public String get_source() {
+    return source;
+  }
+  public void set_source(String source) {
+    setString(AccidentSchema.SOURCE, source);
+  }
+
+  public int severity() {
+    return severity;
+  }
+  public void set_severity(int severity) {
+    this.severity = severity;
+    present(AccidentSchema.SEVERITY);
+  }
+  public Integer get_severity() {
+    return isNull(AccidentSchema.SEVERITY) ? null : Integer.valueOf(severity);
+  }
+  public void set_severity(Integer severity) {
+    if (severity == null) {
+      setNull(AccidentSchema.SEVERITY);
+    } else {
+      set_severity(severity.intValue());
+    }
+  }
+
+  public long start_time_micros() {
+    return start_time_micros;
+  }
+  public void set_start_time_micros(long micros) {
+    this.start_time_micros = micros;
+    present(AccidentSchema.START_TIME);
+  }
+  public Timestamp get_start_time() {
+    return isNull(AccidentSchema.START_TIME) ? null : toTimestamp(start_time_micros);
+  }
+  public void set_start_time(Timestamp start_time) {
+    if (start_time == null) {
+      setNull(AccidentSchema.START_TIME);
+    } else {
+      set_start_time_micros(toMicros(start_time));
+    }
+  }
+
+  public long end_time_micros() {
+    return end_time_micros;
+  }
+  public void set_end_time_micros(long micros) {
+    this.end_time_micros = micros;
+    present(AccidentSchema.END_TIME);
+  }
+  public Timestamp get_end_time() {
+    return isNull(AccidentSchema.END_TIME) ? null : toTimestamp(end_time_micros);
+  }
+  public void set_end_time(Timestamp end_time) {
+    if (end_time == null) {
+      setNull(AccidentSchema.END_TIME);
+    } else {
+      set_end_time_micros(toMicros(end_time));
+    }
+  }
+
+  public double start_lat() {
+    return start_lat;
+  }
+  public void set_start_lat(double start_lat) {
+    this.start_lat = start_lat;
+    present(AccidentSchema.START_LAT);
+  }
+  public Double get_start_lat() {
+    return isNull(AccidentSchema.START_LAT) ? null : Double.valueOf(start_lat);
+  }
+  public void set_start_lat(Double start_lat) {
+    if (start_lat == null) {
+      setNull(AccidentSchema.START_LAT);
+    } else {
+      set_start_lat(start_lat.doubleValue());
+    }
+  }
+
+  public double start_lng() {
+    return start_lng;
+  }
+  public void set_start_lng(double start_lng) {
+    this.start_lng = start_lng;
+    present(AccidentSchema.START_LNG);
+  }
+  public Double get_start_lng() {
+    return isNull(AccidentSchema.START_LNG) ? null : Double.valueOf(start_lng);
+  }
+  public void set_start_lng(Double start_lng) {
+    if (start_lng == null) {
+      setNull(AccidentSchema.START_LNG);
+    } else {
+      set_start_lng(start_lng.doubleValue());
+    }
+  }
+
+  public double end_lat() {
+    return end_lat;
+  }
+  public void set_end_lat(double end_lat) {
+    this.end_lat = end_lat;
+    present(AccidentSchema.END_LAT);
+  }
+  public Double get_end_lat() {
+    return isNull(AccidentSchema.END_LAT) ? null : Double.valueOf(end_lat);
+  }
+  public void set_end_lat(Double end_lat) {
+    if (end_lat == null) {
+      setNull(AccidentSchema.END_LAT);
+    } else {
+      set_end_lat(end_lat.doubleValue());
+    }
+  }
+
+  public double end_lng() {
+    return end_lng;
+  }
+  public void set_end_lng(double end_lng) {
+    this.end_lng = end_lng;
+    present(AccidentSchema.END_LNG);
+  }
+  public Double get_end_lng() {
+    return isNull(AccidentSchema.END_LNG) ? null : Double.valueOf(end_lng);
+  }
+  public void set_end_lng(Double end_lng) {
+    if (end_lng == null) {
+      setNull(AccidentSchema.END_LNG);
+    } else {
+      set_end_lng(end_lng.doubleValue());
+    }
+  }
+
+  public double distance_mi() {
+    return distance_mi;
+  }
+  public void set_distance_mi(double distance_mi) {
+    this.distance_mi = distance_mi;
+    present(AccidentSchema.DISTANCE_MI);
+  }
+  public Double get_distance_mi() {
+    return isNull(AccidentSchema.DISTANCE_MI) ? null : Double.valueOf(distance_mi);
+  }
+  public void set_distance_mi(Double distance_mi) {
+    if (distance_mi == null) {
+      setNull(AccidentSchema.DISTANCE_MI);
+    } else {
+      set_distance_mi(distance_mi.doubleValue());
+    }
+  }
+
+  public String get_description() {
+    return description;
+  }
+  public void set_description(String description) {
+    setString(AccidentSchema.DESCRIPTION, description);
+  }
+
+  public String get_street() {
+    return street;
+  }
+  public void set_street(String street) {
+    setString(AccidentSchema.STREET, street);
+  }
+
+  public String get_city() {
+    return city;
+  }
+  public void set_city(String city) {
+    setString(AccidentSchema.CITY, city);
+  }
+
+  public String get_county() {
+    return county;
+  }
+  public void set_county(String county) {
+    setString(AccidentSchema.COUNTY, county);
+  }
+
+  public String get_state() {
+    return state;
+  }
+  public void set_state(String state) {
+    setString(AccidentSchema.STATE, state);
+  }
+
+  public String get_zipcode() {
+    return zipcode;
+  }
+  public void set_zipcode(String zipcode) {
+    setString(AccidentSchema.ZIPCODE, zipcode);
+  }
+
+  public String get_country() {
+    return country;
+  }
+  public void set_country(String country) {
+    setString(AccidentSchema.COUNTRY, country);
+  }
+
+  public String get_timezone() {
+    return timezone;
+  }
+  public void set_timezone(String timezone) {
+    setString(AccidentSchema.TIMEZONE, timezone);
+  }
+
+  public String get_airport_code() {
+    return airport_code;
+  }
+  public void set_airport_code(String airport_code) {
+    setString(AccidentSchema.AIRPORT_CODE, airport_code);
+  }
+
+  public long weather_timestamp_micros() {
+    return weather_timestamp_micros;
+  }
+  public void set_weather_timestamp_micros(long micros) {
+    this.weather_timestamp_micros = micros;
+    present(AccidentSchema.WEATHER_TIMESTAMP);
+  }
+  public Timestamp get_weather_timestamp() {
+    return isNull(AccidentSchema.WEATHER_TIMESTAMP) ? null : toTimestamp(weather_timestamp_micros);
+  }
+  public void set_weather_timestamp(Timestamp weather_timestamp) {
+    if (weather_timestamp == null) {
+      setNull(AccidentSchema.WEATHER_TIMESTAMP);
+    } else {
+      set_weather_timestamp_micros(toMicros(weather_timestamp));
+    }
+  }
+
+  public double temperature_f() {
+    return temperature_f;
+  }
+  public void set_temperature_f(double temperature_f) {
+    this.temperature_f = temperature_f;
+    present(AccidentSchema.TEMPERATURE_F);
+  }
+  public Double get_temperature_f() {
+    return isNull(AccidentSchema.TEMPERATURE_F) ? null : Double.valueOf(temperature_f);
+  }
+  public void set_temperature_f(Double temperature_f) {
+    if (temperature_f == null) {
+      setNull(AccidentSchema.TEMPERATURE_F);
+    } else {
+      set_temperature_f(temperature_f.doubleValue());
+    }
+  }
+
+  public double wind_chill_f() {
+    return wind_chill_f;
+  }
+  public void set_wind_chill_f(double wind_chill_f) {
+    this.wind_chill_f = wind_chill_f;
+    present(AccidentSchema.WIND_CHILL_F);
+  }
+  public Double get_wind_chill_f() {
+    return isNull(AccidentSchema.WIND_CHILL_F) ? null : Double.valueOf(wind_chill_f);
+  }
+  public void set_wind_chill_f(Double wind_chill_f) {
+    if (wind_chill_f == null) {
+      setNull(AccidentSchema.WIND_CHILL_F);
+    } else {
+      set_wind_chill_f(wind_chill_f.doubleValue());
+    }
+  }
+
+  public double humidity_percent() {
+    return humidity_percent;
+  }
+  public void set_humidity_percent(double humidity_percent) {
+    this.humidity_percent = humidity_percent;
+    present(AccidentSchema.HUMIDITY_PERCENT);
+  }
+  public Double get_humidity_percent() {
+    return isNull(AccidentSchema.HUMIDITY_PERCENT) ? null : Double.valueOf(humidity_percent);
+  }
+  public void set_humidity_percent(Double humidity_percent) {
+    if (humidity_percent == null) {
+      setNull(AccidentSchema.HUMIDITY_PERCENT);
+    } else {
+      set_humidity_percent(humidity_percent.doubleValue());
+    }
+  }
+
+  public double pressure_in() {
+    return pressure_in;
+  }
+  public void set_pressure_in(double pressure_in) {
+    this.pressure_in = pressure_in;
+    present(AccidentSchema.PRESSURE_IN);
+  }
+  public Double get_pressure_in() {
+    return isNull(AccidentSchema.PRESSURE_IN) ? null : Double.valueOf(pressure_in);
+  }
+  public void set_pressure_in(Double pressure_in) {
+    if (pressure_in == null) {
+      setNull(AccidentSchema.PRESSURE_IN);
+    } else {
+      set_pressure_in(pressure_in.doubleValue());
+    }
+  }
+
+  public double visibility_mi() {
+    return visibility_mi;
+  }
+  public void set_visibility_mi(double visibility_mi) {
+    this.visibility_mi = visibility_mi;
+    present(AccidentSchema.VISIBILITY_MI);
+  }
+  public Double get_visibility_mi() {
+    return isNull(AccidentSchema.VISIBILITY_MI) ? null : Double.valueOf(visibility_mi);
+  }
+  public void set_visibility_mi(Double visibility_mi) {
+    if (visibility_mi == null) {
+      setNull(AccidentSchema.VISIBILITY_MI);
+    } else {
+      set_visibility_mi(visibility_mi.doubleValue());
+    }
+  }
+
+  public String get_wind_direction() {
+    return wind_direction;
+  }
+  public void set_wind_direction(String wind_direction) {
+    setString(AccidentSchema.WIND_DIRECTION, wind_direction);
+  }
+
+  public double wind_speed_mph() {
+    return wind_speed_mph;
+  }
+  public void set_wind_speed_mph(double wind_speed_mph) {
+    this.wind_speed_mph = wind_speed_mph;
+    present(AccidentSchema.WIND_SPEED_MPH);
+  }
+  public Double get_wind_speed_mph() {
+    return isNull(AccidentSchema.WIND_SPEED_MPH) ? null : Double.valueOf(wind_speed_mph);
+  }
+  public void set_wind_speed_mph(Double wind_speed_mph) {
+    if (wind_speed_mph == null) {
+      setNull(AccidentSchema.WIND_SPEED_MPH);
+    } else {
+      set_wind_speed_mph(wind_speed_mph.doubleValue());
+    }
+  }
+
+  public double precipitation_in() {
+    return precipitation_in;
+  }
+  public void set_precipitation_in(double precipitation_in) {
+    this.precipitation_in = precipitation_in;
+    present(AccidentSchema.PRECIPITATION_IN);
+  }
+  public Double get_precipitation_in() {
+    return isNull(AccidentSchema.PRECIPITATION_IN) ? null : Double.valueOf(precipitation_in);
+  }
+  public void set_precipitation_in(Double precipitation_in) {
+    if (precipitation_in == null) {
+      setNull(AccidentSchema.PRECIPITATION_IN);
+    } else {
+      set_precipitation_in(precipitation_in.doubleValue());
+    }
+  }
+
+  public String get_weather_condition() {
+    return weather_condition;
+  }
+  public void set_weather_condition(String weather_condition) {
+    setString(AccidentSchema.WEATHER_CONDITION, weather_condition);
+  }
+
+  public boolean amenity() {
+    return (road_features & us_accidents.ROAD_AMENITY) != 0;
+  }
+  public void set_amenity(boolean amenity) {
+    setBoolean(AccidentSchema.AMENITY, amenity);
+  }
+  public Boolean get_amenity() {
+    return isNull(AccidentSchema.AMENITY) ? null : Boolean.valueOf(amenity());
+  }
+  public void set_amenity(Boolean amenity) {
+    if (amenity == null) {
+      setNull(AccidentSchema.AMENITY);
+    } else {
+      set_amenity(amenity.booleanValue());
+    }
+  }
+
+  public boolean bump() {
+    return (road_features & us_accidents.ROAD_BUMP) != 0;
+  }
+  public void set_bump(boolean bump) {
+    setBoolean(AccidentSchema.BUMP, bump);
+  }
+  public Boolean get_bump() {
+    return isNull(AccidentSchema.BUMP) ? null : Boolean.valueOf(bump());
+  }
+  public void set_bump(Boolean bump) {
+    if (bump == null) {
+      setNull(AccidentSchema.BUMP);
+    } else {
+      set_bump(bump.booleanValue());
+    }
+  }
+
+  public boolean crossing() {
+    return (road_features & us_accidents.ROAD_CROSSING) != 0;
+  }
+  public void set_crossing(boolean crossing) {
+    setBoolean(AccidentSchema.CROSSING, crossing);
+  }
+  public Boolean get_crossing() {
+    return isNull(AccidentSchema.CROSSING) ? null : Boolean.valueOf(crossing());
+  }
+  public void set_crossing(Boolean crossing) {
+    if (crossing == null) {
+      setNull(AccidentSchema.CROSSING);
+    } else {
+      set_crossing(crossing.booleanValue());
+    }
+  }
+
+  public boolean give_way() {
+    return (road_features & us_accidents.ROAD_GIVE_WAY) != 0;
+  }
+  public void set_give_way(boolean give_way) {
+    setBoolean(AccidentSchema.GIVE_WAY, give_way);
+  }
+  public Boolean get_give_way() {
+    return isNull(AccidentSchema.GIVE_WAY) ? null : Boolean.valueOf(give_way());
+  }
+  public void set_give_way(Boolean give_way) {
+    if (give_way == null) {
+      setNull(AccidentSchema.GIVE_WAY);
+    } else {
+      set_give_way(give_way.booleanValue());
+    }
+  }
+
+  public boolean junction() {
+    return (road_features & us_accidents.ROAD_JUNCTION) != 0;
+  }
+  public void set_junction(boolean junction) {
+    setBoolean(AccidentSchema.JUNCTION, junction);
+  }
+  public Boolean get_junction() {
+    return isNull(AccidentSchema.JUNCTION) ? null : Boolean.valueOf(junction());
+  }
+  public void set_junction(Boolean junction) {
+    if (junction == null) {
+      setNull(AccidentSchema.JUNCTION);
+    } else {
+      set_junction(junction.booleanValue());
+    }
+  }
+
+  public boolean no_exit() {
+    return (road_features & us_accidents.ROAD_NO_EXIT) != 0;
+  }
+  public void set_no_exit(boolean no_exit) {
+    setBoolean(AccidentSchema.NO_EXIT, no_exit);
+  }
+  public Boolean get_no_exit() {
+    return isNull(AccidentSchema.NO_EXIT) ? null : Boolean.valueOf(no_exit());
+  }
+  public void set_no_exit(Boolean no_exit) {
+    if (no_exit == null) {
+      setNull(AccidentSchema.NO_EXIT);
+    } else {
+      set_no_exit(no_exit.booleanValue());
+    }
+  }
+
+  public boolean railway() {
+    return (road_features & us_accidents.ROAD_RAILWAY) != 0;
+  }
+  public void set_railway(boolean railway) {
+    setBoolean(AccidentSchema.RAILWAY, railway);
+  }
+  public Boolean get_railway() {
+    return isNull(AccidentSchema.RAILWAY) ? null : Boolean.valueOf(railway());
+  }
+  public void set_railway(Boolean railway) {
+    if (railway == null) {
+      setNull(AccidentSchema.RAILWAY);
+    } else {
+      set_railway(railway.booleanValue());
+    }
+  }
+
+  public boolean roundabout() {
+    return (road_features & us_accidents.ROAD_ROUNDABOUT) != 0;
+  }
+  public void set_roundabout(boolean roundabout) {
+    setBoolean(AccidentSchema.ROUNDABOUT, roundabout);
+  }
+  public Boolean get_roundabout() {
+    return isNull(AccidentSchema.ROUNDABOUT) ? null : Boolean.valueOf(roundabout());
+  }
+  public void set_roundabout(Boolean roundabout) {
+    if (roundabout == null) {
+      setNull(AccidentSchema.ROUNDABOUT);
+    } else {
+      set_roundabout(roundabout.booleanValue());
+    }
+  }
+
+  public boolean station() {
+    return (road_features & us_accidents.ROAD_STATION) != 0;
+  }
+  public void set_station(boolean station) {
+    setBoolean(AccidentSchema.STATION, station);
+  }
+  public Boolean get_station() {
+    return isNull(AccidentSchema.STATION) ? null : Boolean.valueOf(station());
+  }
+  public void set_station(Boolean station) {
+    if (station == null) {
+      setNull(AccidentSchema.STATION);
+    } else {
+      set_station(station.booleanValue());
+    }
+  }
+
+  public boolean stop() {
+    return (road_features & us_accidents.ROAD_STOP) != 0;
+  }
+  public void set_stop(boolean stop) {
+    setBoolean(AccidentSchema.STOP, stop);
+  }
+  public Boolean get_stop() {
+    return isNull(AccidentSchema.STOP) ? null : Boolean.valueOf(stop());
+  }
+  public void set_stop(Boolean stop) {
+    if (stop == null) {
+      setNull(AccidentSchema.STOP);
+    } else {
+      set_stop(stop.booleanValue());
+    }
+  }
+
+  public boolean traffic_calming() {
+    return (road_features & us_accidents.ROAD_TRAFFIC_CALMING) != 0;
+  }
+  public void set_traffic_calming(boolean traffic_calming) {
+    setBoolean(AccidentSchema.TRAFFIC_CALMING, traffic_calming);
+  }
+  public Boolean get_traffic_calming() {
+    return isNull(AccidentSchema.TRAFFIC_CALMING) ? null : Boolean.valueOf(traffic_calming());
+  }
+  public void set_traffic_calming(Boolean traffic_calming) {
+    if (traffic_calming == null) {
+      setNull(AccidentSchema.TRAFFIC_CALMING);
+    } else {
+      set_traffic_calming(traffic_calming.booleanValue());
+    }
+  }
+
+  public boolean traffic_signal() {
+    return (road_features & us_accidents.ROAD_TRAFFIC_SIGNAL) != 0;
+  }
+  public void set_traffic_signal(boolean traffic_signal) {
+    setBoolean(AccidentSchema.TRAFFIC_SIGNAL, traffic_signal);
+  }
+  public Boolean get_traffic_signal() {
+    return isNull(AccidentSchema.TRAFFIC_SIGNAL) ? null : Boolean.valueOf(traffic_signal());
+  }
+  public void set_traffic_signal(Boolean traffic_signal) {
+    if (traffic_signal == null) {
+      setNull(AccidentSchema.TRAFFIC_SIGNAL);
+    } else {
+      set_traffic_signal(traffic_signal.booleanValue());
+    }
+  }
+
+  public boolean turning_loop() {
+    return (road_features & us_accidents.ROAD_TURNING_LOOP) != 0;
+  }
+  public void set_turning_loop(boolean turning_loop) {
+    setBoolean(AccidentSchema.TURNING_LOOP, turning_loop);
+  }
+  public Boolean get_turning_loop() {
+    return isNull(AccidentSchema.TURNING_LOOP) ? null : Boolean.valueOf(turning_loop());
+  }
+  public void set_turning_loop(Boolean turning_loop) {
+    if (turning_loop == null) {
+      setNull(AccidentSchema.TURNING_LOOP);
+    } else {
+      set_turning_loop(turning_loop.booleanValue());
+    }
+  }
+
+  public String get_sunrise_sunset() {
+    return sunrise_sunset;
+  }
+  public void set_sunrise_sunset(String sunrise_sunset) {
+    setString(AccidentSchema.SUNRISE_SUNSET, sunrise_sunset);
+  }
+
+  public String get_civil_twilight() {
+    return civil_twilight;
+  }
+  public void set_civil_twilight(String civil_twilight) {
+    setString(AccidentSchema.CIVIL_TWILIGHT, civil_twilight);
+  }
+
+  public String get_nautical_twilight() {
+    return nautical_twilight;
+  }
+  public void set_nautical_twilight(String nautical_twilight) {
+    setString(AccidentSchema.NAUTICAL_TWILIGHT, nautical_twilight);
+  }
+
+  public String get_astronomical_twilight() {
+    return astronomical_twilight;
+  }
+  public void set_astronomical_twilight(String astronomical_twilight) {
+    setString(AccidentSchema.ASTRONOMICAL_TWILIGHT, astronomical_twilight);
+  }
+
+  public int getInt(int field) {
+    switch (field) {
+    case AccidentSchema.ID:
+      return id;
+    case AccidentSchema.SEVERITY:
+      return severity;
+    default:
+      throw new IllegalArgumentException("Not a int field: " + field);
+    }
+  }
+
+  public void setInt(int field, int value) {
+    switch (field) {
+    case AccidentSchema.ID:
+      id = value;
+      break;
+    case AccidentSchema.SEVERITY:
+      severity = value;
+      break;
+    default:
+      throw new IllegalArgumentException("Not a int field: " + field);
+    }
+    present(field);
+  }
+
+  public double getDouble(int field) {
+    switch (field) {
+    case AccidentSchema.START_LAT:
+      return start_lat;
+    case AccidentSchema.START_LNG:
+      return start_lng;
+    case AccidentSchema.END_LAT:
+      return end_lat;
+    case AccidentSchema.END_LNG:
+      return end_lng;
+    case AccidentSchema.DISTANCE_MI:
+      return distance_mi;
+    case AccidentSchema.TEMPERATURE_F:
+      return temperature_f;
+    case AccidentSchema.WIND_CHILL_F:
+      return wind_chill_f;
+    case AccidentSchema.HUMIDITY_PERCENT:
+      return humidity_percent;
+    case AccidentSchema.PRESSURE_IN:
+      return pressure_in;
+    case AccidentSchema.VISIBILITY_MI:
+      return visibility_mi;
+    case AccidentSchema.WIND_SPEED_MPH:
+      return wind_speed_mph;
+    case AccidentSchema.PRECIPITATION_IN:
+      return precipitation_in;
+    default:
+      throw new IllegalArgumentException("Not a double field: " + field);
+    }
+  }
+
+  public void setDouble(int field, double value) {
+    switch (field) {
+    case AccidentSchema.START_LAT:
+      start_lat = value;
+      break;
+    case AccidentSchema.START_LNG:
+      start_lng = value;
+      break;
+    case AccidentSchema.END_LAT:
+      end_lat = value;
+      break;
+    case AccidentSchema.END_LNG:
+      end_lng = value;
+      break;
+    case AccidentSchema.DISTANCE_MI:
+      distance_mi = value;
+      break;
+    case AccidentSchema.TEMPERATURE_F:
+      temperature_f = value;
+      break;
+    case AccidentSchema.WIND_CHILL_F:
+      wind_chill_f = value;
+      break;
+    case AccidentSchema.HUMIDITY_PERCENT:
+      humidity_percent = value;
+      break;
+    case AccidentSchema.PRESSURE_IN:
+      pressure_in = value;
+      break;
+    case AccidentSchema.VISIBILITY_MI:
+      visibility_mi = value;
+      break;
+    case AccidentSchema.WIND_SPEED_MPH:
+      wind_speed_mph = value;
+      break;
+    case AccidentSchema.PRECIPITATION_IN:
+      precipitation_in = value;
+      break;
+    default:
+      throw new IllegalArgumentException("Not a double field: " + field);
+    }
+    present(field);
+  }
+
+  public long getMicros(int field) {
+    switch (field) {
+    case AccidentSchema.START_TIME:
+      return start_time_micros;
+    case AccidentSchema.END_TIME:
+      return end_time_micros;
+    case AccidentSchema.WEATHER_TIMESTAMP:
+      return weather_timestamp_micros;
+    default:
+      throw new IllegalArgumentException("Not a timestamp field: " + field);
+    }
+  }
+
+  public void setMicros(int field, long value) {
+    switch (field) {
+    case AccidentSchema.START_TIME:
+      start_time_micros = value;
+      break;
+    case AccidentSchema.END_TIME:
+      end_time_micros = value;
+      break;
+    case AccidentSchema.WEATHER_TIMESTAMP:
+      weather_timestamp_micros = value;
+      break;
+    default:
+      throw new IllegalArgumentException("Not a timestamp field: " + field);
+    }
+    present(field);
+  }
+
+  public boolean getBoolean(int field) {
+    return (road_features & roadBit(field)) != 0;
+  }
+
+  public void setBoolean(int field, boolean value) {
+    int bit = roadBit(field);
+    if (value) {
+      road_features |= bit;
+    } else {
+      road_features &= ~bit;
+    }
+    present(field);
+  }
+
+  /** Road-feature columns as {@code us_accidents.ROAD_*} bits; null columns read as 0. */
+  public short getRoadFeatures() {
+    return road_features;
+  }
+
+  /** True if any of the {@code us_accidents.ROAD_*} bits in mask is set. */
+  public boolean hasAnyRoadFeature(int mask) {
+    return (road_features & mask) != 0;
+  }
+
+  /** True if all of the {@code us_accidents.ROAD_*} bits in mask are set. */
+  public boolean hasAllRoadFeatures(int mask) {
+    return (road_features & mask) == mask;
+  }
+
+  private static int roadBit(int field) {
+    if (AccidentSchema.type(field) != AccidentSchema.TYPE_BOOLEAN) {
+      throw new IllegalArgumentException("Not a boolean field: " + field);
+    }
+    return 1 << (field - AccidentSchema.AMENITY);
+  }
+
+  public String getString(int field) {
+    switch (field) {
+    case AccidentSchema.ID_STR:
+      return id_str;
+    case AccidentSchema.SOURCE:
+      return source;
+    case AccidentSchema.DESCRIPTION:
+      return description;
+    case AccidentSchema.STREET:
+      return street;
+    case AccidentSchema.CITY:
+      return city;
+    case AccidentSchema.COUNTY:
+      return county;
+    case AccidentSchema.STATE:
+      return state;
+    case AccidentSchema.ZIPCODE:
+      return zipcode;
+    case AccidentSchema.COUNTRY:
+      return country;
+    case AccidentSchema.TIMEZONE:
+      return timezone;
+    case AccidentSchema.AIRPORT_CODE:
+      return airport_code;
+    case AccidentSchema.WIND_DIRECTION:
+      return wind_direction;
+    case AccidentSchema.WEATHER_CONDITION:
+      return weather_condition;
+    case AccidentSchema.SUNRISE_SUNSET:
+      return sunrise_sunset;
+    case AccidentSchema.CIVIL_TWILIGHT:
+      return civil_twilight;
+    case AccidentSchema.NAUTICAL_TWILIGHT:
+      return nautical_twilight;
+    case AccidentSchema.ASTRONOMICAL_TWILIGHT:
+      return astronomical_twilight;
+    default:
+      throw new IllegalArgumentException("Not a string field: " + field);
+    }
+  }
+
+  public void setString(int field, String value) {
+    setStringValue(field, value);
+    if (value == null) {
+      nulls |= 1L << field;
+    } else {
+      present(field);
+    }
+  }
+
+  private void setStringValue(int field, String value) {
+    switch (field) {
+    case AccidentSchema.ID_STR:
+      id_str = value;
+      break;
+    case AccidentSchema.SOURCE:
+      source = value;
+      break;
+    case AccidentSchema.DESCRIPTION:
+      description = value;
+      break;
+    case AccidentSchema.STREET:
+      street = value;
+      break;
+    case AccidentSchema.CITY:
+      city = value;
+      break;
+    case AccidentSchema.COUNTY:
+      county = value;
+      break;
+    case AccidentSchema.STATE:
+      state = value;
+      break;
+    case AccidentSchema.ZIPCODE:
+      zipcode = value;
+      break;
+    case AccidentSchema.COUNTRY:
+      country = value;
+      break;
+    case AccidentSchema.TIMEZONE:
+      timezone = value;
+      break;
+    case AccidentSchema.AIRPORT_CODE:
+      airport_code = value;
+      break;
+    case AccidentSchema.WIND_DIRECTION:
+      wind_direction = value;
+      break;
+    case AccidentSchema.WEATHER_CONDITION:
+      weather_condition = value;
+      break;
+    case AccidentSchema.SUNRISE_SUNSET:
+      sunrise_sunset = value;
+      break;
+    case AccidentSchema.CIVIL_TWILIGHT:
+      civil_twilight = value;
+      break;
+    case AccidentSchema.NAUTICAL_TWILIGHT:
+      nautical_twilight = value;
+      break;
+    case AccidentSchema.ASTRONOMICAL_TWILIGHT:
+      astronomical_twilight = value;
+      break;
+    default:
+      throw new IllegalArgumentException("Not a string field: " + field);
+    }
+  }
+
+  @Override
+  public void readFields(DataInput in) throws IOException {
+    int format = in.readUnsignedByte();
+    if (format == us_accidents.COMPACT_PROTOCOL_VERSION) {
+      readCompact(in, 0);
+    } else if (format == us_accidents.FLAGGED_PROTOCOL_VERSION) {
+      readCompact(in, in.readUnsignedByte());
+    } else {
+      readLegacy(in, format != 0);
+    }
+  }
+
+  private void readCompact(DataInput in, int flags) throws IOException {
+    if ((flags & ~(us_accidents.FLAG_DICTIONARY | us_accidents.FLAG_ROAD_MASK)) != 0) {
+      throw new IOException("Unknown us_accidents format flags: " + flags);
+    }
+    long bitmap = 0L;
+    for (int i = 0; i < us_accidents.NULL_BITMAP_BYTES; i++) {
+      bitmap |= (long) in.readUnsignedByte() << (8 * i);
+    }
+    boolean dictionary = (flags & us_accidents.FLAG_DICTIONARY) != 0;
+    if (dictionary) {
+      AccidentDictionary.checkVersion(in.readUnsignedByte());
+    }
+    boolean roadMask = (flags & us_accidents.FLAG_ROAD_MASK) != 0;
+    nulls = bitmap;
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      if (roadMask && f == AccidentSchema.AMENITY) {
+        short nullRoads = (short) ((bitmap >>> AccidentSchema.AMENITY) & us_accidents.ROAD_ALL);
+        road_features = (short) (in.readShort() & us_accidents.ROAD_ALL & ~nullRoads);
+        f = AccidentSchema.TURNING_LOOP;
+        continue;
+      }
+      if ((bitmap & (1L << f)) != 0) {
+        setNull(f);
+        continue;
+      }
+      switch (AccidentSchema.type(f)) {
+      case AccidentSchema.TYPE_INT:
+        setInt(f, VarIntCodec.readVInt(in));
+        break;
+      case AccidentSchema.TYPE_STRING:
+        setStringValue(f, AccidentDictionary.readString(in, f, dictionary));
+        break;
+      case AccidentSchema.TYPE_TIMESTAMP:
+        long seconds = VarIntCodec.readVLong(in);
+        setMicros(f, seconds * 1000000L + VarIntCodec.readVInt(in) / 1000);
+        break;
+      case AccidentSchema.TYPE_DOUBLE:
+        setDouble(f, in.readDouble());
+        break;
+      default:
+        setBoolean(f, in.readBoolean());
+        break;
+      }
+    }
+  }
+
+  private void readLegacy(DataInput in, boolean firstIsNull) throws IOException {
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      boolean isNull = f == 0 ? firstIsNull : in.readBoolean();
+      if (isNull) {
+        setNull(f);
+        continue;
+      }
+      switch (AccidentSchema.type(f)) {
+      case AccidentSchema.TYPE_INT:
+        setInt(f, in.readInt());
+        break;
+      case AccidentSchema.TYPE_STRING:
+        setString(f, Text.readString(in));
+        break;
+      case AccidentSchema.TYPE_TIMESTAMP:
+        long millis = in.readLong();
+        setMicros(f, Math.floorDiv(millis, 1000L) * 1000000L + in.readInt() / 1000);
+        break;
+      case AccidentSchema.TYPE_DOUBLE:
+        setDouble(f, in.readDouble());
+        break;
+      default:
+        setBoolean(f, in.readBoolean());
+        break;
+      }
+    }
+  }
+
+  /**
+   * Reads the current row of a result set whose columns follow the
+   * us_accidents table order. Values come from the primitive getters and
+   * each {@code wasNull} lands in one local bitset, so unlike
+   * {@code us_accidents.readFields(ResultSet)} nothing is boxed; only
+   * strings and the driver's timestamps are allocated.
+   */
+  public void readFields(ResultSet results) throws SQLException {
+    long bitmap = 0L;
+    short roads = 0;
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      int column = f + 1;
+      switch (AccidentSchema.type(f)) {
+      case AccidentSchema.TYPE_INT:
+        setInt(f, results.getInt(column));
+        break;
+      case AccidentSchema.TYPE_STRING:
+        setStringValue(f, results.getString(column));
+        break;
+      case AccidentSchema.TYPE_TIMESTAMP:
+        Timestamp ts = results.getTimestamp(column);
+        if (ts != null) {
+          setMicros(f, toMicros(ts));
+        }
+        break;
+      case AccidentSchema.TYPE_DOUBLE:
+        setDouble(f, results.getDouble(column));
+        break;
+      default:
+        if (results.getBoolean(column)) {
+          roads |= 1 << (f - AccidentSchema.AMENITY);
+        }
+        break;
+      }
+      if (results.wasNull()) {
+        bitmap |= 1L << f;
+      }
+    }
+    nulls = bitmap;
+    road_features = roads;
+  }
+
+  /** Reads {@link us_accidents#DICTIONARY_ENCODING_KEY} from the job configuration. */
+  @Override
+  public void setConf(Configuration conf) {
+    this.conf = conf;
+    this.dictionaryEncoding = conf != null
+        && conf.getBoolean(us_accidents.DICTIONARY_ENCODING_KEY, false);
+  }
+
+  @Override
+  public Configuration getConf() {
+    return conf;
+  }
+
+  /** Whether {@link #write} codes the dictionary columns; see {@link AccidentDictionary}. */
+  public void setDictionaryEncoding(boolean enabled) {
+    this.dictionaryEncoding = enabled;
+  }
+
+  public boolean isDictionaryEncoding() {
+    return dictionaryEncoding;
+  }
+
+  /** Writes the same compact layout as {@link us_accidents#write(DataOutput)}. */
+  @Override
+  public void write(DataOutput out) throws IOException {
+    boolean dictionary = dictionaryEncoding;
+    out.writeByte(us_accidents.FLAGGED_PROTOCOL_VERSION);
+    out.writeByte(dictionary
+        ? us_accidents.FLAG_DICTIONARY | us_accidents.FLAG_ROAD_MASK
+        : us_accidents.FLAG_ROAD_MASK);
+    for (int i = 0; i < us_accidents.NULL_BITMAP_BYTES; i++) {
+      out.writeByte((int) (nulls >>> (8 * i)));
+    }
+    if (dictionary) {
+      out.writeByte(AccidentDictionary.VERSION);
+    }
+    for (int f = 0; f < AccidentSchema.FIELD_COUNT; f++) {
+      if (f == AccidentSchema.AMENITY) {
+        out.writeShort(road_features);
+        f = AccidentSchema.TURNING_LOOP;
+        continue;
+      }
+      if (isNull(f)) {
+        continue;
+      }
+      switch (AccidentSchema.type(f)) {
+      case AccidentSchema.TYPE_INT:
+        VarIntCodec.writeVInt(out, getInt(f));
+        break;
+      case AccidentSchema.TYPE_STRING:
+        AccidentDictionary.writeString(out, f, getString(f), dictionary);
+        break;
+      case AccidentSchema.TYPE_TIMESTAMP:
+        long micros = getMicros(f);
+        VarIntCodec.writeVLong(out, Math.floorDiv(micros, 1000000L));
+        VarIntCodec.writeVInt(out, (int) Math.floorMod(micros, 1000000L) * 1000);
+        break;
+      case AccidentSchema.TYPE_DOUBLE:
+        out.writeDouble(getDouble(f));
+        break;
+      default:
+        throw new IllegalStateException("Road features are written as a mask");
+      }
+    }
+  }
+
+  /** Loads all columns from a boxed record. */
+  public void copyFrom(us_accidents record) {
+    set_id(record.get_id());
+    set_id_str(record.get_id_str());
+    set_source(record.get_source());
+    set_severity(record.get_severity());
+    set_start_time(record.get_start_time());
+    set_end_time(record.get_end_time());
+    set_start_lat(record.get_start_lat());
+    set_start_lng(record.get_start_lng());
+    set_end_lat(record.get_end_lat());
+    set_end_lng(record.get_end_lng());
+    set_distance_mi(record.get_distance_mi());
+    set_description(record.get_description());
+    set_street(record.get_street());
+    set_city(record.get_city());
+    set_county(record.get_county());
+    set_state(record.get_state());
+    set_zipcode(record.get_zipcode());
+    set_country(record.get_country());
+    set_timezone(record.get_timezone());
+    set_airport_code(record.get_airport_code());
+    set_weather_timestamp(record.get_weather_timestamp());
+    set_temperature_f(record.get_temperature_f());
+    set_wind_chill_f(record.get_wind_chill_f());
+    set_humidity_percent(record.get_humidity_percent());
+    set_pressure_in(record.get_pressure_in());
+    set_visibility_mi(record.get_visibility_mi());
+    set_wind_direction(record.get_wind_direction());
+    set_wind_speed_mph(record.get_wind_speed_mph());
+    set_precipitation_in(record.get_precipitation_in());
+    set_weather_condition(record.get_weather_condition());
+    set_amenity(record.get_amenity());
+    set_bump(record.get_bump());
+    set_crossing(record.get_crossing());
+    set_give_way(record.get_give_way());
+    set_junction(record.get_junction());
+    set_no_exit(record.get_no_exit());
+    set_railway(record.get_railway());
+    set_roundabout(record.get_roundabout());
+    set_station(record.get_station());
+    set_stop(record.get_stop());
+    set_traffic_calming(record.get_traffic_calming());
+    set_traffic_signal(record.get_traffic_signal());
+    set_turning_loop(record.get_turning_loop());
+    set_sunrise_sunset(record.get_sunrise_sunset());
+    set_civil_twilight(record.get_civil_twilight());
+    set_nautical_twilight(record.get_nautical_twilight());
+    set_astronomical_twilight(record.get_astronomical_twilight());
+  }
+
+  /** Stores all columns into a boxed record. */
+  public void copyTo(us_accidents record) {
+    record.set_id(get_id());
+    record.set_id_str(get_id_str());
+    record.set_source(get_source());
+    record.set_severity(get_severity());
+    record.set_start_time(get_start_time());
+    record.set_end_time(get_end_time());
+    record.set_start_lat(get_start_lat());
+    record.set_start_lng(get_start_lng());
+    record.set_end_lat(get_end_lat());
+    record.set_end_lng(get_end_lng());
+    record.set_distance_mi(get_distance_mi());
+    record.set_description(get_description());
+    record.set_street(get_street());
+    record.set_city(get_city());
+    record.set_county(get_county());
+    record.set_state(get_state());
+    record.set_zipcode(get_zipcode());
+    record.set_country(get_country());
+    record.set_timezone(get_timezone());
+    record.set_airport_code(get_airport_code());
+    record.set_weather_timestamp(get_weather_timestamp());
+    record.set_temperature_f(get_temperature_f());
+    record.set_wind_chill_f(get_wind_chill_f());
+    record.set_humidity_percent(get_humidity_percent());
+    record.set_pressure_in(get_pressure_in());
+    record.set_visibility_mi(get_visibility_mi());
+    record.set_wind_direction(get_wind_direction());
+    record.set_wind_speed_mph(get_wind_speed_mph());
+    record.set_precipitation_in(get_precipitation_in());
+    record.set_weather_condition(get_weather_condition());
+    record.set_amenity(get_amenity());
+    record.set_bump(get_bump());
+    record.set_crossing(get_crossing());
+    record.set_give_way(get_give_way());
+    record.set_junction(get_junction());
+    record.set_no_exit(get_no_exit());
+    record.set_railway(get_railway());
+    record.set_roundabout(get_roundabout());
+    record.set_station(get_station());
+    record.set_stop(get_stop());
+    record.set_traffic_calming(get_traffic_calming());
+    record.set_traffic_signal(get_traffic_signal());
+    record.set_turning_loop(get_turning_loop());
+    record.set_sunrise_sunset(get_sunrise_sunset());
+    record.set_civil_twilight(get_civil_twilight());
+    record.set_nautical_twilight(get_nautical_twilight());
+    record.set_astronomical_twilight(get_astronomical_twilight());
+  }
+
+  static long toMicros(Timestamp ts) {
+    return Math.floorDiv(ts.getTime(), 1000L) * 1000000L + ts.getNanos() / 1000;
+  }
+
+  static Timestamp toTimestamp(long micros) {
+    Timestamp ts = new Timestamp(Math.floorDiv(micros, 1000000L) * 1000L);
+    ts.setNanos((int) Math.floorMod(micros, 1000000L) * 1000);
+    return ts;
+  }
+}
@@ -0,0 +1,166 @@
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+
+/**
+ * Decoder for the fixed {@code yyyy-MM-dd HH:mm:ss[.fffffffff]} form that
+ * PostgreSQL emits under {@code datestyle iso, ymd} (see
+ * {@code sql/create_tables.sql}).
+ * <p>
+ * The wall-clock time is read straight from the ASCII digits, turned into a
+ * day count with integer arithmetic, and shifted by the zone offset, which is
+ * cached per local hour. The result matches {@link Timestamp#valueOf} in the
+ * same zone. Hours that contain a DST transition are rare, and for them the
+ * {@code Timestamp} path is used so that gaps and overlaps resolve the same
+ * way. {@link #decode} returns {@link #INVALID} for anything outside the fixed
+ * form (one-digit months, surrounding spaces, years before 1900) so that
+ * callers can fall back to {@link Timestamp#valueOf}.
+ * <p>
+ * Instances cache offsets and the last decoded nanos and are not thread-safe.
+ */
+public class TimestampDecoder {
+
+  /** Returned by {@link #decode} for input it does not handle. */
+  public static final long INVALID = Long.MIN_VALUE;
+
+  private static final int CACHE_SIZE = 256;
+  private static final int SLOW = Integer.MIN_VALUE;
+  /** 1900-01-01T00:00 as wall-clock seconds; earlier times skip the cache. */
+  private static final long MIN_LOCAL_SECOND = -2208988800L;
+
+  private final ZoneRules rules;
+  private final long[] cachedHours = new long[CACHE_SIZE];
+  private final int[] cachedOffsets = new int[CACHE_SIZE];
+  private int nanos;
+
+  /** Decodes in the JVM default time zone, like {@link Timestamp#valueOf}. */
+  public TimestampDecoder() {
+    this(ZoneId.systemDefault());
+  }
+
+  public TimestampDecoder(ZoneId zone) {
+    this.rules = zone.getRules();
+    Arrays.fill(cachedHours, Long.MIN_VALUE);
+  }
+
+  /**
+   * Decodes {@code bytes[start, end)} and returns the epoch second, or
+   * {@link #INVALID}. The fractional part is available from {@link #nanos()}.
+   */
+  public long decode(byte[] bytes, int start, int end) {
+    int length = end - start;
+    if (length != 19 && (length < 21 || length > 29 || bytes[start + 19] != '.')) {
+      return INVALID;
+    }
+    if (bytes[start + 4] != '-' || bytes[start + 7] != '-' || bytes[start + 10] != ' '
+        || bytes[start + 13] != ':' || bytes[start + 16] != ':') {
+      return INVALID;
+    }
+    int year = digits(bytes, start, 4);
+    int month = digits(bytes, start + 5, 2);
+    int day = digits(bytes, start + 8, 2);
+    int hour = digits(bytes, start + 11, 2);
+    int minute = digits(bytes, start + 14, 2);
+    int second = digits(bytes, start + 17, 2);
+    if (year < 1900 || month < 1 || month > 12 || day < 1 || day > 31
+        || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+      return INVALID;
+    }
+    int fraction = 0;
+    if (length > 19) {
+      int fractionLength = length - 20;
+      fraction = digits(bytes, start + 20, fractionLength);
+      if (fraction < 0) {
+        return INVALID;
+      }
+      for (int i = fractionLength; i < 9; i++) {
+        fraction *= 10;
+      }
+    }
+    this.nanos = fraction;
+    long local = epochDay(year, month, day) * 86400L + hour * 3600 + minute * 60 + second;
+    int offset = offset(local);
+    if (offset == SLOW) {
+      return Math.floorDiv(wallClockMillis(year, month, day, hour, minute, second), 1000L);
+    }
+    return local - offset;
+  }
+
+  /** Decodes to epoch microseconds, or returns {@link #INVALID}. */
+  public long decodeMicros(byte[] bytes, int start, int end) {
+    long seconds = decode(bytes, start, end);
+    return seconds == INVALID ? INVALID : seconds * 1000000L + nanos / 1000;
+  }
+
+  /**
+   * Converts wall-clock seconds since 1970-01-01T00:00 to epoch seconds,
+   * resolving gaps and overlaps the way {@link Timestamp#valueOf} does.
+   */
+  public long toEpochSecond(long localSecond) {
+    int offset = localSecond < MIN_LOCAL_SECOND ? SLOW : offset(localSecond);
+    if (offset != SLOW) {
+      return localSecond - offset;
+    }
+    LocalDateTime local = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC);
+    return Math.floorDiv(wallClockMillis(local.getYear(), local.getMonthValue(),
+        local.getDayOfMonth(), local.getHour(), local.getMinute(), local.getSecond()), 1000L);
+  }
+
+  /** Fractional second of the last successful {@link #decode}, in nanoseconds. */
+  public int nanos() {
+    return nanos;
+  }
+
+  private int offset(long localSeconds) {
+    long hour = Math.floorDiv(localSeconds, 3600L);
+    int slot = (int) (hour & (CACHE_SIZE - 1));
+    if (cachedHours[slot] != hour) {
+      cachedOffsets[slot] = hourOffset(hour);
+      cachedHours[slot] = hour;
+    }
+    return cachedOffsets[slot];
+  }
+
+  /** The offset in force for a whole local hour, or SLOW if it changes within it. */
+  private int hourOffset(long hour) {
+    LocalDateTime first = LocalDateTime.ofEpochSecond(hour * 3600L, 0, ZoneOffset.UTC);
+    LocalDateTime last = first.plusSeconds(3599);
+    if (rules.getValidOffsets(first).size() != 1 || rules.getValidOffsets(last).size() != 1) {
+      return SLOW;
+    }
+    int offset = rules.getOffset(first).getTotalSeconds();
+    return offset == rules.getOffset(last).getTotalSeconds() ? offset : SLOW;
+  }
+
+  @SuppressWarnings("deprecation")
+  private static long wallClockMillis(int year, int month, int day, int hour, int minute,
+      int second) {
+    return new Timestamp(year - 1900, month - 1, day, hour, minute, second, 0).getTime();
+  }
+
+  /** Days since 1970-01-01 in the proleptic Gregorian calendar; days past month end roll over. */
+  private static long epochDay(int year, int month, int day) {
+    long y = month <= 2 ? year - 1 : year;
+    long era = Math.floorDiv(y, 400L);
+    long yearOfEra = y - era * 400;
+    int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+    long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * 146097 + dayOfEra - 719468;
+  }
+
+  /** Reads {@code count} ASCII digits, or returns -1 if any is not a digit. */
+  private static int digits(byte[] bytes, int pos, int count) {
+    int value = 0;
+    for (int i = 0; i < count; i++) {
+      int digit = bytes[pos + i] - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+}
@@ -0,0 +1,105 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Zigzag varint helpers used by the compact us_accidents wire format.
+ * Values are zigzag-mapped so that small negative numbers stay short and
+ * then written as little-endian groups of 7 bits.
+ */
+public final class VarIntCodec {
+
+  private VarIntCodec() {
+  }
+
+  public static void writeVInt(DataOutput out, int value) throws IOException {
+    writeUnsigned(out, ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+  }
+
+  public static void writeVLong(DataOutput out, long value) throws IOException {
+    writeUnsigned(out, (value << 1) ^ (value >> 63));
+  }
+
+  public static int readVInt(DataInput in) throws IOException {
+    long raw = readUnsigned(in);
+    if ((raw >>> 32) != 0) {
+      throw new IOException("Malformed varint: value does not fit in an int");
+    }
+    int zz = (int) raw;
+    return (zz >>> 1) ^ -(zz & 1);
+  }
+
+  public static long readVLong(DataInput in) throws IOException {
+    long zz = readUnsigned(in);
+    return (zz >>> 1) ^ -(zz & 1);
+  }
+
+  /** Advances past one varint of either width without decoding it. */
+  public static void skipVInt(DataInput in) throws IOException {
+    for (int i = 0; i < 10; i++) {
+      if ((in.readUnsignedByte() & 0x80) == 0) {
+        return;
+      }
+    }
+    throw new IOException("Malformed varint: more than 10 bytes");
+  }
+
+  /** Decodes a zigzag varint int from a byte array starting at {@code start}. */
+  public static int readVInt(byte[] bytes, int start) throws IOException {
+    long raw = readUnsigned(bytes, start);
+    if ((raw >>> 32) != 0) {
+      throw new IOException("Malformed varint: value does not fit in an int");
+    }
+    int zz = (int) raw;
+    return (zz >>> 1) ^ -(zz & 1);
+  }
+
+  /** Decodes a zigzag varint long from a byte array starting at {@code start}. */
+  public static long readVLong(byte[] bytes, int start) throws IOException {
+    long zz = readUnsigned(bytes, start);
+    return (zz >>> 1) ^ -(zz & 1);
+  }
+
+  /** Returns the number of bytes taken by the varint starting at {@code start}. */
+  public static int vIntSize(byte[] bytes, int start) throws IOException {
+    for (int i = 0; i < 10; i++) {
+      if ((bytes[start + i] & 0x80) == 0) {
+        return i + 1;
+      }
+    }
+    throw new IOException("Malformed varint: more than 10 bytes");
+  }
+
+  private static void writeUnsigned(DataOutput out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  private static long readUnsigned(DataInput in) throws IOException {
+    long result = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = in.readUnsignedByte();
+      result |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IOException("Malformed varint: more than 10 bytes");
+  }
+
+  private static long readUnsigned(byte[] bytes, int start) throws IOException {
+    long result = 0;
+    int pos = start;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = bytes[pos++] & 0xFF;
+      result |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IOException("Malformed varint: more than 10 bytes");
+  }
+}
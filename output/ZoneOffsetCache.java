@@ -0,0 +1,54 @@
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+
+/**
+ * UTC offsets of a time zone by instant, cached per UTC hour, for turning
+ * epoch seconds into wall-clock time without a {@code Calendar}.
+ * {@link TimestampDecoder} does the opposite direction.
+ * <p>
+ * An hour whose offset is the same at both ends is answered from a small
+ * direct-mapped table. Hours that contain a transition are looked up
+ * exactly every time. Not thread-safe.
+ */
+public class ZoneOffsetCache {
+
+  private static final int CACHE_SIZE = 256;
+  private static final int MIXED = Integer.MIN_VALUE;
+
+  private final ZoneRules rules;
+  private final long[] cachedHours = new long[CACHE_SIZE];
+  private final int[] cachedOffsets = new int[CACHE_SIZE];
+
+  /** Offsets of the JVM default time zone, as used by {@code java.sql.Timestamp}. */
+  public ZoneOffsetCache() {
+    this(ZoneId.systemDefault());
+  }
+
+  public ZoneOffsetCache(ZoneId zone) {
+    this.rules = zone.getRules();
+    Arrays.fill(cachedHours, Long.MIN_VALUE);
+  }
+
+  /** The offset in seconds in force at {@code epochSecond}. */
+  public int offsetAt(long epochSecond) {
+    long hour = Math.floorDiv(epochSecond, 3600L);
+    int slot = (int) (hour & (CACHE_SIZE - 1));
+    if (cachedHours[slot] != hour) {
+      int first = rules.getOffset(Instant.ofEpochSecond(hour * 3600L)).getTotalSeconds();
+      int last = rules.getOffset(Instant.ofEpochSecond(hour * 3600L + 3599)).getTotalSeconds();
+      cachedOffsets[slot] = first == last ? first : MIXED;
+      cachedHours[slot] = hour;
+    }
+    int offset = cachedOffsets[slot];
+    return offset != MIXED
+        ? offset
+        : rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+  }
+
+  /** Wall-clock seconds since 1970-01-01T00:00 at {@code epochSecond}. */
+  public long toLocal(long epochSecond) {
+    return epochSecond + offsetAt(epochSecond);
+  }
+}
@@ -4,15 +4,18 @@
 // Debug information:
 // Generated date: Fri May 10 10:22:17 MSK 2024
 // For connector: org.apache.sqoop.manager.PostgresqlManager
+import org.apache.hadoop.conf.Configurable;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.io.BytesWritable;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.io.WritableComparable;
+import org.apache.hadoop.io.WritableComparator;
+import org.apache.hadoop.io.WritableUtils;
 import org.apache.hadoop.mapred.lib.db.DBWritable;
 import org.apache.sqoop.lib.JdbcWritableBridge;
 import org.apache.sqoop.lib.DelimiterSet;
-import org.apache.sqoop.lib.FieldFormatter;
 import org.apache.sqoop.lib.RecordParser;
-import org.apache.sqoop.lib.BooleanParser;
 import org.apache.sqoop.lib.BlobRef;
 import org.apache.sqoop.lib.ClobRef;
 import org.apache.sqoop.lib.LargeObjectLoader;
@@ -29,311 +32,347 @@ import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Arrays;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 
-public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
+public class us_accidents extends SqoopRecord  implements DBWritable, Writable, WritableComparable<us_accidents>, Configurable {
   private final int PROTOCOL_VERSION = 3;
+  // Compact layout without flags; readFields0 also accepts the per-field
+  // null flag layout of PROTOCOL_VERSION 3.
+  static final int COMPACT_PROTOCOL_VERSION = 4;
+  static final int NULL_BITMAP_BYTES = 6;
+  // Compact layout preceded by a flags byte; FLAG_DICTIONARY codes the
+  // AccidentDictionary columns and adds a dictionary version after the bitmap.
+  static final int FLAGGED_PROTOCOL_VERSION = 5;
+  static final int FLAG_DICTIONARY = 1;
+  // FLAG_ROAD_MASK writes the 13 road-feature columns as one short in place
+  // of amenity; their null bits stay in the bitmap.
+  static final int FLAG_ROAD_MASK = 2;
+  // Whether write() uses FLAG_DICTIONARY. Set per record, or from
+  // DICTIONARY_ENCODING_KEY in the job Configuration, which Hadoop passes to
+  // setConf when it creates the record; readFields accepts either layout.
+  public static final String DICTIONARY_ENCODING_KEY = "us_accidents.dictionary.encoding";
+  private Configuration __conf;
+  private boolean dictionaryEncoding = false;
+  public void setDictionaryEncoding(boolean enabled) { this.dictionaryEncoding = enabled; }
+  public boolean isDictionaryEncoding() { return dictionaryEncoding; }
+  @Override
+  public void setConf(Configuration conf) {
+    this.__conf = conf;
+    this.dictionaryEncoding = conf != null && conf.getBoolean(DICTIONARY_ENCODING_KEY, false);
+  }
+  @Override
+  public Configuration getConf() { return __conf; }
+  // Columns the readers materialize, as AccidentSchema bits; the others are
+  // skipped over and left null.
+  private long __projection = AccidentSchema.ALL_FIELDS;
+  public void setProjection(long fields) { this.__projection = fields & AccidentSchema.ALL_FIELDS; }
+  public long getProjection() { return __projection; }
+  // When set, parse() nulls values that do not parse and counts them there
+  // instead of throwing; under QUARANTINE, isRejected() marks the record to drop.
+  private AccidentParseErrors __parseErrors;
+  private boolean __rejected;
+  public void setParseErrors(AccidentParseErrors errors) { this.__parseErrors = errors; }
+  public AccidentParseErrors getParseErrors() { return __parseErrors; }
+  public boolean isRejected() { return __rejected; }
   public int getClassFormatVersion() { return PROTOCOL_VERSION; }
   public static interface FieldSetterCommand {    void setField(Object value);  }  protected ResultSet __cur_result_set;
-  private Map<String, FieldSetterCommand> setters = new HashMap<String, FieldSetterCommand>();
-  private void init0() {
-    setters.put("id", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.id = (Integer)value;
-      }
-    });
-    setters.put("id_str", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.id_str = (String)value;
-      }
-    });
-    setters.put("source", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.source = (String)value;
-      }
-    });
-    setters.put("severity", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.severity = (Integer)value;
-      }
-    });
-    setters.put("start_time", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.start_time = (java.sql.Timestamp)value;
-      }
-    });
-    setters.put("end_time", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.end_time = (java.sql.Timestamp)value;
-      }
-    });
-    setters.put("start_lat", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.start_lat = (Double)value;
-      }
-    });
-    setters.put("start_lng", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.start_lng = (Double)value;
-      }
-    });
-    setters.put("end_lat", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.end_lat = (Double)value;
-      }
-    });
-    setters.put("end_lng", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.end_lng = (Double)value;
-      }
-    });
-    setters.put("distance_mi", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.distance_mi = (Double)value;
-      }
-    });
-    setters.put("description", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.description = (String)value;
-      }
-    });
-    setters.put("street", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.street = (String)value;
-      }
-    });
-    setters.put("city", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.city = (String)value;
-      }
-    });
-    setters.put("county", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.county = (String)value;
-      }
-    });
-    setters.put("state", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.state = (String)value;
-      }
-    });
-    setters.put("zipcode", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.zipcode = (String)value;
-      }
-    });
-    setters.put("country", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.country = (String)value;
-      }
-    });
-    setters.put("timezone", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.timezone = (String)value;
-      }
-    });
-    setters.put("airport_code", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.airport_code = (String)value;
-      }
-    });
-    setters.put("weather_timestamp", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.weather_timestamp = (java.sql.Timestamp)value;
-      }
-    });
-    setters.put("temperature_f", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.temperature_f = (Double)value;
-      }
-    });
-    setters.put("wind_chill_f", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.wind_chill_f = (Double)value;
-      }
-    });
-    setters.put("humidity_percent", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.humidity_percent = (Double)value;
-      }
-    });
-    setters.put("pressure_in", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.pressure_in = (Double)value;
-      }
-    });
-    setters.put("visibility_mi", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.visibility_mi = (Double)value;
-      }
-    });
-    setters.put("wind_direction", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.wind_direction = (String)value;
-      }
-    });
-    setters.put("wind_speed_mph", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.wind_speed_mph = (Double)value;
-      }
-    });
-    setters.put("precipitation_in", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.precipitation_in = (Double)value;
-      }
-    });
-    setters.put("weather_condition", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.weather_condition = (String)value;
-      }
-    });
-    setters.put("amenity", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.amenity = (Boolean)value;
-      }
-    });
-    setters.put("bump", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.bump = (Boolean)value;
-      }
-    });
-    setters.put("crossing", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.crossing = (Boolean)value;
-      }
-    });
-    setters.put("give_way", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.give_way = (Boolean)value;
-      }
-    });
-    setters.put("junction", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.junction = (Boolean)value;
-      }
-    });
-    setters.put("no_exit", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.no_exit = (Boolean)value;
-      }
-    });
-    setters.put("railway", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.railway = (Boolean)value;
-      }
-    });
-    setters.put("roundabout", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.roundabout = (Boolean)value;
-      }
-    });
-    setters.put("station", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.station = (Boolean)value;
-      }
-    });
-    setters.put("stop", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.stop = (Boolean)value;
-      }
-    });
-    setters.put("traffic_calming", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.traffic_calming = (Boolean)value;
-      }
-    });
-    setters.put("traffic_signal", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.traffic_signal = (Boolean)value;
-      }
-    });
-    setters.put("turning_loop", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.turning_loop = (Boolean)value;
-      }
-    });
-    setters.put("sunrise_sunset", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.sunrise_sunset = (String)value;
-      }
-    });
-    setters.put("civil_twilight", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.civil_twilight = (String)value;
-      }
-    });
-    setters.put("nautical_twilight", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.nautical_twilight = (String)value;
-      }
-    });
-    setters.put("astronomical_twilight", new FieldSetterCommand() {
-      @Override
-      public void setField(Object value) {
-        us_accidents.this.astronomical_twilight = (String)value;
-      }
-    });
+  // Field access by AccidentSchema index; setField(String, Object) and
+  // getFieldMap go through these instead of a per-record setter map.
+  public Object getField(int __field) {
+    switch (__field) {
+    case 0:
+      return this.id;
+    case 1:
+      return this.id_str;
+    case 2:
+      return this.source;
+    case 3:
+      return this.severity;
+    case 4:
+      return this.start_time;
+    case 5:
+      return this.end_time;
+    case 6:
+      return this.start_lat;
+    case 7:
+      return this.start_lng;
+    case 8:
+      return this.end_lat;
+    case 9:
+      return this.end_lng;
+    case 10:
+      return this.distance_mi;
+    case 11:
+      return this.description;
+    case 12:
+      return this.street;
+    case 13:
+      return this.city;
+    case 14:
+      return this.county;
+    case 15:
+      return this.state;
+    case 16:
+      return this.zipcode;
+    case 17:
+      return this.country;
+    case 18:
+      return this.timezone;
+    case 19:
+      return this.airport_code;
+    case 20:
+      return this.weather_timestamp;
+    case 21:
+      return this.temperature_f;
+    case 22:
+      return this.wind_chill_f;
+    case 23:
+      return this.humidity_percent;
+    case 24:
+      return this.pressure_in;
+    case 25:
+      return this.visibility_mi;
+    case 26:
+      return this.wind_direction;
+    case 27:
+      return this.wind_speed_mph;
+    case 28:
+      return this.precipitation_in;
+    case 29:
+      return this.weather_condition;
+    case 30:
+      return get_amenity();
+    case 31:
+      return get_bump();
+    case 32:
+      return get_crossing();
+    case 33:
+      return get_give_way();
+    case 34:
+      return get_junction();
+    case 35:
+      return get_no_exit();
+    case 36:
+      return get_railway();
+    case 37:
+      return get_roundabout();
+    case 38:
+      return get_station();
+    case 39:
+      return get_stop();
+    case 40:
+      return get_traffic_calming();
+    case 41:
+      return get_traffic_signal();
+    case 42:
+      return get_turning_loop();
+    case 43:
+      return this.sunrise_sunset;
+    case 44:
+      return this.civil_twilight;
+    case 45:
+      return this.nautical_twilight;
+    case 46:
+      return this.astronomical_twilight;
+    default:
+      throw new IndexOutOfBoundsException("No such field: " + __field);
+    }
+  }
+  public void setField(int __field, Object __fieldVal) {
+    this.__fingerprinted = false;
+    switch (__field) {
+    case 0:
+      this.id = (Integer)__fieldVal;
+      break;
+    case 1:
+      this.id_str = (String)__fieldVal;
+      break;
+    case 2:
+      this.source = (String)__fieldVal;
+      break;
+    case 3:
+      this.severity = (Integer)__fieldVal;
+      break;
+    case 4:
+      this.start_time = (java.sql.Timestamp)__fieldVal;
+      break;
+    case 5:
+      this.end_time = (java.sql.Timestamp)__fieldVal;
+      break;
+    case 6:
+      this.start_lat = (Double)__fieldVal;
+      break;
+    case 7:
+      this.start_lng = (Double)__fieldVal;
+      break;
+    case 8:
+      this.end_lat = (Double)__fieldVal;
+      break;
+    case 9:
+      this.end_lng = (Double)__fieldVal;
+      break;
+    case 10:
+      this.distance_mi = (Double)__fieldVal;
+      break;
+    case 11:
+      this.description = (String)__fieldVal;
+      break;
+    case 12:
+      this.street = (String)__fieldVal;
+      break;
+    case 13:
+      this.city = (String)__fieldVal;
+      break;
+    case 14:
+      this.county = (String)__fieldVal;
+      break;
+    case 15:
+      this.state = (String)__fieldVal;
+      break;
+    case 16:
+      this.zipcode = (String)__fieldVal;
+      break;
+    case 17:
+      this.country = (String)__fieldVal;
+      break;
+    case 18:
+      this.timezone = (String)__fieldVal;
+      break;
+    case 19:
+      this.airport_code = (String)__fieldVal;
+      break;
+    case 20:
+      this.weather_timestamp = (java.sql.Timestamp)__fieldVal;
+      break;
+    case 21:
+      this.temperature_f = (Double)__fieldVal;
+      break;
+    case 22:
+      this.wind_chill_f = (Double)__fieldVal;
+      break;
+    case 23:
+      this.humidity_percent = (Double)__fieldVal;
+      break;
+    case 24:
+      this.pressure_in = (Double)__fieldVal;
+      break;
+    case 25:
+      this.visibility_mi = (Double)__fieldVal;
+      break;
+    case 26:
+      this.wind_direction = (String)__fieldVal;
+      break;
+    case 27:
+      this.wind_speed_mph = (Double)__fieldVal;
+      break;
+    case 28:
+      this.precipitation_in = (Double)__fieldVal;
+      break;
+    case 29:
+      this.weather_condition = (String)__fieldVal;
+      break;
+    case 30:
+      this.set_amenity((Boolean)__fieldVal);
+      break;
+    case 31:
+      this.set_bump((Boolean)__fieldVal);
+      break;
+    case 32:
+      this.set_crossing((Boolean)__fieldVal);
+      break;
+    case 33:
+      this.set_give_way((Boolean)__fieldVal);
+      break;
+    case 34:
+      this.set_junction((Boolean)__fieldVal);
+      break;
+    case 35:
+      this.set_no_exit((Boolean)__fieldVal);
+      break;
+    case 36:
+      this.set_railway((Boolean)__fieldVal);
+      break;
+    case 37:
+      this.set_roundabout((Boolean)__fieldVal);
+      break;
+    case 38:
+      this.set_station((Boolean)__fieldVal);
+      break;
+    case 39:
+      this.set_stop((Boolean)__fieldVal);
+      break;
+    case 40:
+      this.set_traffic_calming((Boolean)__fieldVal);
+      break;
+    case 41:
+      this.set_traffic_signal((Boolean)__fieldVal);
+      break;
+    case 42:
+      this.set_turning_loop((Boolean)__fieldVal);
+      break;
+    case 43:
+      this.sunrise_sunset = (String)__fieldVal;
+      break;
+    case 44:
+      this.civil_twilight = (String)__fieldVal;
+      break;
+    case 45:
+      this.nautical_twilight = (String)__fieldVal;
+      break;
+    case 46:
+      this.astronomical_twilight = (String)__fieldVal;
+      break;
+    default:
+      throw new IndexOutOfBoundsException("No such field: " + __field);
+    }
+  }
+  // Content fingerprint of the record (see AccidentFingerprint). readFields,
+  // parse and write compute it from the field values they have just read or
+  // are about to write; it is kept until a setter or setField changes the
+  // record, and computed on demand otherwise. equals() compares fingerprints
+  // first and only compares fields when they match. Timestamps returned by
+  // the getters must not be changed in place, or the cached value goes stale.
+  private static final ThreadLocal<AccidentFingerprint> __fingerprints =
+      new ThreadLocal<AccidentFingerprint>() {
+        @Override
+        protected AccidentFingerprint initialValue() {
+          return new AccidentFingerprint();
+        }
+      };
+  private boolean __fingerprinted;
+  private long __fingerprintHigh;
+  private long __fingerprintLow;
+  private void __fingerprint() {
+    if (!__fingerprinted) {
+      AccidentFingerprint __fp = __fingerprints.get();
+      __fingerprintHigh = __fp.update(this);
+      __fingerprintLow = __fp.low();
+      __fingerprinted = true;
+    }
+  }
+  /** Upper 64 bits of the content fingerprint; a 64-bit fingerprint on its own. */
+  public long getFingerprintHigh() {
+    __fingerprint();
+    return __fingerprintHigh;
+  }
+  /** Lower 64 bits of the content fingerprint. */
+  public long getFingerprintLow() {
+    __fingerprint();
+    return __fingerprintLow;
   }
   public us_accidents() {
-    init0();
   }
   private Integer id;
   public Integer get_id() {
     return id;
   }
   public void set_id(Integer id) {
+    this.__fingerprinted = false;
     this.id = id;
   }
   public us_accidents with_id(Integer id) {
+    this.__fingerprinted = false;
     this.id = id;
     return this;
   }
@@ -342,9 +381,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return id_str;
   }
   public void set_id_str(String id_str) {
+    this.__fingerprinted = false;
     this.id_str = id_str;
   }
   public us_accidents with_id_str(String id_str) {
+    this.__fingerprinted = false;
     this.id_str = id_str;
     return this;
   }
@@ -353,9 +394,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return source;
   }
   public void set_source(String source) {
+    this.__fingerprinted = false;
     this.source = source;
   }
   public us_accidents with_source(String source) {
+    this.__fingerprinted = false;
     this.source = source;
     return this;
   }
@@ -364,9 +407,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return severity;
   }
   public void set_severity(Integer severity) {
+    this.__fingerprinted = false;
     this.severity = severity;
   }
   public us_accidents with_severity(Integer severity) {
+    this.__fingerprinted = false;
     this.severity = severity;
     return this;
   }
@@ -375,9 +420,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return start_time;
   }
   public void set_start_time(java.sql.Timestamp start_time) {
+    this.__fingerprinted = false;
     this.start_time = start_time;
   }
   public us_accidents with_start_time(java.sql.Timestamp start_time) {
+    this.__fingerprinted = false;
     this.start_time = start_time;
     return this;
   }
@@ -386,9 +433,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return end_time;
   }
   public void set_end_time(java.sql.Timestamp end_time) {
+    this.__fingerprinted = false;
     this.end_time = end_time;
   }
   public us_accidents with_end_time(java.sql.Timestamp end_time) {
+    this.__fingerprinted = false;
     this.end_time = end_time;
     return this;
   }
@@ -397,9 +446,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return start_lat;
   }
   public void set_start_lat(Double start_lat) {
+    this.__fingerprinted = false;
     this.start_lat = start_lat;
   }
   public us_accidents with_start_lat(Double start_lat) {
+    this.__fingerprinted = false;
     this.start_lat = start_lat;
     return this;
   }
@@ -408,9 +459,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return start_lng;
   }
   public void set_start_lng(Double start_lng) {
+    this.__fingerprinted = false;
     this.start_lng = start_lng;
   }
   public us_accidents with_start_lng(Double start_lng) {
+    this.__fingerprinted = false;
     this.start_lng = start_lng;
     return this;
   }
@@ -419,9 +472,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return end_lat;
   }
   public void set_end_lat(Double end_lat) {
+    this.__fingerprinted = false;
     this.end_lat = end_lat;
   }
   public us_accidents with_end_lat(Double end_lat) {
+    this.__fingerprinted = false;
     this.end_lat = end_lat;
     return this;
   }
@@ -430,9 +485,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return end_lng;
   }
   public void set_end_lng(Double end_lng) {
+    this.__fingerprinted = false;
     this.end_lng = end_lng;
   }
   public us_accidents with_end_lng(Double end_lng) {
+    this.__fingerprinted = false;
     this.end_lng = end_lng;
     return this;
   }
@@ -441,9 +498,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return distance_mi;
   }
   public void set_distance_mi(Double distance_mi) {
+    this.__fingerprinted = false;
     this.distance_mi = distance_mi;
   }
   public us_accidents with_distance_mi(Double distance_mi) {
+    this.__fingerprinted = false;
     this.distance_mi = distance_mi;
     return this;
   }
@@ -452,9 +511,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return description;
   }
   public void set_description(String description) {
+    this.__fingerprinted = false;
     this.description = description;
   }
   public us_accidents with_description(String description) {
+    this.__fingerprinted = false;
     this.description = description;
     return this;
   }
@@ -463,9 +524,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return street;
   }
   public void set_street(String street) {
+    this.__fingerprinted = false;
     this.street = street;
   }
   public us_accidents with_street(String street) {
+    this.__fingerprinted = false;
     this.street = street;
     return this;
   }
@@ -474,9 +537,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return city;
   }
   public void set_city(String city) {
+    this.__fingerprinted = false;
     this.city = city;
   }
   public us_accidents with_city(String city) {
+    this.__fingerprinted = false;
     this.city = city;
     return this;
   }
@@ -485,9 +550,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return county;
   }
   public void set_county(String county) {
+    this.__fingerprinted = false;
     this.county = county;
   }
   public us_accidents with_county(String county) {
+    this.__fingerprinted = false;
     this.county = county;
     return this;
   }
@@ -496,9 +563,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return state;
   }
   public void set_state(String state) {
+    this.__fingerprinted = false;
     this.state = state;
   }
   public us_accidents with_state(String state) {
+    this.__fingerprinted = false;
     this.state = state;
     return this;
   }
@@ -507,9 +576,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return zipcode;
   }
   public void set_zipcode(String zipcode) {
+    this.__fingerprinted = false;
     this.zipcode = zipcode;
   }
   public us_accidents with_zipcode(String zipcode) {
+    this.__fingerprinted = false;
     this.zipcode = zipcode;
     return this;
   }
@@ -518,9 +589,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return country;
   }
   public void set_country(String country) {
+    this.__fingerprinted = false;
     this.country = country;
   }
   public us_accidents with_country(String country) {
+    this.__fingerprinted = false;
     this.country = country;
     return this;
   }
@@ -529,9 +602,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return timezone;
   }
   public void set_timezone(String timezone) {
+    this.__fingerprinted = false;
     this.timezone = timezone;
   }
   public us_accidents with_timezone(String timezone) {
+    this.__fingerprinted = false;
     this.timezone = timezone;
     return this;
   }
@@ -540,9 +615,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return airport_code;
   }
   public void set_airport_code(String airport_code) {
+    this.__fingerprinted = false;
     this.airport_code = airport_code;
   }
   public us_accidents with_airport_code(String airport_code) {
+    this.__fingerprinted = false;
     this.airport_code = airport_code;
     return this;
   }
@@ -551,9 +628,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return weather_timestamp;
   }
   public void set_weather_timestamp(java.sql.Timestamp weather_timestamp) {
+    this.__fingerprinted = false;
     this.weather_timestamp = weather_timestamp;
   }
   public us_accidents with_weather_timestamp(java.sql.Timestamp weather_timestamp) {
+    this.__fingerprinted = false;
     this.weather_timestamp = weather_timestamp;
     return this;
   }
@@ -562,9 +641,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return temperature_f;
   }
   public void set_temperature_f(Double temperature_f) {
+    this.__fingerprinted = false;
     this.temperature_f = temperature_f;
   }
   public us_accidents with_temperature_f(Double temperature_f) {
+    this.__fingerprinted = false;
     this.temperature_f = temperature_f;
     return this;
   }
@@ -573,9 +654,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return wind_chill_f;
   }
   public void set_wind_chill_f(Double wind_chill_f) {
+    this.__fingerprinted = false;
     this.wind_chill_f = wind_chill_f;
   }
   public us_accidents with_wind_chill_f(Double wind_chill_f) {
+    this.__fingerprinted = false;
     this.wind_chill_f = wind_chill_f;
     return this;
   }
@@ -584,9 +667,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return humidity_percent;
   }
   public void set_humidity_percent(Double humidity_percent) {
+    this.__fingerprinted = false;
     this.humidity_percent = humidity_percent;
   }
   public us_accidents with_humidity_percent(Double humidity_percent) {
+    this.__fingerprinted = false;
     this.humidity_percent = humidity_percent;
     return this;
   }
@@ -595,9 +680,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return pressure_in;
   }
   public void set_pressure_in(Double pressure_in) {
+    this.__fingerprinted = false;
     this.pressure_in = pressure_in;
   }
   public us_accidents with_pressure_in(Double pressure_in) {
+    this.__fingerprinted = false;
     this.pressure_in = pressure_in;
     return this;
   }
@@ -606,9 +693,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return visibility_mi;
   }
   public void set_visibility_mi(Double visibility_mi) {
+    this.__fingerprinted = false;
     this.visibility_mi = visibility_mi;
   }
   public us_accidents with_visibility_mi(Double visibility_mi) {
+    this.__fingerprinted = false;
     this.visibility_mi = visibility_mi;
     return this;
   }
@@ -617,9 +706,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return wind_direction;
   }
   public void set_wind_direction(String wind_direction) {
+    this.__fingerprinted = false;
     this.wind_direction = wind_direction;
   }
   public us_accidents with_wind_direction(String wind_direction) {
+    this.__fingerprinted = false;
     this.wind_direction = wind_direction;
     return this;
   }
@@ -628,9 +719,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return wind_speed_mph;
   }
   public void set_wind_speed_mph(Double wind_speed_mph) {
+    this.__fingerprinted = false;
     this.wind_speed_mph = wind_speed_mph;
   }
   public us_accidents with_wind_speed_mph(Double wind_speed_mph) {
+    this.__fingerprinted = false;
     this.wind_speed_mph = wind_speed_mph;
     return this;
   }
@@ -639,9 +732,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return precipitation_in;
   }
   public void set_precipitation_in(Double precipitation_in) {
+    this.__fingerprinted = false;
     this.precipitation_in = precipitation_in;
   }
   public us_accidents with_precipitation_in(Double precipitation_in) {
+    this.__fingerprinted = false;
     this.precipitation_in = precipitation_in;
     return this;
   }
@@ -650,153 +745,217 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return weather_condition;
   }
   public void set_weather_condition(String weather_condition) {
+    this.__fingerprinted = false;
     this.weather_condition = weather_condition;
   }
   public us_accidents with_weather_condition(String weather_condition) {
+    this.__fingerprinted = false;
     this.weather_condition = weather_condition;
     return this;
   }
-  private Boolean amenity;
+  public static final short ROAD_AMENITY = 1 << 0;
+  public static final short ROAD_BUMP = 1 << 1;
+  public static final short ROAD_CROSSING = 1 << 2;
+  public static final short ROAD_GIVE_WAY = 1 << 3;
+  public static final short ROAD_JUNCTION = 1 << 4;
+  public static final short ROAD_NO_EXIT = 1 << 5;
+  public static final short ROAD_RAILWAY = 1 << 6;
+  public static final short ROAD_ROUNDABOUT = 1 << 7;
+  public static final short ROAD_STATION = 1 << 8;
+  public static final short ROAD_STOP = 1 << 9;
+  public static final short ROAD_TRAFFIC_CALMING = 1 << 10;
+  public static final short ROAD_TRAFFIC_SIGNAL = 1 << 11;
+  public static final short ROAD_TURNING_LOOP = 1 << 12;
+  public static final short ROAD_ALL = (1 << 13) - 1;
+  // Road-feature columns amenity..turning_loop, one ROAD_* bit each.
+  private short road_features;
+  private short road_feature_nulls = ROAD_ALL;
+  public short get_road_features() {
+    return road_features;
+  }
+  public short get_road_feature_nulls() {
+    return road_feature_nulls;
+  }
+  public void set_road_features(short features) {
+    this.__fingerprinted = false;
+    this.road_features = (short) (features & ROAD_ALL);
+    this.road_feature_nulls = 0;
+  }
+  /** True if any of the ROAD_* bits in mask is set, e.g. ROAD_JUNCTION | ROAD_CROSSING. */
+  public boolean hasAnyRoadFeature(int mask) {
+    return (road_features & mask) != 0;
+  }
+  /** True if all of the ROAD_* bits in mask are set. */
+  public boolean hasAllRoadFeatures(int mask) {
+    return (road_features & mask) == mask;
+  }
+  private void setRoadFeature(short bit, Boolean value) {
+    if (value == null) {
+      road_feature_nulls |= bit;
+      road_features &= ~bit;
+    } else {
+      road_feature_nulls &= ~bit;
+      if (value) {
+        road_features |= bit;
+      } else {
+        road_features &= ~bit;
+      }
+    }
+  }
   public Boolean get_amenity() {
-    return amenity;
+    return (road_feature_nulls & ROAD_AMENITY) != 0 ? null : Boolean.valueOf((road_features & ROAD_AMENITY) != 0);
   }
   public void set_amenity(Boolean amenity) {
-    this.amenity = amenity;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_AMENITY, amenity);
   }
   public us_accidents with_amenity(Boolean amenity) {
-    this.amenity = amenity;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_AMENITY, amenity);
     return this;
   }
-  private Boolean bump;
   public Boolean get_bump() {
-    return bump;
+    return (road_feature_nulls & ROAD_BUMP) != 0 ? null : Boolean.valueOf((road_features & ROAD_BUMP) != 0);
   }
   public void set_bump(Boolean bump) {
-    this.bump = bump;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_BUMP, bump);
   }
   public us_accidents with_bump(Boolean bump) {
-    this.bump = bump;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_BUMP, bump);
     return this;
   }
-  private Boolean crossing;
   public Boolean get_crossing() {
-    return crossing;
+    return (road_feature_nulls & ROAD_CROSSING) != 0 ? null : Boolean.valueOf((road_features & ROAD_CROSSING) != 0);
   }
   public void set_crossing(Boolean crossing) {
-    this.crossing = crossing;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_CROSSING, crossing);
   }
   public us_accidents with_crossing(Boolean crossing) {
-    this.crossing = crossing;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_CROSSING, crossing);
     return this;
   }
-  private Boolean give_way;
   public Boolean get_give_way() {
-    return give_way;
+    return (road_feature_nulls & ROAD_GIVE_WAY) != 0 ? null : Boolean.valueOf((road_features & ROAD_GIVE_WAY) != 0);
   }
   public void set_give_way(Boolean give_way) {
-    this.give_way = give_way;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_GIVE_WAY, give_way);
   }
   public us_accidents with_give_way(Boolean give_way) {
-    this.give_way = give_way;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_GIVE_WAY, give_way);
     return this;
   }
-  private Boolean junction;
   public Boolean get_junction() {
-    return junction;
+    return (road_feature_nulls & ROAD_JUNCTION) != 0 ? null : Boolean.valueOf((road_features & ROAD_JUNCTION) != 0);
   }
   public void set_junction(Boolean junction) {
-    this.junction = junction;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_JUNCTION, junction);
   }
   public us_accidents with_junction(Boolean junction) {
-    this.junction = junction;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_JUNCTION, junction);
     return this;
   }
-  private Boolean no_exit;
   public Boolean get_no_exit() {
-    return no_exit;
+    return (road_feature_nulls & ROAD_NO_EXIT) != 0 ? null : Boolean.valueOf((road_features & ROAD_NO_EXIT) != 0);
   }
   public void set_no_exit(Boolean no_exit) {
-    this.no_exit = no_exit;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_NO_EXIT, no_exit);
   }
   public us_accidents with_no_exit(Boolean no_exit) {
-    this.no_exit = no_exit;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_NO_EXIT, no_exit);
     return this;
   }
-  private Boolean railway;
   public Boolean get_railway() {
-    return railway;
+    return (road_feature_nulls & ROAD_RAILWAY) != 0 ? null : Boolean.valueOf((road_features & ROAD_RAILWAY) != 0);
   }
   public void set_railway(Boolean railway) {
-    this.railway = railway;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_RAILWAY, railway);
   }
   public us_accidents with_railway(Boolean railway) {
-    this.railway = railway;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_RAILWAY, railway);
     return this;
   }
-  private Boolean roundabout;
   public Boolean get_roundabout() {
-    return roundabout;
+    return (road_feature_nulls & ROAD_ROUNDABOUT) != 0 ? null : Boolean.valueOf((road_features & ROAD_ROUNDABOUT) != 0);
   }
   public void set_roundabout(Boolean roundabout) {
-    this.roundabout = roundabout;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_ROUNDABOUT, roundabout);
   }
   public us_accidents with_roundabout(Boolean roundabout) {
-    this.roundabout = roundabout;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_ROUNDABOUT, roundabout);
     return this;
   }
-  private Boolean station;
   public Boolean get_station() {
-    return station;
+    return (road_feature_nulls & ROAD_STATION) != 0 ? null : Boolean.valueOf((road_features & ROAD_STATION) != 0);
   }
   public void set_station(Boolean station) {
-    this.station = station;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_STATION, station);
   }
   public us_accidents with_station(Boolean station) {
-    this.station = station;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_STATION, station);
     return this;
   }
-  private Boolean stop;
   public Boolean get_stop() {
-    return stop;
+    return (road_feature_nulls & ROAD_STOP) != 0 ? null : Boolean.valueOf((road_features & ROAD_STOP) != 0);
   }
   public void set_stop(Boolean stop) {
-    this.stop = stop;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_STOP, stop);
   }
   public us_accidents with_stop(Boolean stop) {
-    this.stop = stop;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_STOP, stop);
     return this;
   }
-  private Boolean traffic_calming;
   public Boolean get_traffic_calming() {
-    return traffic_calming;
+    return (road_feature_nulls & ROAD_TRAFFIC_CALMING) != 0 ? null : Boolean.valueOf((road_features & ROAD_TRAFFIC_CALMING) != 0);
   }
   public void set_traffic_calming(Boolean traffic_calming) {
-    this.traffic_calming = traffic_calming;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_TRAFFIC_CALMING, traffic_calming);
   }
   public us_accidents with_traffic_calming(Boolean traffic_calming) {
-    this.traffic_calming = traffic_calming;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_TRAFFIC_CALMING, traffic_calming);
     return this;
   }
-  private Boolean traffic_signal;
   public Boolean get_traffic_signal() {
-    return traffic_signal;
+    return (road_feature_nulls & ROAD_TRAFFIC_SIGNAL) != 0 ? null : Boolean.valueOf((road_features & ROAD_TRAFFIC_SIGNAL) != 0);
   }
   public void set_traffic_signal(Boolean traffic_signal) {
-    this.traffic_signal = traffic_signal;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_TRAFFIC_SIGNAL, traffic_signal);
   }
   public us_accidents with_traffic_signal(Boolean traffic_signal) {
-    this.traffic_signal = traffic_signal;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_TRAFFIC_SIGNAL, traffic_signal);
     return this;
   }
-  private Boolean turning_loop;
   public Boolean get_turning_loop() {
-    return turning_loop;
+    return (road_feature_nulls & ROAD_TURNING_LOOP) != 0 ? null : Boolean.valueOf((road_features & ROAD_TURNING_LOOP) != 0);
   }
   public void set_turning_loop(Boolean turning_loop) {
-    this.turning_loop = turning_loop;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_TURNING_LOOP, turning_loop);
   }
   public us_accidents with_turning_loop(Boolean turning_loop) {
-    this.turning_loop = turning_loop;
+    this.__fingerprinted = false;
+    setRoadFeature(ROAD_TURNING_LOOP, turning_loop);
     return this;
   }
   private String sunrise_sunset;
@@ -804,9 +963,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return sunrise_sunset;
   }
   public void set_sunrise_sunset(String sunrise_sunset) {
+    this.__fingerprinted = false;
     this.sunrise_sunset = sunrise_sunset;
   }
   public us_accidents with_sunrise_sunset(String sunrise_sunset) {
+    this.__fingerprinted = false;
     this.sunrise_sunset = sunrise_sunset;
     return this;
   }
@@ -815,9 +976,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return civil_twilight;
   }
   public void set_civil_twilight(String civil_twilight) {
+    this.__fingerprinted = false;
     this.civil_twilight = civil_twilight;
   }
   public us_accidents with_civil_twilight(String civil_twilight) {
+    this.__fingerprinted = false;
     this.civil_twilight = civil_twilight;
     return this;
   }
@@ -826,9 +989,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return nautical_twilight;
   }
   public void set_nautical_twilight(String nautical_twilight) {
+    this.__fingerprinted = false;
     this.nautical_twilight = nautical_twilight;
   }
   public us_accidents with_nautical_twilight(String nautical_twilight) {
+    this.__fingerprinted = false;
     this.nautical_twilight = nautical_twilight;
     return this;
   }
@@ -837,9 +1002,11 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     return astronomical_twilight;
   }
   public void set_astronomical_twilight(String astronomical_twilight) {
+    this.__fingerprinted = false;
     this.astronomical_twilight = astronomical_twilight;
   }
   public us_accidents with_astronomical_twilight(String astronomical_twilight) {
+    this.__fingerprinted = false;
     this.astronomical_twilight = astronomical_twilight;
     return this;
   }
@@ -851,6 +1018,10 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
       return false;
     }
     us_accidents that = (us_accidents) o;
+    if (this.getFingerprintHigh() != that.getFingerprintHigh()
+        || this.getFingerprintLow() != that.getFingerprintLow()) {
+      return false;
+    }
     boolean equal = true;
     equal = equal && (this.id == null ? that.id == null : this.id.equals(that.id));
     equal = equal && (this.id_str == null ? that.id_str == null : this.id_str.equals(that.id_str));
@@ -882,19 +1053,7 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     equal = equal && (this.wind_speed_mph == null ? that.wind_speed_mph == null : this.wind_speed_mph.equals(that.wind_speed_mph));
     equal = equal && (this.precipitation_in == null ? that.precipitation_in == null : this.precipitation_in.equals(that.precipitation_in));
     equal = equal && (this.weather_condition == null ? that.weather_condition == null : this.weather_condition.equals(that.weather_condition));
-    equal = equal && (this.amenity == null ? that.amenity == null : this.amenity.equals(that.amenity));
-    equal = equal && (this.bump == null ? that.bump == null : this.bump.equals(that.bump));
-    equal = equal && (this.crossing == null ? that.crossing == null : this.crossing.equals(that.crossing));
-    equal = equal && (this.give_way == null ? that.give_way == null : this.give_way.equals(that.give_way));
-    equal = equal && (this.junction == null ? that.junction == null : this.junction.equals(that.junction));
-    equal = equal && (this.no_exit == null ? that.no_exit == null : this.no_exit.equals(that.no_exit));
-    equal = equal && (this.railway == null ? that.railway == null : this.railway.equals(that.railway));
-    equal = equal && (this.roundabout == null ? that.roundabout == null : this.roundabout.equals(that.roundabout));
-    equal = equal && (this.station == null ? that.station == null : this.station.equals(that.station));
-    equal = equal && (this.stop == null ? that.stop == null : this.stop.equals(that.stop));
-    equal = equal && (this.traffic_calming == null ? that.traffic_calming == null : this.traffic_calming.equals(that.traffic_calming));
-    equal = equal && (this.traffic_signal == null ? that.traffic_signal == null : this.traffic_signal.equals(that.traffic_signal));
-    equal = equal && (this.turning_loop == null ? that.turning_loop == null : this.turning_loop.equals(that.turning_loop));
+    equal = equal && this.road_features == that.road_features && this.road_feature_nulls == that.road_feature_nulls;
     equal = equal && (this.sunrise_sunset == null ? that.sunrise_sunset == null : this.sunrise_sunset.equals(that.sunrise_sunset));
     equal = equal && (this.civil_twilight == null ? that.civil_twilight == null : this.civil_twilight.equals(that.civil_twilight));
     equal = equal && (this.nautical_twilight == null ? that.nautical_twilight == null : this.nautical_twilight.equals(that.nautical_twilight));
@@ -909,6 +1068,10 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
       return false;
     }
     us_accidents that = (us_accidents) o;
+    if (this.getFingerprintHigh() != that.getFingerprintHigh()
+        || this.getFingerprintLow() != that.getFingerprintLow()) {
+      return false;
+    }
     boolean equal = true;
     equal = equal && (this.id == null ? that.id == null : this.id.equals(that.id));
     equal = equal && (this.id_str == null ? that.id_str == null : this.id_str.equals(that.id_str));
@@ -940,123 +1103,204 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     equal = equal && (this.wind_speed_mph == null ? that.wind_speed_mph == null : this.wind_speed_mph.equals(that.wind_speed_mph));
     equal = equal && (this.precipitation_in == null ? that.precipitation_in == null : this.precipitation_in.equals(that.precipitation_in));
     equal = equal && (this.weather_condition == null ? that.weather_condition == null : this.weather_condition.equals(that.weather_condition));
-    equal = equal && (this.amenity == null ? that.amenity == null : this.amenity.equals(that.amenity));
-    equal = equal && (this.bump == null ? that.bump == null : this.bump.equals(that.bump));
-    equal = equal && (this.crossing == null ? that.crossing == null : this.crossing.equals(that.crossing));
-    equal = equal && (this.give_way == null ? that.give_way == null : this.give_way.equals(that.give_way));
-    equal = equal && (this.junction == null ? that.junction == null : this.junction.equals(that.junction));
-    equal = equal && (this.no_exit == null ? that.no_exit == null : this.no_exit.equals(that.no_exit));
-    equal = equal && (this.railway == null ? that.railway == null : this.railway.equals(that.railway));
-    equal = equal && (this.roundabout == null ? that.roundabout == null : this.roundabout.equals(that.roundabout));
-    equal = equal && (this.station == null ? that.station == null : this.station.equals(that.station));
-    equal = equal && (this.stop == null ? that.stop == null : this.stop.equals(that.stop));
-    equal = equal && (this.traffic_calming == null ? that.traffic_calming == null : this.traffic_calming.equals(that.traffic_calming));
-    equal = equal && (this.traffic_signal == null ? that.traffic_signal == null : this.traffic_signal.equals(that.traffic_signal));
-    equal = equal && (this.turning_loop == null ? that.turning_loop == null : this.turning_loop.equals(that.turning_loop));
+    equal = equal && this.road_features == that.road_features && this.road_feature_nulls == that.road_feature_nulls;
     equal = equal && (this.sunrise_sunset == null ? that.sunrise_sunset == null : this.sunrise_sunset.equals(that.sunrise_sunset));
     equal = equal && (this.civil_twilight == null ? that.civil_twilight == null : this.civil_twilight.equals(that.civil_twilight));
     equal = equal && (this.nautical_twilight == null ? that.nautical_twilight == null : this.nautical_twilight.equals(that.nautical_twilight));
     equal = equal && (this.astronomical_twilight == null ? that.astronomical_twilight == null : this.astronomical_twilight.equals(that.astronomical_twilight));
     return equal;
   }
+  public int compareTo(us_accidents that) {
+    int cmp = compareNullable(this.start_time, that.start_time);
+    if (cmp != 0) {
+      return cmp;
+    }
+    cmp = compareNullable(this.id, that.id);
+    if (cmp != 0) {
+      return cmp;
+    }
+    return compareNullable(this.severity, that.severity);
+  }
+  // Over the compareTo fields only, so records that sort as equal (and
+  // records that are equals()) land in the same partition.
+  @Override
+  public int hashCode() {
+    int h = this.start_time == null ? 0 : this.start_time.hashCode();
+    h = 31 * h + (this.id == null ? 0 : this.id.hashCode());
+    return 31 * h + (this.severity == null ? 0 : this.severity.hashCode());
+  }
+  private static <T extends Comparable<? super T>> int compareNullable(T a, T b) {
+    if (a == null) {
+      return b == null ? 0 : -1;
+    }
+    return b == null ? 1 : a.compareTo(b);
+  }
+  /**
+   * Orders serialized records by start_time, id and severity (nulls first),
+   * matching compareTo, without deserializing them.
+   */
+  public static class Comparator extends WritableComparator {
+    // WritableComparator.get hands one shared instance to every sort in the
+    // JVM, so the views being compared are per thread.
+    private static final ThreadLocal<AccidentView[]> __views = new ThreadLocal<AccidentView[]>() {
+      @Override
+      protected AccidentView[] initialValue() {
+        return new AccidentView[] {new AccidentView(), new AccidentView()};
+      }
+    };
+    public Comparator() {
+      super(us_accidents.class);
+    }
+    @Override
+    public int compare(byte[] b1, int s1, int l1, byte[] b2, int s2, int l2) {
+      AccidentView[] views = __views.get();
+      AccidentView __left = views[0];
+      AccidentView __right = views[1];
+      try {
+        __left.wrap(b1, s1, l1);
+        __right.wrap(b2, s2, l2);
+        int cmp = compareNulls(__left, __right, AccidentSchema.START_TIME);
+        if (cmp != 0) {
+          return cmp;
+        }
+        if (!__left.isNull(AccidentSchema.START_TIME)) {
+          cmp = Long.compare(__left.getEpochSeconds(AccidentSchema.START_TIME),
+              __right.getEpochSeconds(AccidentSchema.START_TIME));
+          if (cmp == 0) {
+            cmp = Integer.compare(__left.getNanos(AccidentSchema.START_TIME),
+                __right.getNanos(AccidentSchema.START_TIME));
+          }
+          if (cmp != 0) {
+            return cmp;
+          }
+        }
+        cmp = compareInts(__left, __right, AccidentSchema.ID);
+        if (cmp != 0) {
+          return cmp;
+        }
+        return compareInts(__left, __right, AccidentSchema.SEVERITY);
+      } catch (IOException e) {
+        throw new IllegalArgumentException(e);
+      }
+    }
+    private static int compareNulls(AccidentView __left, AccidentView __right, int field)
+        throws IOException {
+      return Boolean.compare(!__left.isNull(field), !__right.isNull(field));
+    }
+    private static int compareInts(AccidentView __left, AccidentView __right, int field)
+        throws IOException {
+      int cmp = compareNulls(__left, __right, field);
+      if (cmp != 0 || __left.isNull(field)) {
+        return cmp;
+      }
+      return Integer.compare(__left.getInt(field), __right.getInt(field));
+    }
+  }
+  static {
+    WritableComparator.define(us_accidents.class, new Comparator());
+  }
   public void readFields(ResultSet __dbResults) throws SQLException {
+    this.__fingerprinted = false;
     this.__cur_result_set = __dbResults;
-    this.id = JdbcWritableBridge.readInteger(1, __dbResults);
-    this.id_str = JdbcWritableBridge.readString(2, __dbResults);
-    this.source = JdbcWritableBridge.readString(3, __dbResults);
-    this.severity = JdbcWritableBridge.readInteger(4, __dbResults);
-    this.start_time = JdbcWritableBridge.readTimestamp(5, __dbResults);
-    this.end_time = JdbcWritableBridge.readTimestamp(6, __dbResults);
-    this.start_lat = JdbcWritableBridge.readDouble(7, __dbResults);
-    this.start_lng = JdbcWritableBridge.readDouble(8, __dbResults);
-    this.end_lat = JdbcWritableBridge.readDouble(9, __dbResults);
-    this.end_lng = JdbcWritableBridge.readDouble(10, __dbResults);
-    this.distance_mi = JdbcWritableBridge.readDouble(11, __dbResults);
-    this.description = JdbcWritableBridge.readString(12, __dbResults);
-    this.street = JdbcWritableBridge.readString(13, __dbResults);
-    this.city = JdbcWritableBridge.readString(14, __dbResults);
-    this.county = JdbcWritableBridge.readString(15, __dbResults);
-    this.state = JdbcWritableBridge.readString(16, __dbResults);
-    this.zipcode = JdbcWritableBridge.readString(17, __dbResults);
-    this.country = JdbcWritableBridge.readString(18, __dbResults);
-    this.timezone = JdbcWritableBridge.readString(19, __dbResults);
-    this.airport_code = JdbcWritableBridge.readString(20, __dbResults);
-    this.weather_timestamp = JdbcWritableBridge.readTimestamp(21, __dbResults);
-    this.temperature_f = JdbcWritableBridge.readDouble(22, __dbResults);
-    this.wind_chill_f = JdbcWritableBridge.readDouble(23, __dbResults);
-    this.humidity_percent = JdbcWritableBridge.readDouble(24, __dbResults);
-    this.pressure_in = JdbcWritableBridge.readDouble(25, __dbResults);
-    this.visibility_mi = JdbcWritableBridge.readDouble(26, __dbResults);
-    this.wind_direction = JdbcWritableBridge.readString(27, __dbResults);
-    this.wind_speed_mph = JdbcWritableBridge.readDouble(28, __dbResults);
-    this.precipitation_in = JdbcWritableBridge.readDouble(29, __dbResults);
-    this.weather_condition = JdbcWritableBridge.readString(30, __dbResults);
-    this.amenity = JdbcWritableBridge.readBoolean(31, __dbResults);
-    this.bump = JdbcWritableBridge.readBoolean(32, __dbResults);
-    this.crossing = JdbcWritableBridge.readBoolean(33, __dbResults);
-    this.give_way = JdbcWritableBridge.readBoolean(34, __dbResults);
-    this.junction = JdbcWritableBridge.readBoolean(35, __dbResults);
-    this.no_exit = JdbcWritableBridge.readBoolean(36, __dbResults);
-    this.railway = JdbcWritableBridge.readBoolean(37, __dbResults);
-    this.roundabout = JdbcWritableBridge.readBoolean(38, __dbResults);
-    this.station = JdbcWritableBridge.readBoolean(39, __dbResults);
-    this.stop = JdbcWritableBridge.readBoolean(40, __dbResults);
-    this.traffic_calming = JdbcWritableBridge.readBoolean(41, __dbResults);
-    this.traffic_signal = JdbcWritableBridge.readBoolean(42, __dbResults);
-    this.turning_loop = JdbcWritableBridge.readBoolean(43, __dbResults);
-    this.sunrise_sunset = JdbcWritableBridge.readString(44, __dbResults);
-    this.civil_twilight = JdbcWritableBridge.readString(45, __dbResults);
-    this.nautical_twilight = JdbcWritableBridge.readString(46, __dbResults);
-    this.astronomical_twilight = JdbcWritableBridge.readString(47, __dbResults);
+    this.id = (__projection & (1L << 0)) == 0 ? null : JdbcWritableBridge.readInteger(1, __dbResults);
+    this.id_str = (__projection & (1L << 1)) == 0 ? null : JdbcWritableBridge.readString(2, __dbResults);
+    this.source = (__projection & (1L << 2)) == 0 ? null : JdbcWritableBridge.readString(3, __dbResults);
+    this.severity = (__projection & (1L << 3)) == 0 ? null : JdbcWritableBridge.readInteger(4, __dbResults);
+    this.start_time = (__projection & (1L << 4)) == 0 ? null : JdbcWritableBridge.readTimestamp(5, __dbResults);
+    this.end_time = (__projection & (1L << 5)) == 0 ? null : JdbcWritableBridge.readTimestamp(6, __dbResults);
+    this.start_lat = (__projection & (1L << 6)) == 0 ? null : JdbcWritableBridge.readDouble(7, __dbResults);
+    this.start_lng = (__projection & (1L << 7)) == 0 ? null : JdbcWritableBridge.readDouble(8, __dbResults);
+    this.end_lat = (__projection & (1L << 8)) == 0 ? null : JdbcWritableBridge.readDouble(9, __dbResults);
+    this.end_lng = (__projection & (1L << 9)) == 0 ? null : JdbcWritableBridge.readDouble(10, __dbResults);
+    this.distance_mi = (__projection & (1L << 10)) == 0 ? null : JdbcWritableBridge.readDouble(11, __dbResults);
+    this.description = (__projection & (1L << 11)) == 0 ? null : JdbcWritableBridge.readString(12, __dbResults);
+    this.street = (__projection & (1L << 12)) == 0 ? null : JdbcWritableBridge.readString(13, __dbResults);
+    this.city = (__projection & (1L << 13)) == 0 ? null : JdbcWritableBridge.readString(14, __dbResults);
+    this.county = (__projection & (1L << 14)) == 0 ? null : JdbcWritableBridge.readString(15, __dbResults);
+    this.state = (__projection & (1L << 15)) == 0 ? null : JdbcWritableBridge.readString(16, __dbResults);
+    this.zipcode = (__projection & (1L << 16)) == 0 ? null : JdbcWritableBridge.readString(17, __dbResults);
+    this.country = (__projection & (1L << 17)) == 0 ? null : JdbcWritableBridge.readString(18, __dbResults);
+    this.timezone = (__projection & (1L << 18)) == 0 ? null : JdbcWritableBridge.readString(19, __dbResults);
+    this.airport_code = (__projection & (1L << 19)) == 0 ? null : JdbcWritableBridge.readString(20, __dbResults);
+    this.weather_timestamp = (__projection & (1L << 20)) == 0 ? null : JdbcWritableBridge.readTimestamp(21, __dbResults);
+    this.temperature_f = (__projection & (1L << 21)) == 0 ? null : JdbcWritableBridge.readDouble(22, __dbResults);
+    this.wind_chill_f = (__projection & (1L << 22)) == 0 ? null : JdbcWritableBridge.readDouble(23, __dbResults);
+    this.humidity_percent = (__projection & (1L << 23)) == 0 ? null : JdbcWritableBridge.readDouble(24, __dbResults);
+    this.pressure_in = (__projection & (1L << 24)) == 0 ? null : JdbcWritableBridge.readDouble(25, __dbResults);
+    this.visibility_mi = (__projection & (1L << 25)) == 0 ? null : JdbcWritableBridge.readDouble(26, __dbResults);
+    this.wind_direction = (__projection & (1L << 26)) == 0 ? null : JdbcWritableBridge.readString(27, __dbResults);
+    this.wind_speed_mph = (__projection & (1L << 27)) == 0 ? null : JdbcWritableBridge.readDouble(28, __dbResults);
+    this.precipitation_in = (__projection & (1L << 28)) == 0 ? null : JdbcWritableBridge.readDouble(29, __dbResults);
+    this.weather_condition = (__projection & (1L << 29)) == 0 ? null : JdbcWritableBridge.readString(30, __dbResults);
+    set_amenity((__projection & (1L << 30)) == 0 ? null : JdbcWritableBridge.readBoolean(31, __dbResults));
+    set_bump((__projection & (1L << 31)) == 0 ? null : JdbcWritableBridge.readBoolean(32, __dbResults));
+    set_crossing((__projection & (1L << 32)) == 0 ? null : JdbcWritableBridge.readBoolean(33, __dbResults));
+    set_give_way((__projection & (1L << 33)) == 0 ? null : JdbcWritableBridge.readBoolean(34, __dbResults));
+    set_junction((__projection & (1L << 34)) == 0 ? null : JdbcWritableBridge.readBoolean(35, __dbResults));
+    set_no_exit((__projection & (1L << 35)) == 0 ? null : JdbcWritableBridge.readBoolean(36, __dbResults));
+    set_railway((__projection & (1L << 36)) == 0 ? null : JdbcWritableBridge.readBoolean(37, __dbResults));
+    set_roundabout((__projection & (1L << 37)) == 0 ? null : JdbcWritableBridge.readBoolean(38, __dbResults));
+    set_station((__projection & (1L << 38)) == 0 ? null : JdbcWritableBridge.readBoolean(39, __dbResults));
+    set_stop((__projection & (1L << 39)) == 0 ? null : JdbcWritableBridge.readBoolean(40, __dbResults));
+    set_traffic_calming((__projection & (1L << 40)) == 0 ? null : JdbcWritableBridge.readBoolean(41, __dbResults));
+    set_traffic_signal((__projection & (1L << 41)) == 0 ? null : JdbcWritableBridge.readBoolean(42, __dbResults));
+    set_turning_loop((__projection & (1L << 42)) == 0 ? null : JdbcWritableBridge.readBoolean(43, __dbResults));
+    this.sunrise_sunset = (__projection & (1L << 43)) == 0 ? null : JdbcWritableBridge.readString(44, __dbResults);
+    this.civil_twilight = (__projection & (1L << 44)) == 0 ? null : JdbcWritableBridge.readString(45, __dbResults);
+    this.nautical_twilight = (__projection & (1L << 45)) == 0 ? null : JdbcWritableBridge.readString(46, __dbResults);
+    this.astronomical_twilight = (__projection & (1L << 46)) == 0 ? null : JdbcWritableBridge.readString(47, __dbResults);
+    __fingerprint();
   }
   public void readFields0(ResultSet __dbResults) throws SQLException {
-    this.id = JdbcWritableBridge.readInteger(1, __dbResults);
-    this.id_str = JdbcWritableBridge.readString(2, __dbResults);
-    this.source = JdbcWritableBridge.readString(3, __dbResults);
-    this.severity = JdbcWritableBridge.readInteger(4, __dbResults);
-    this.start_time = JdbcWritableBridge.readTimestamp(5, __dbResults);
-    this.end_time = JdbcWritableBridge.readTimestamp(6, __dbResults);
-    this.start_lat = JdbcWritableBridge.readDouble(7, __dbResults);
-    this.start_lng = JdbcWritableBridge.readDouble(8, __dbResults);
-    this.end_lat = JdbcWritableBridge.readDouble(9, __dbResults);
-    this.end_lng = JdbcWritableBridge.readDouble(10, __dbResults);
-    this.distance_mi = JdbcWritableBridge.readDouble(11, __dbResults);
-    this.description = JdbcWritableBridge.readString(12, __dbResults);
-    this.street = JdbcWritableBridge.readString(13, __dbResults);
-    this.city = JdbcWritableBridge.readString(14, __dbResults);
-    this.county = JdbcWritableBridge.readString(15, __dbResults);
-    this.state = JdbcWritableBridge.readString(16, __dbResults);
-    this.zipcode = JdbcWritableBridge.readString(17, __dbResults);
-    this.country = JdbcWritableBridge.readString(18, __dbResults);
-    this.timezone = JdbcWritableBridge.readString(19, __dbResults);
-    this.airport_code = JdbcWritableBridge.readString(20, __dbResults);
-    this.weather_timestamp = JdbcWritableBridge.readTimestamp(21, __dbResults);
-    this.temperature_f = JdbcWritableBridge.readDouble(22, __dbResults);
-    this.wind_chill_f = JdbcWritableBridge.readDouble(23, __dbResults);
-    this.humidity_percent = JdbcWritableBridge.readDouble(24, __dbResults);
-    this.pressure_in = JdbcWritableBridge.readDouble(25, __dbResults);
-    this.visibility_mi = JdbcWritableBridge.readDouble(26, __dbResults);
-    this.wind_direction = JdbcWritableBridge.readString(27, __dbResults);
-    this.wind_speed_mph = JdbcWritableBridge.readDouble(28, __dbResults);
-    this.precipitation_in = JdbcWritableBridge.readDouble(29, __dbResults);
-    this.weather_condition = JdbcWritableBridge.readString(30, __dbResults);
-    this.amenity = JdbcWritableBridge.readBoolean(31, __dbResults);
-    this.bump = JdbcWritableBridge.readBoolean(32, __dbResults);
-    this.crossing = JdbcWritableBridge.readBoolean(33, __dbResults);
-    this.give_way = JdbcWritableBridge.readBoolean(34, __dbResults);
-    this.junction = JdbcWritableBridge.readBoolean(35, __dbResults);
-    this.no_exit = JdbcWritableBridge.readBoolean(36, __dbResults);
-    this.railway = JdbcWritableBridge.readBoolean(37, __dbResults);
-    this.roundabout = JdbcWritableBridge.readBoolean(38, __dbResults);
-    this.station = JdbcWritableBridge.readBoolean(39, __dbResults);
-    this.stop = JdbcWritableBridge.readBoolean(40, __dbResults);
-    this.traffic_calming = JdbcWritableBridge.readBoolean(41, __dbResults);
-    this.traffic_signal = JdbcWritableBridge.readBoolean(42, __dbResults);
-    this.turning_loop = JdbcWritableBridge.readBoolean(43, __dbResults);
-    this.sunrise_sunset = JdbcWritableBridge.readString(44, __dbResults);
-    this.civil_twilight = JdbcWritableBridge.readString(45, __dbResults);
-    this.nautical_twilight = JdbcWritableBridge.readString(46, __dbResults);
-    this.astronomical_twilight = JdbcWritableBridge.readString(47, __dbResults);
+    this.__fingerprinted = false;
+    this.id = (__projection & (1L << 0)) == 0 ? null : JdbcWritableBridge.readInteger(1, __dbResults);
+    this.id_str = (__projection & (1L << 1)) == 0 ? null : JdbcWritableBridge.readString(2, __dbResults);
+    this.source = (__projection & (1L << 2)) == 0 ? null : JdbcWritableBridge.readString(3, __dbResults);
+    this.severity = (__projection & (1L << 3)) == 0 ? null : JdbcWritableBridge.readInteger(4, __dbResults);
+    this.start_time = (__projection & (1L << 4)) == 0 ? null : JdbcWritableBridge.readTimestamp(5, __dbResults);
+    this.end_time = (__projection & (1L << 5)) == 0 ? null : JdbcWritableBridge.readTimestamp(6, __dbResults);
+    this.start_lat = (__projection & (1L << 6)) == 0 ? null : JdbcWritableBridge.readDouble(7, __dbResults);
+    this.start_lng = (__projection & (1L << 7)) == 0 ? null : JdbcWritableBridge.readDouble(8, __dbResults);
+    this.end_lat = (__projection & (1L << 8)) == 0 ? null : JdbcWritableBridge.readDouble(9, __dbResults);
+    this.end_lng = (__projection & (1L << 9)) == 0 ? null : JdbcWritableBridge.readDouble(10, __dbResults);
+    this.distance_mi = (__projection & (1L << 10)) == 0 ? null : JdbcWritableBridge.readDouble(11, __dbResults);
+    this.description = (__projection & (1L << 11)) == 0 ? null : JdbcWritableBridge.readString(12, __dbResults);
+    this.street = (__projection & (1L << 12)) == 0 ? null : JdbcWritableBridge.readString(13, __dbResults);
+    this.city = (__projection & (1L << 13)) == 0 ? null : JdbcWritableBridge.readString(14, __dbResults);
+    this.county = (__projection & (1L << 14)) == 0 ? null : JdbcWritableBridge.readString(15, __dbResults);
+    this.state = (__projection & (1L << 15)) == 0 ? null : JdbcWritableBridge.readString(16, __dbResults);
+    this.zipcode = (__projection & (1L << 16)) == 0 ? null : JdbcWritableBridge.readString(17, __dbResults);
+    this.country = (__projection & (1L << 17)) == 0 ? null : JdbcWritableBridge.readString(18, __dbResults);
+    this.timezone = (__projection & (1L << 18)) == 0 ? null : JdbcWritableBridge.readString(19, __dbResults);
+    this.airport_code = (__projection & (1L << 19)) == 0 ? null : JdbcWritableBridge.readString(20, __dbResults);
+    this.weather_timestamp = (__projection & (1L << 20)) == 0 ? null : JdbcWritableBridge.readTimestamp(21, __dbResults);
+    this.temperature_f = (__projection & (1L << 21)) == 0 ? null : JdbcWritableBridge.readDouble(22, __dbResults);
+    this.wind_chill_f = (__projection & (1L << 22)) == 0 ? null : JdbcWritableBridge.readDouble(23, __dbResults);
+    this.humidity_percent = (__projection & (1L << 23)) == 0 ? null : JdbcWritableBridge.readDouble(24, __dbResults);
+    this.pressure_in = (__projection & (1L << 24)) == 0 ? null : JdbcWritableBridge.readDouble(25, __dbResults);
+    this.visibility_mi = (__projection & (1L << 25)) == 0 ? null : JdbcWritableBridge.readDouble(26, __dbResults);
+    this.wind_direction = (__projection & (1L << 26)) == 0 ? null : JdbcWritableBridge.readString(27, __dbResults);
+    this.wind_speed_mph = (__projection & (1L << 27)) == 0 ? null : JdbcWritableBridge.readDouble(28, __dbResults);
+    this.precipitation_in = (__projection & (1L << 28)) == 0 ? null : JdbcWritableBridge.readDouble(29, __dbResults);
+    this.weather_condition = (__projection & (1L << 29)) == 0 ? null : JdbcWritableBridge.readString(30, __dbResults);
+    set_amenity((__projection & (1L << 30)) == 0 ? null : JdbcWritableBridge.readBoolean(31, __dbResults));
+    set_bump((__projection & (1L << 31)) == 0 ? null : JdbcWritableBridge.readBoolean(32, __dbResults));
+    set_crossing((__projection & (1L << 32)) == 0 ? null : JdbcWritableBridge.readBoolean(33, __dbResults));
+    set_give_way((__projection & (1L << 33)) == 0 ? null : JdbcWritableBridge.readBoolean(34, __dbResults));
+    set_junction((__projection & (1L << 34)) == 0 ? null : JdbcWritableBridge.readBoolean(35, __dbResults));
+    set_no_exit((__projection & (1L << 35)) == 0 ? null : JdbcWritableBridge.readBoolean(36, __dbResults));
+    set_railway((__projection & (1L << 36)) == 0 ? null : JdbcWritableBridge.readBoolean(37, __dbResults));
+    set_roundabout((__projection & (1L << 37)) == 0 ? null : JdbcWritableBridge.readBoolean(38, __dbResults));
+    set_station((__projection & (1L << 38)) == 0 ? null : JdbcWritableBridge.readBoolean(39, __dbResults));
+    set_stop((__projection & (1L << 39)) == 0 ? null : JdbcWritableBridge.readBoolean(40, __dbResults));
+    set_traffic_calming((__projection & (1L << 40)) == 0 ? null : JdbcWritableBridge.readBoolean(41, __dbResults));
+    set_traffic_signal((__projection & (1L << 41)) == 0 ? null : JdbcWritableBridge.readBoolean(42, __dbResults));
+    set_turning_loop((__projection & (1L << 42)) == 0 ? null : JdbcWritableBridge.readBoolean(43, __dbResults));
+    this.sunrise_sunset = (__projection & (1L << 43)) == 0 ? null : JdbcWritableBridge.readString(44, __dbResults);
+    this.civil_twilight = (__projection & (1L << 44)) == 0 ? null : JdbcWritableBridge.readString(45, __dbResults);
+    this.nautical_twilight = (__projection & (1L << 45)) == 0 ? null : JdbcWritableBridge.readString(46, __dbResults);
+    this.astronomical_twilight = (__projection & (1L << 46)) == 0 ? null : JdbcWritableBridge.readString(47, __dbResults);
+    __fingerprint();
   }
   public void loadLargeObjects(LargeObjectLoader __loader)
       throws SQLException, IOException, InterruptedException {
@@ -1099,19 +1343,19 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     JdbcWritableBridge.writeDouble(wind_speed_mph, 28 + __off, 8, __dbStmt);
     JdbcWritableBridge.writeDouble(precipitation_in, 29 + __off, 8, __dbStmt);
     JdbcWritableBridge.writeString(weather_condition, 30 + __off, 12, __dbStmt);
-    JdbcWritableBridge.writeBoolean(amenity, 31 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(bump, 32 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(crossing, 33 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(give_way, 34 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(junction, 35 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(no_exit, 36 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(railway, 37 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(roundabout, 38 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(station, 39 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(stop, 40 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(traffic_calming, 41 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(traffic_signal, 42 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(turning_loop, 43 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_amenity(), 31 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_bump(), 32 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_crossing(), 33 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_give_way(), 34 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_junction(), 35 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_no_exit(), 36 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_railway(), 37 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_roundabout(), 38 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_station(), 39 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_stop(), 40 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_traffic_calming(), 41 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_traffic_signal(), 42 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_turning_loop(), 43 + __off, -7, __dbStmt);
     JdbcWritableBridge.writeString(sunrise_sunset, 44 + __off, 12, __dbStmt);
     JdbcWritableBridge.writeString(civil_twilight, 45 + __off, 12, __dbStmt);
     JdbcWritableBridge.writeString(nautical_twilight, 46 + __off, 12, __dbStmt);
@@ -1149,551 +1393,983 @@ public class us_accidents extends SqoopRecord  implements DBWritable, Writable {
     JdbcWritableBridge.writeDouble(wind_speed_mph, 28 + __off, 8, __dbStmt);
     JdbcWritableBridge.writeDouble(precipitation_in, 29 + __off, 8, __dbStmt);
     JdbcWritableBridge.writeString(weather_condition, 30 + __off, 12, __dbStmt);
-    JdbcWritableBridge.writeBoolean(amenity, 31 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(bump, 32 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(crossing, 33 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(give_way, 34 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(junction, 35 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(no_exit, 36 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(railway, 37 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(roundabout, 38 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(station, 39 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(stop, 40 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(traffic_calming, 41 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(traffic_signal, 42 + __off, -7, __dbStmt);
-    JdbcWritableBridge.writeBoolean(turning_loop, 43 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_amenity(), 31 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_bump(), 32 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_crossing(), 33 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_give_way(), 34 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_junction(), 35 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_no_exit(), 36 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_railway(), 37 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_roundabout(), 38 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_station(), 39 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_stop(), 40 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_traffic_calming(), 41 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_traffic_signal(), 42 + __off, -7, __dbStmt);
+    JdbcWritableBridge.writeBoolean(get_turning_loop(), 43 + __off, -7, __dbStmt);
     JdbcWritableBridge.writeString(sunrise_sunset, 44 + __off, 12, __dbStmt);
     JdbcWritableBridge.writeString(civil_twilight, 45 + __off, 12, __dbStmt);
     JdbcWritableBridge.writeString(nautical_twilight, 46 + __off, 12, __dbStmt);
     JdbcWritableBridge.writeString(astronomical_twilight, 47 + __off, 12, __dbStmt);
   }
   public void readFields(DataInput __dataIn) throws IOException {
-this.readFields0(__dataIn);  }
+    this.readFields0(__dataIn);
+    __fingerprint();
+  }
   public void readFields0(DataInput __dataIn) throws IOException {
-    if (__dataIn.readBoolean()) { 
+    this.__fingerprinted = false;
+    int __format = __dataIn.readUnsignedByte();
+    if (__format == COMPACT_PROTOCOL_VERSION) {
+      readCompact0(__dataIn, 0);
+      return;
+    }
+    if (__format == FLAGGED_PROTOCOL_VERSION) {
+      readCompact0(__dataIn, __dataIn.readUnsignedByte());
+      return;
+    }
+    if (__format != 0) { 
         this.id = null;
+    } else if ((__projection & (1L << 0)) == 0) {
+        this.id = null;
+        WritableUtils.skipFully(__dataIn, 4);
     } else {
     this.id = Integer.valueOf(__dataIn.readInt());
     }
     if (__dataIn.readBoolean()) { 
         this.id_str = null;
+    } else if ((__projection & (1L << 1)) == 0) {
+        this.id_str = null;
+        Text.skip(__dataIn);
     } else {
     this.id_str = Text.readString(__dataIn);
     }
     if (__dataIn.readBoolean()) { 
         this.source = null;
+    } else if ((__projection & (1L << 2)) == 0) {
+        this.source = null;
+        Text.skip(__dataIn);
     } else {
     this.source = Text.readString(__dataIn);
     }
     if (__dataIn.readBoolean()) { 
         this.severity = null;
+    } else if ((__projection & (1L << 3)) == 0) {
+        this.severity = null;
+        WritableUtils.skipFully(__dataIn, 4);
     } else {
     this.severity = Integer.valueOf(__dataIn.readInt());
     }
     if (__dataIn.readBoolean()) { 
         this.start_time = null;
+    } else if ((__projection & (1L << 4)) == 0) {
+        this.start_time = null;
+        WritableUtils.skipFully(__dataIn, 12);
     } else {
     this.start_time = new Timestamp(__dataIn.readLong());
     this.start_time.setNanos(__dataIn.readInt());
     }
     if (__dataIn.readBoolean()) { 
         this.end_time = null;
+    } else if ((__projection & (1L << 5)) == 0) {
+        this.end_time = null;
+        WritableUtils.skipFully(__dataIn, 12);
     } else {
     this.end_time = new Timestamp(__dataIn.readLong());
     this.end_time.setNanos(__dataIn.readInt());
     }
     if (__dataIn.readBoolean()) { 
         this.start_lat = null;
+    } else if ((__projection & (1L << 6)) == 0) {
+        this.start_lat = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
     this.start_lat = Double.valueOf(__dataIn.readDouble());
     }
     if (__dataIn.readBoolean()) { 
         this.start_lng = null;
+    } else if ((__projection & (1L << 7)) == 0) {
+        this.start_lng = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
     this.start_lng = Double.valueOf(__dataIn.readDouble());
     }
     if (__dataIn.readBoolean()) { 
         this.end_lat = null;
+    } else if ((__projection & (1L << 8)) == 0) {
+        this.end_lat = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
     this.end_lat = Double.valueOf(__dataIn.readDouble());
     }
     if (__dataIn.readBoolean()) { 
         this.end_lng = null;
+    } else if ((__projection & (1L << 9)) == 0) {
+        this.end_lng = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
     this.end_lng = Double.valueOf(__dataIn.readDouble());
     }
     if (__dataIn.readBoolean()) { 
         this.distance_mi = null;
+    } else if ((__projection & (1L << 10)) == 0) {
+        this.distance_mi = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
     this.distance_mi = Double.valueOf(__dataIn.readDouble());
     }
     if (__dataIn.readBoolean()) { 
         this.description = null;
+    } else if ((__projection & (1L << 11)) == 0) {
+        this.description = null;
+        Text.skip(__dataIn);
     } else {
     this.description = Text.readString(__dataIn);
     }
     if (__dataIn.readBoolean()) { 
         this.street = null;
+    } else if ((__projection & (1L << 12)) == 0) {
+        this.street = null;
+        Text.skip(__dataIn);
     } else {
     this.street = Text.readString(__dataIn);
     }
     if (__dataIn.readBoolean()) { 
         this.city = null;
+    } else if ((__projection & (1L << 13)) == 0) {
+        this.city = null;
+        Text.skip(__dataIn);
     } else {
     this.city = Text.readString(__dataIn);
     }
     if (__dataIn.readBoolean()) { 
         this.county = null;
+    } else if ((__projection & (1L << 14)) == 0) {
+        this.county = null;
+        Text.skip(__dataIn);
     } else {
     this.county = Text.readString(__dataIn);
     }
     if (__dataIn.readBoolean()) { 
         this.state = null;
+    } else if ((__projection & (1L << 15)) == 0) {
+        this.state = null;
+        Text.skip(__dataIn);
     } else {
     this.state = Text.readString(__dataIn);
     }
     if (__dataIn.readBoolean()) { 
         this.zipcode = null;
+    } else if ((__projection & (1L << 16)) == 0) {
+        this.zipcode = null;
+        Text.skip(__dataIn);
     } else {
     this.zipcode = Text.readString(__dataIn);
     }
     if (__dataIn.readBoolean()) { 
         this.country = null;
+    } else if ((__projection & (1L << 17)) == 0) {
+        this.country = null;
+        Text.skip(__dataIn);
     } else {
     this.country = Text.readString(__dataIn);
     }
     if (__dataIn.readBoolean()) { 
         this.timezone = null;
+    } else if ((__projection & (1L << 18)) == 0) {
+        this.timezone = null;
+        Text.skip(__dataIn);
     } else {
     this.timezone = Text.readString(__dataIn);
     }
     if (__dataIn.readBoolean()) { 
         this.airport_code = null;
+    } else if ((__projection & (1L << 19)) == 0) {
+        this.airport_code = null;
+        Text.skip(__dataIn);
     } else {
     this.airport_code = Text.readString(__dataIn);
     }
     if (__dataIn.readBoolean()) { 
         this.weather_timestamp = null;
+    } else if ((__projection & (1L << 20)) == 0) {
+        this.weather_timestamp = null;
+        WritableUtils.skipFully(__dataIn, 12);
     } else {
     this.weather_timestamp = new Timestamp(__dataIn.readLong());
     this.weather_timestamp.setNanos(__dataIn.readInt());
     }
     if (__dataIn.readBoolean()) { 
         this.temperature_f = null;
+    } else if ((__projection & (1L << 21)) == 0) {
+        this.temperature_f = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
     this.temperature_f = Double.valueOf(__dataIn.readDouble());
     }
     if (__dataIn.readBoolean()) { 
         this.wind_chill_f = null;
+    } else if ((__projection & (1L << 22)) == 0) {
+        this.wind_chill_f = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
     this.wind_chill_f = Double.valueOf(__dataIn.readDouble());
     }
     if (__dataIn.readBoolean()) { 
         this.humidity_percent = null;
+    } else if ((__projection & (1L << 23)) == 0) {
+        this.humidity_percent = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
     this.humidity_percent = Double.valueOf(__dataIn.readDouble());
     }
     if (__dataIn.readBoolean()) { 
         this.pressure_in = null;
+    } else if ((__projection & (1L << 24)) == 0) {
+        this.pressure_in = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
     this.pressure_in = Double.valueOf(__dataIn.readDouble());
     }
     if (__dataIn.readBoolean()) { 
         this.visibility_mi = null;
+    } else if ((__projection & (1L << 25)) == 0) {
+        this.visibility_mi = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
     this.visibility_mi = Double.valueOf(__dataIn.readDouble());
     }
     if (__dataIn.readBoolean()) { 
         this.wind_direction = null;
+    } else if ((__projection & (1L << 26)) == 0) {
+        this.wind_direction = null;
+        Text.skip(__dataIn);
     } else {
     this.wind_direction = Text.readString(__dataIn);
     }
     if (__dataIn.readBoolean()) { 
         this.wind_speed_mph = null;
+    } else if ((__projection & (1L << 27)) == 0) {
+        this.wind_speed_mph = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
     this.wind_speed_mph = Double.valueOf(__dataIn.readDouble());
     }
     if (__dataIn.readBoolean()) { 
         this.precipitation_in = null;
+    } else if ((__projection & (1L << 28)) == 0) {
+        this.precipitation_in = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
     this.precipitation_in = Double.valueOf(__dataIn.readDouble());
     }
     if (__dataIn.readBoolean()) { 
         this.weather_condition = null;
+    } else if ((__projection & (1L << 29)) == 0) {
+        this.weather_condition = null;
+        Text.skip(__dataIn);
     } else {
     this.weather_condition = Text.readString(__dataIn);
     }
     if (__dataIn.readBoolean()) { 
-        this.amenity = null;
+        set_amenity(null);
+    } else if ((__projection & (1L << 30)) == 0) {
+        set_amenity(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-    this.amenity = Boolean.valueOf(__dataIn.readBoolean());
+    set_amenity(__dataIn.readBoolean());
     }
     if (__dataIn.readBoolean()) { 
-        this.bump = null;
+        set_bump(null);
+    } else if ((__projection & (1L << 31)) == 0) {
+        set_bump(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-    this.bump = Boolean.valueOf(__dataIn.readBoolean());
+    set_bump(__dataIn.readBoolean());
     }
     if (__dataIn.readBoolean()) { 
-        this.crossing = null;
+        set_crossing(null);
+    } else if ((__projection & (1L << 32)) == 0) {
+        set_crossing(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-    this.crossing = Boolean.valueOf(__dataIn.readBoolean());
+    set_crossing(__dataIn.readBoolean());
     }
     if (__dataIn.readBoolean()) { 
-        this.give_way = null;
+        set_give_way(null);
+    } else if ((__projection & (1L << 33)) == 0) {
+        set_give_way(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-    this.give_way = Boolean.valueOf(__dataIn.readBoolean());
+    set_give_way(__dataIn.readBoolean());
     }
     if (__dataIn.readBoolean()) { 
-        this.junction = null;
+        set_junction(null);
+    } else if ((__projection & (1L << 34)) == 0) {
+        set_junction(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-    this.junction = Boolean.valueOf(__dataIn.readBoolean());
+    set_junction(__dataIn.readBoolean());
     }
     if (__dataIn.readBoolean()) { 
-        this.no_exit = null;
+        set_no_exit(null);
+    } else if ((__projection & (1L << 35)) == 0) {
+        set_no_exit(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-    this.no_exit = Boolean.valueOf(__dataIn.readBoolean());
+    set_no_exit(__dataIn.readBoolean());
     }
     if (__dataIn.readBoolean()) { 
-        this.railway = null;
+        set_railway(null);
+    } else if ((__projection & (1L << 36)) == 0) {
+        set_railway(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-    this.railway = Boolean.valueOf(__dataIn.readBoolean());
+    set_railway(__dataIn.readBoolean());
     }
     if (__dataIn.readBoolean()) { 
-        this.roundabout = null;
+        set_roundabout(null);
+    } else if ((__projection & (1L << 37)) == 0) {
+        set_roundabout(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-    this.roundabout = Boolean.valueOf(__dataIn.readBoolean());
+    set_roundabout(__dataIn.readBoolean());
     }
     if (__dataIn.readBoolean()) { 
-        this.station = null;
+        set_station(null);
+    } else if ((__projection & (1L << 38)) == 0) {
+        set_station(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-    this.station = Boolean.valueOf(__dataIn.readBoolean());
+    set_station(__dataIn.readBoolean());
     }
     if (__dataIn.readBoolean()) { 
-        this.stop = null;
+        set_stop(null);
+    } else if ((__projection & (1L << 39)) == 0) {
+        set_stop(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-    this.stop = Boolean.valueOf(__dataIn.readBoolean());
+    set_stop(__dataIn.readBoolean());
     }
     if (__dataIn.readBoolean()) { 
-        this.traffic_calming = null;
+        set_traffic_calming(null);
+    } else if ((__projection & (1L << 40)) == 0) {
+        set_traffic_calming(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-    this.traffic_calming = Boolean.valueOf(__dataIn.readBoolean());
+    set_traffic_calming(__dataIn.readBoolean());
     }
     if (__dataIn.readBoolean()) { 
-        this.traffic_signal = null;
+        set_traffic_signal(null);
+    } else if ((__projection & (1L << 41)) == 0) {
+        set_traffic_signal(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-    this.traffic_signal = Boolean.valueOf(__dataIn.readBoolean());
+    set_traffic_signal(__dataIn.readBoolean());
     }
     if (__dataIn.readBoolean()) { 
-        this.turning_loop = null;
+        set_turning_loop(null);
+    } else if ((__projection & (1L << 42)) == 0) {
+        set_turning_loop(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-    this.turning_loop = Boolean.valueOf(__dataIn.readBoolean());
+    set_turning_loop(__dataIn.readBoolean());
     }
     if (__dataIn.readBoolean()) { 
         this.sunrise_sunset = null;
+    } else if ((__projection & (1L << 43)) == 0) {
+        this.sunrise_sunset = null;
+        Text.skip(__dataIn);
     } else {
     this.sunrise_sunset = Text.readString(__dataIn);
     }
     if (__dataIn.readBoolean()) { 
         this.civil_twilight = null;
+    } else if ((__projection & (1L << 44)) == 0) {
+        this.civil_twilight = null;
+        Text.skip(__dataIn);
     } else {
     this.civil_twilight = Text.readString(__dataIn);
     }
     if (__dataIn.readBoolean()) { 
         this.nautical_twilight = null;
+    } else if ((__projection & (1L << 45)) == 0) {
+        this.nautical_twilight = null;
+        Text.skip(__dataIn);
     } else {
     this.nautical_twilight = Text.readString(__dataIn);
     }
     if (__dataIn.readBoolean()) { 
         this.astronomical_twilight = null;
+    } else if ((__projection & (1L << 46)) == 0) {
+        this.astronomical_twilight = null;
+        Text.skip(__dataIn);
     } else {
     this.astronomical_twilight = Text.readString(__dataIn);
     }
   }
-  public void write(DataOutput __dataOut) throws IOException {
-    if (null == this.id) { 
-        __dataOut.writeBoolean(true);
-    } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeInt(this.id);
+  private void readCompact0(DataInput __dataIn, int __flags) throws IOException {
+    if ((__flags & ~(FLAG_DICTIONARY | FLAG_ROAD_MASK)) != 0) {
+      throw new IOException("Unknown us_accidents format flags: " + __flags);
     }
-    if (null == this.id_str) { 
-        __dataOut.writeBoolean(true);
-    } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, id_str);
+    long __nulls = 0L;
+    for (int __i = 0; __i < NULL_BITMAP_BYTES; __i++) {
+      __nulls |= (long) __dataIn.readUnsignedByte() << (8 * __i);
     }
-    if (null == this.source) { 
-        __dataOut.writeBoolean(true);
-    } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, source);
+    boolean __dictionary = (__flags & FLAG_DICTIONARY) != 0;
+    if (__dictionary) {
+      AccidentDictionary.checkVersion(__dataIn.readUnsignedByte());
     }
-    if (null == this.severity) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 0)) != 0) {
+        this.id = null;
+    } else if ((__projection & (1L << 0)) == 0) {
+        this.id = null;
+        VarIntCodec.skipVInt(__dataIn);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeInt(this.severity);
+    this.id = Integer.valueOf(VarIntCodec.readVInt(__dataIn));
     }
-    if (null == this.start_time) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 1)) != 0) {
+        this.id_str = null;
+    } else if ((__projection & (1L << 1)) == 0) {
+        this.id_str = null;
+        Text.skip(__dataIn);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeLong(this.start_time.getTime());
-    __dataOut.writeInt(this.start_time.getNanos());
+    this.id_str = Text.readString(__dataIn);
     }
-    if (null == this.end_time) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 2)) != 0) {
+        this.source = null;
+    } else if ((__projection & (1L << 2)) == 0) {
+        this.source = null;
+        AccidentDictionary.skipString(__dataIn, AccidentSchema.SOURCE, __dictionary);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeLong(this.end_time.getTime());
-    __dataOut.writeInt(this.end_time.getNanos());
+    this.source = AccidentDictionary.readString(__dataIn, AccidentSchema.SOURCE, __dictionary);
     }
-    if (null == this.start_lat) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 3)) != 0) {
+        this.severity = null;
+    } else if ((__projection & (1L << 3)) == 0) {
+        this.severity = null;
+        VarIntCodec.skipVInt(__dataIn);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeDouble(this.start_lat);
+    this.severity = Integer.valueOf(VarIntCodec.readVInt(__dataIn));
     }
-    if (null == this.start_lng) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 4)) != 0) {
+        this.start_time = null;
+    } else if ((__projection & (1L << 4)) == 0) {
+        this.start_time = null;
+        VarIntCodec.skipVInt(__dataIn);
+        VarIntCodec.skipVInt(__dataIn);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeDouble(this.start_lng);
+    this.start_time = new Timestamp(VarIntCodec.readVLong(__dataIn) * 1000L);
+    this.start_time.setNanos(VarIntCodec.readVInt(__dataIn));
     }
-    if (null == this.end_lat) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 5)) != 0) {
+        this.end_time = null;
+    } else if ((__projection & (1L << 5)) == 0) {
+        this.end_time = null;
+        VarIntCodec.skipVInt(__dataIn);
+        VarIntCodec.skipVInt(__dataIn);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeDouble(this.end_lat);
+    this.end_time = new Timestamp(VarIntCodec.readVLong(__dataIn) * 1000L);
+    this.end_time.setNanos(VarIntCodec.readVInt(__dataIn));
     }
-    if (null == this.end_lng) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 6)) != 0) {
+        this.start_lat = null;
+    } else if ((__projection & (1L << 6)) == 0) {
+        this.start_lat = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeDouble(this.end_lng);
+    this.start_lat = Double.valueOf(__dataIn.readDouble());
     }
-    if (null == this.distance_mi) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 7)) != 0) {
+        this.start_lng = null;
+    } else if ((__projection & (1L << 7)) == 0) {
+        this.start_lng = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeDouble(this.distance_mi);
+    this.start_lng = Double.valueOf(__dataIn.readDouble());
     }
-    if (null == this.description) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 8)) != 0) {
+        this.end_lat = null;
+    } else if ((__projection & (1L << 8)) == 0) {
+        this.end_lat = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, description);
+    this.end_lat = Double.valueOf(__dataIn.readDouble());
     }
-    if (null == this.street) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 9)) != 0) {
+        this.end_lng = null;
+    } else if ((__projection & (1L << 9)) == 0) {
+        this.end_lng = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, street);
+    this.end_lng = Double.valueOf(__dataIn.readDouble());
     }
-    if (null == this.city) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 10)) != 0) {
+        this.distance_mi = null;
+    } else if ((__projection & (1L << 10)) == 0) {
+        this.distance_mi = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, city);
+    this.distance_mi = Double.valueOf(__dataIn.readDouble());
     }
-    if (null == this.county) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 11)) != 0) {
+        this.description = null;
+    } else if ((__projection & (1L << 11)) == 0) {
+        this.description = null;
+        Text.skip(__dataIn);
     } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, county);
+    this.description = Text.readString(__dataIn);
     }
-    if (null == this.state) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 12)) != 0) {
+        this.street = null;
+    } else if ((__projection & (1L << 12)) == 0) {
+        this.street = null;
+        Text.skip(__dataIn);
     } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, state);
+    this.street = Text.readString(__dataIn);
     }
-    if (null == this.zipcode) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 13)) != 0) {
+        this.city = null;
+    } else if ((__projection & (1L << 13)) == 0) {
+        this.city = null;
+        Text.skip(__dataIn);
     } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, zipcode);
+    this.city = Text.readString(__dataIn);
     }
-    if (null == this.country) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 14)) != 0) {
+        this.county = null;
+    } else if ((__projection & (1L << 14)) == 0) {
+        this.county = null;
+        Text.skip(__dataIn);
     } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, country);
+    this.county = Text.readString(__dataIn);
     }
-    if (null == this.timezone) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 15)) != 0) {
+        this.state = null;
+    } else if ((__projection & (1L << 15)) == 0) {
+        this.state = null;
+        AccidentDictionary.skipString(__dataIn, AccidentSchema.STATE, __dictionary);
     } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, timezone);
+    this.state = AccidentDictionary.readString(__dataIn, AccidentSchema.STATE, __dictionary);
     }
-    if (null == this.airport_code) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 16)) != 0) {
+        this.zipcode = null;
+    } else if ((__projection & (1L << 16)) == 0) {
+        this.zipcode = null;
+        Text.skip(__dataIn);
     } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, airport_code);
+    this.zipcode = Text.readString(__dataIn);
     }
-    if (null == this.weather_timestamp) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 17)) != 0) {
+        this.country = null;
+    } else if ((__projection & (1L << 17)) == 0) {
+        this.country = null;
+        AccidentDictionary.skipString(__dataIn, AccidentSchema.COUNTRY, __dictionary);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeLong(this.weather_timestamp.getTime());
-    __dataOut.writeInt(this.weather_timestamp.getNanos());
+    this.country = AccidentDictionary.readString(__dataIn, AccidentSchema.COUNTRY, __dictionary);
     }
-    if (null == this.temperature_f) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 18)) != 0) {
+        this.timezone = null;
+    } else if ((__projection & (1L << 18)) == 0) {
+        this.timezone = null;
+        AccidentDictionary.skipString(__dataIn, AccidentSchema.TIMEZONE, __dictionary);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeDouble(this.temperature_f);
+    this.timezone = AccidentDictionary.readString(__dataIn, AccidentSchema.TIMEZONE, __dictionary);
     }
-    if (null == this.wind_chill_f) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 19)) != 0) {
+        this.airport_code = null;
+    } else if ((__projection & (1L << 19)) == 0) {
+        this.airport_code = null;
+        Text.skip(__dataIn);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeDouble(this.wind_chill_f);
+    this.airport_code = Text.readString(__dataIn);
     }
-    if (null == this.humidity_percent) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 20)) != 0) {
+        this.weather_timestamp = null;
+    } else if ((__projection & (1L << 20)) == 0) {
+        this.weather_timestamp = null;
+        VarIntCodec.skipVInt(__dataIn);
+        VarIntCodec.skipVInt(__dataIn);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeDouble(this.humidity_percent);
+    this.weather_timestamp = new Timestamp(VarIntCodec.readVLong(__dataIn) * 1000L);
+    this.weather_timestamp.setNanos(VarIntCodec.readVInt(__dataIn));
     }
-    if (null == this.pressure_in) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 21)) != 0) {
+        this.temperature_f = null;
+    } else if ((__projection & (1L << 21)) == 0) {
+        this.temperature_f = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeDouble(this.pressure_in);
+    this.temperature_f = Double.valueOf(__dataIn.readDouble());
     }
-    if (null == this.visibility_mi) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 22)) != 0) {
+        this.wind_chill_f = null;
+    } else if ((__projection & (1L << 22)) == 0) {
+        this.wind_chill_f = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeDouble(this.visibility_mi);
+    this.wind_chill_f = Double.valueOf(__dataIn.readDouble());
     }
-    if (null == this.wind_direction) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 23)) != 0) {
+        this.humidity_percent = null;
+    } else if ((__projection & (1L << 23)) == 0) {
+        this.humidity_percent = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, wind_direction);
+    this.humidity_percent = Double.valueOf(__dataIn.readDouble());
     }
-    if (null == this.wind_speed_mph) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 24)) != 0) {
+        this.pressure_in = null;
+    } else if ((__projection & (1L << 24)) == 0) {
+        this.pressure_in = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeDouble(this.wind_speed_mph);
+    this.pressure_in = Double.valueOf(__dataIn.readDouble());
     }
-    if (null == this.precipitation_in) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 25)) != 0) {
+        this.visibility_mi = null;
+    } else if ((__projection & (1L << 25)) == 0) {
+        this.visibility_mi = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeDouble(this.precipitation_in);
+    this.visibility_mi = Double.valueOf(__dataIn.readDouble());
     }
-    if (null == this.weather_condition) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 26)) != 0) {
+        this.wind_direction = null;
+    } else if ((__projection & (1L << 26)) == 0) {
+        this.wind_direction = null;
+        AccidentDictionary.skipString(__dataIn, AccidentSchema.WIND_DIRECTION, __dictionary);
     } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, weather_condition);
+    this.wind_direction = AccidentDictionary.readString(__dataIn, AccidentSchema.WIND_DIRECTION, __dictionary);
     }
-    if (null == this.amenity) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 27)) != 0) {
+        this.wind_speed_mph = null;
+    } else if ((__projection & (1L << 27)) == 0) {
+        this.wind_speed_mph = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.amenity);
+    this.wind_speed_mph = Double.valueOf(__dataIn.readDouble());
     }
-    if (null == this.bump) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 28)) != 0) {
+        this.precipitation_in = null;
+    } else if ((__projection & (1L << 28)) == 0) {
+        this.precipitation_in = null;
+        WritableUtils.skipFully(__dataIn, 8);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.bump);
+    this.precipitation_in = Double.valueOf(__dataIn.readDouble());
     }
-    if (null == this.crossing) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 29)) != 0) {
+        this.weather_condition = null;
+    } else if ((__projection & (1L << 29)) == 0) {
+        this.weather_condition = null;
+        AccidentDictionary.skipString(__dataIn, AccidentSchema.WEATHER_CONDITION, __dictionary);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.crossing);
+    this.weather_condition = AccidentDictionary.readString(__dataIn, AccidentSchema.WEATHER_CONDITION, __dictionary);
     }
-    if (null == this.give_way) { 
-        __dataOut.writeBoolean(true);
+    if ((__flags & FLAG_ROAD_MASK) != 0) {
+    this.road_feature_nulls = (short) (((__nulls | ~__projection) >>> AccidentSchema.AMENITY) & ROAD_ALL);
+    this.road_features = (short) (__dataIn.readShort() & ROAD_ALL & ~this.road_feature_nulls);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.give_way);
+    if ((__nulls & (1L << 30)) != 0) {
+        set_amenity(null);
+    } else if ((__projection & (1L << 30)) == 0) {
+        set_amenity(null);
+        WritableUtils.skipFully(__dataIn, 1);
+    } else {
+    set_amenity(__dataIn.readBoolean());
     }
-    if (null == this.junction) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 31)) != 0) {
+        set_bump(null);
+    } else if ((__projection & (1L << 31)) == 0) {
+        set_bump(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.junction);
+    set_bump(__dataIn.readBoolean());
     }
-    if (null == this.no_exit) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 32)) != 0) {
+        set_crossing(null);
+    } else if ((__projection & (1L << 32)) == 0) {
+        set_crossing(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.no_exit);
+    set_crossing(__dataIn.readBoolean());
     }
-    if (null == this.railway) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 33)) != 0) {
+        set_give_way(null);
+    } else if ((__projection & (1L << 33)) == 0) {
+        set_give_way(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.railway);
+    set_give_way(__dataIn.readBoolean());
     }
-    if (null == this.roundabout) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 34)) != 0) {
+        set_junction(null);
+    } else if ((__projection & (1L << 34)) == 0) {
+        set_junction(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.roundabout);
+    set_junction(__dataIn.readBoolean());
     }
-    if (null == this.station) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 35)) != 0) {
+        set_no_exit(null);
+    } else if ((__projection & (1L << 35)) == 0) {
+        set_no_exit(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.station);
+    set_no_exit(__dataIn.readBoolean());
     }
-    if (null == this.stop) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 36)) != 0) {
+        set_railway(null);
+    } else if ((__projection & (1L << 36)) == 0) {
+        set_railway(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.stop);
+    set_railway(__dataIn.readBoolean());
     }
-    if (null == this.traffic_calming) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 37)) != 0) {
+        set_roundabout(null);
+    } else if ((__projection & (1L << 37)) == 0) {
+        set_roundabout(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.traffic_calming);
+    set_roundabout(__dataIn.readBoolean());
     }
-    if (null == this.traffic_signal) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 38)) != 0) {
+        set_station(null);
+    } else if ((__projection & (1L << 38)) == 0) {
+        set_station(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.traffic_signal);
+    set_station(__dataIn.readBoolean());
     }
-    if (null == this.turning_loop) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 39)) != 0) {
+        set_stop(null);
+    } else if ((__projection & (1L << 39)) == 0) {
+        set_stop(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-        __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.turning_loop);
+    set_stop(__dataIn.readBoolean());
     }
-    if (null == this.sunrise_sunset) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 40)) != 0) {
+        set_traffic_calming(null);
+    } else if ((__projection & (1L << 40)) == 0) {
+        set_traffic_calming(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, sunrise_sunset);
+    set_traffic_calming(__dataIn.readBoolean());
     }
-    if (null == this.civil_twilight) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 41)) != 0) {
+        set_traffic_signal(null);
+    } else if ((__projection & (1L << 41)) == 0) {
+        set_traffic_signal(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, civil_twilight);
+    set_traffic_signal(__dataIn.readBoolean());
     }
-    if (null == this.nautical_twilight) { 
-        __dataOut.writeBoolean(true);
+    if ((__nulls & (1L << 42)) != 0) {
+        set_turning_loop(null);
+    } else if ((__projection & (1L << 42)) == 0) {
+        set_turning_loop(null);
+        WritableUtils.skipFully(__dataIn, 1);
     } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, nautical_twilight);
+    set_turning_loop(__dataIn.readBoolean());
     }
-    if (null == this.astronomical_twilight) { 
-        __dataOut.writeBoolean(true);
+    }
+    if ((__nulls & (1L << 43)) != 0) {
+        this.sunrise_sunset = null;
+    } else if ((__projection & (1L << 43)) == 0) {
+        this.sunrise_sunset = null;
+        AccidentDictionary.skipString(__dataIn, AccidentSchema.SUNRISE_SUNSET, __dictionary);
     } else {
-        __dataOut.writeBoolean(false);
-    Text.writeString(__dataOut, astronomical_twilight);
+    this.sunrise_sunset = AccidentDictionary.readString(__dataIn, AccidentSchema.SUNRISE_SUNSET, __dictionary);
+    }
+    if ((__nulls & (1L << 44)) != 0) {
+        this.civil_twilight = null;
+    } else if ((__projection & (1L << 44)) == 0) {
+        this.civil_twilight = null;
+        AccidentDictionary.skipString(__dataIn, AccidentSchema.CIVIL_TWILIGHT, __dictionary);
+    } else {
+    this.civil_twilight = AccidentDictionary.readString(__dataIn, AccidentSchema.CIVIL_TWILIGHT, __dictionary);
+    }
+    if ((__nulls & (1L << 45)) != 0) {
+        this.nautical_twilight = null;
+    } else if ((__projection & (1L << 45)) == 0) {
+        this.nautical_twilight = null;
+        AccidentDictionary.skipString(__dataIn, AccidentSchema.NAUTICAL_TWILIGHT, __dictionary);
+    } else {
+    this.nautical_twilight = AccidentDictionary.readString(__dataIn, AccidentSchema.NAUTICAL_TWILIGHT, __dictionary);
+    }
+    if ((__nulls & (1L << 46)) != 0) {
+        this.astronomical_twilight = null;
+    } else if ((__projection & (1L << 46)) == 0) {
+        this.astronomical_twilight = null;
+        AccidentDictionary.skipString(__dataIn, AccidentSchema.ASTRONOMICAL_TWILIGHT, __dictionary);
+    } else {
+    this.astronomical_twilight = AccidentDictionary.readString(__dataIn, AccidentSchema.ASTRONOMICAL_TWILIGHT, __dictionary);
+    }
+  }
+  public void write(DataOutput __dataOut) throws IOException {
+    __fingerprint();
+    boolean __dictionary = dictionaryEncoding;
+    __dataOut.writeByte(FLAGGED_PROTOCOL_VERSION);
+    __dataOut.writeByte(__dictionary ? FLAG_DICTIONARY | FLAG_ROAD_MASK : FLAG_ROAD_MASK);
+    long __nulls = 0L;
+    if (null == this.id) { __nulls |= 1L << 0; }
+    if (null == this.id_str) { __nulls |= 1L << 1; }
+    if (null == this.source) { __nulls |= 1L << 2; }
+    if (null == this.severity) { __nulls |= 1L << 3; }
+    if (null == this.start_time) { __nulls |= 1L << 4; }
+    if (null == this.end_time) { __nulls |= 1L << 5; }
+    if (null == this.start_lat) { __nulls |= 1L << 6; }
+    if (null == this.start_lng) { __nulls |= 1L << 7; }
+    if (null == this.end_lat) { __nulls |= 1L << 8; }
+    if (null == this.end_lng) { __nulls |= 1L << 9; }
+    if (null == this.distance_mi) { __nulls |= 1L << 10; }
+    if (null == this.description) { __nulls |= 1L << 11; }
+    if (null == this.street) { __nulls |= 1L << 12; }
+    if (null == this.city) { __nulls |= 1L << 13; }
+    if (null == this.county) { __nulls |= 1L << 14; }
+    if (null == this.state) { __nulls |= 1L << 15; }
+    if (null == this.zipcode) { __nulls |= 1L << 16; }
+    if (null == this.country) { __nulls |= 1L << 17; }
+    if (null == this.timezone) { __nulls |= 1L << 18; }
+    if (null == this.airport_code) { __nulls |= 1L << 19; }
+    if (null == this.weather_timestamp) { __nulls |= 1L << 20; }
+    if (null == this.temperature_f) { __nulls |= 1L << 21; }
+    if (null == this.wind_chill_f) { __nulls |= 1L << 22; }
+    if (null == this.humidity_percent) { __nulls |= 1L << 23; }
+    if (null == this.pressure_in) { __nulls |= 1L << 24; }
+    if (null == this.visibility_mi) { __nulls |= 1L << 25; }
+    if (null == this.wind_direction) { __nulls |= 1L << 26; }
+    if (null == this.wind_speed_mph) { __nulls |= 1L << 27; }
+    if (null == this.precipitation_in) { __nulls |= 1L << 28; }
+    if (null == this.weather_condition) { __nulls |= 1L << 29; }
+    if (null == get_amenity()) { __nulls |= 1L << 30; }
+    if (null == get_bump()) { __nulls |= 1L << 31; }
+    if (null == get_crossing()) { __nulls |= 1L << 32; }
+    if (null == get_give_way()) { __nulls |= 1L << 33; }
+    if (null == get_junction()) { __nulls |= 1L << 34; }
+    if (null == get_no_exit()) { __nulls |= 1L << 35; }
+    if (null == get_railway()) { __nulls |= 1L << 36; }
+    if (null == get_roundabout()) { __nulls |= 1L << 37; }
+    if (null == get_station()) { __nulls |= 1L << 38; }
+    if (null == get_stop()) { __nulls |= 1L << 39; }
+    if (null == get_traffic_calming()) { __nulls |= 1L << 40; }
+    if (null == get_traffic_signal()) { __nulls |= 1L << 41; }
+    if (null == get_turning_loop()) { __nulls |= 1L << 42; }
+    if (null == this.sunrise_sunset) { __nulls |= 1L << 43; }
+    if (null == this.civil_twilight) { __nulls |= 1L << 44; }
+    if (null == this.nautical_twilight) { __nulls |= 1L << 45; }
+    if (null == this.astronomical_twilight) { __nulls |= 1L << 46; }
+    for (int __i = 0; __i < NULL_BITMAP_BYTES; __i++) {
+      __dataOut.writeByte((int) (__nulls >>> (8 * __i)));
+    }
+    if (__dictionary) {
+      __dataOut.writeByte(AccidentDictionary.VERSION);
+    }
+    if (null != this.id) {
+    VarIntCodec.writeVInt(__dataOut, this.id);
+    }
+    if (null != this.id_str) {
+    Text.writeString(__dataOut, id_str);
+    }
+    if (null != this.source) {
+    AccidentDictionary.writeString(__dataOut, AccidentSchema.SOURCE, source, __dictionary);
+    }
+    if (null != this.severity) {
+    VarIntCodec.writeVInt(__dataOut, this.severity);
+    }
+    if (null != this.start_time) {
+    VarIntCodec.writeVLong(__dataOut, Math.floorDiv(this.start_time.getTime(), 1000L));
+    VarIntCodec.writeVInt(__dataOut, this.start_time.getNanos());
+    }
+    if (null != this.end_time) {
+    VarIntCodec.writeVLong(__dataOut, Math.floorDiv(this.end_time.getTime(), 1000L));
+    VarIntCodec.writeVInt(__dataOut, this.end_time.getNanos());
+    }
+    if (null != this.start_lat) {
+    __dataOut.writeDouble(this.start_lat);
+    }
+    if (null != this.start_lng) {
+    __dataOut.writeDouble(this.start_lng);
+    }
+    if (null != this.end_lat) {
+    __dataOut.writeDouble(this.end_lat);
+    }
+    if (null != this.end_lng) {
+    __dataOut.writeDouble(this.end_lng);
+    }
+    if (null != this.distance_mi) {
+    __dataOut.writeDouble(this.distance_mi);
+    }
+    if (null != this.description) {
+    Text.writeString(__dataOut, description);
+    }
+    if (null != this.street) {
+    Text.writeString(__dataOut, street);
+    }
+    if (null != this.city) {
+    Text.writeString(__dataOut, city);
+    }
+    if (null != this.county) {
+    Text.writeString(__dataOut, county);
+    }
+    if (null != this.state) {
+    AccidentDictionary.writeString(__dataOut, AccidentSchema.STATE, state, __dictionary);
+    }
+    if (null != this.zipcode) {
+    Text.writeString(__dataOut, zipcode);
+    }
+    if (null != this.country) {
+    AccidentDictionary.writeString(__dataOut, AccidentSchema.COUNTRY, country, __dictionary);
+    }
+    if (null != this.timezone) {
+    AccidentDictionary.writeString(__dataOut, AccidentSchema.TIMEZONE, timezone, __dictionary);
+    }
+    if (null != this.airport_code) {
+    Text.writeString(__dataOut, airport_code);
+    }
+    if (null != this.weather_timestamp) {
+    VarIntCodec.writeVLong(__dataOut, Math.floorDiv(this.weather_timestamp.getTime(), 1000L));
+    VarIntCodec.writeVInt(__dataOut, this.weather_timestamp.getNanos());
+    }
+    if (null != this.temperature_f) {
+    __dataOut.writeDouble(this.temperature_f);
+    }
+    if (null != this.wind_chill_f) {
+    __dataOut.writeDouble(this.wind_chill_f);
+    }
+    if (null != this.humidity_percent) {
+    __dataOut.writeDouble(this.humidity_percent);
+    }
+    if (null != this.pressure_in) {
+    __dataOut.writeDouble(this.pressure_in);
+    }
+    if (null != this.visibility_mi) {
+    __dataOut.writeDouble(this.visibility_mi);
+    }
+    if (null != this.wind_direction) {
+    AccidentDictionary.writeString(__dataOut, AccidentSchema.WIND_DIRECTION, wind_direction, __dictionary);
+    }
+    if (null != this.wind_speed_mph) {
+    __dataOut.writeDouble(this.wind_speed_mph);
+    }
+    if (null != this.precipitation_in) {
+    __dataOut.writeDouble(this.precipitation_in);
+    }
+    if (null != this.weather_condition) {
+    AccidentDictionary.writeString(__dataOut, AccidentSchema.WEATHER_CONDITION, weather_condition, __dictionary);
+    }
+    __dataOut.writeShort(road_features);
+    if (null != this.sunrise_sunset) {
+    AccidentDictionary.writeString(__dataOut, AccidentSchema.SUNRISE_SUNSET, sunrise_sunset, __dictionary);
+    }
+    if (null != this.civil_twilight) {
+    AccidentDictionary.writeString(__dataOut, AccidentSchema.CIVIL_TWILIGHT, civil_twilight, __dictionary);
+    }
+    if (null != this.nautical_twilight) {
+    AccidentDictionary.writeString(__dataOut, AccidentSchema.NAUTICAL_TWILIGHT, nautical_twilight, __dictionary);
+    }
+    if (null != this.astronomical_twilight) {
+    AccidentDictionary.writeString(__dataOut, AccidentSchema.ASTRONOMICAL_TWILIGHT, astronomical_twilight, __dictionary);
     }
   }
   public void write0(DataOutput __dataOut) throws IOException {
@@ -1880,83 +2556,83 @@ this.readFields0(__dataIn);  }
         __dataOut.writeBoolean(false);
     Text.writeString(__dataOut, weather_condition);
     }
-    if (null == this.amenity) { 
+    if (null == get_amenity()) { 
         __dataOut.writeBoolean(true);
     } else {
         __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.amenity);
+    __dataOut.writeBoolean(get_amenity());
     }
-    if (null == this.bump) { 
+    if (null == get_bump()) { 
         __dataOut.writeBoolean(true);
     } else {
         __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.bump);
+    __dataOut.writeBoolean(get_bump());
     }
-    if (null == this.crossing) { 
+    if (null == get_crossing()) { 
         __dataOut.writeBoolean(true);
     } else {
         __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.crossing);
+    __dataOut.writeBoolean(get_crossing());
     }
-    if (null == this.give_way) { 
+    if (null == get_give_way()) { 
         __dataOut.writeBoolean(true);
     } else {
         __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.give_way);
+    __dataOut.writeBoolean(get_give_way());
     }
-    if (null == this.junction) { 
+    if (null == get_junction()) { 
         __dataOut.writeBoolean(true);
     } else {
         __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.junction);
+    __dataOut.writeBoolean(get_junction());
     }
-    if (null == this.no_exit) { 
+    if (null == get_no_exit()) { 
         __dataOut.writeBoolean(true);
     } else {
         __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.no_exit);
+    __dataOut.writeBoolean(get_no_exit());
     }
-    if (null == this.railway) { 
+    if (null == get_railway()) { 
         __dataOut.writeBoolean(true);
     } else {
         __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.railway);
+    __dataOut.writeBoolean(get_railway());
     }
-    if (null == this.roundabout) { 
+    if (null == get_roundabout()) { 
         __dataOut.writeBoolean(true);
     } else {
         __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.roundabout);
+    __dataOut.writeBoolean(get_roundabout());
     }
-    if (null == this.station) { 
+    if (null == get_station()) { 
         __dataOut.writeBoolean(true);
     } else {
         __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.station);
+    __dataOut.writeBoolean(get_station());
     }
-    if (null == this.stop) { 
+    if (null == get_stop()) { 
         __dataOut.writeBoolean(true);
     } else {
         __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.stop);
+    __dataOut.writeBoolean(get_stop());
     }
-    if (null == this.traffic_calming) { 
+    if (null == get_traffic_calming()) { 
         __dataOut.writeBoolean(true);
     } else {
         __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.traffic_calming);
+    __dataOut.writeBoolean(get_traffic_calming());
     }
-    if (null == this.traffic_signal) { 
+    if (null == get_traffic_signal()) { 
         __dataOut.writeBoolean(true);
     } else {
         __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.traffic_signal);
+    __dataOut.writeBoolean(get_traffic_signal());
     }
-    if (null == this.turning_loop) { 
+    if (null == get_turning_loop()) { 
         __dataOut.writeBoolean(true);
     } else {
         __dataOut.writeBoolean(false);
-    __dataOut.writeBoolean(this.turning_loop);
+    __dataOut.writeBoolean(get_turning_loop());
     }
     if (null == this.sunrise_sunset) { 
         __dataOut.writeBoolean(true);
@@ -1993,1230 +2669,210 @@ this.readFields0(__dataIn);  }
   public String toString(boolean useRecordDelim) {
     return toString(__outputDelimiters, useRecordDelim);
   }
+  private AccidentTextWriter __textWriter;
+  private AccidentTextWriter __textWriter(DelimiterSet delimiters, char fieldDelim) {
+    if (null == this.__textWriter || !this.__textWriter.uses(delimiters, fieldDelim)) {
+      this.__textWriter = new AccidentTextWriter(delimiters, fieldDelim);
+    }
+    this.__textWriter.reset();
+    return this.__textWriter;
+  }
   public String toString(DelimiterSet delimiters, boolean useRecordDelim) {
-    StringBuilder __sb = new StringBuilder();
-    char fieldDelim = delimiters.getFieldsTerminatedBy();
-    __sb.append(FieldFormatter.escapeAndEnclose(id==null?"null":"" + id, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(id_str==null?"null":id_str, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(source==null?"null":source, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(severity==null?"null":"" + severity, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(start_time==null?"null":"" + start_time, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(end_time==null?"null":"" + end_time, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(start_lat==null?"null":"" + start_lat, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(start_lng==null?"null":"" + start_lng, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(end_lat==null?"null":"" + end_lat, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(end_lng==null?"null":"" + end_lng, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(distance_mi==null?"null":"" + distance_mi, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(description==null?"null":description, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(street==null?"null":street, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(city==null?"null":city, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(county==null?"null":county, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(state==null?"null":state, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(zipcode==null?"null":zipcode, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(country==null?"null":country, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(timezone==null?"null":timezone, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(airport_code==null?"null":airport_code, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(weather_timestamp==null?"null":"" + weather_timestamp, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(temperature_f==null?"null":"" + temperature_f, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(wind_chill_f==null?"null":"" + wind_chill_f, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(humidity_percent==null?"null":"" + humidity_percent, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(pressure_in==null?"null":"" + pressure_in, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(visibility_mi==null?"null":"" + visibility_mi, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(wind_direction==null?"null":wind_direction, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(wind_speed_mph==null?"null":"" + wind_speed_mph, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(precipitation_in==null?"null":"" + precipitation_in, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(weather_condition==null?"null":weather_condition, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(amenity==null?"null":"" + amenity, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(bump==null?"null":"" + bump, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(crossing==null?"null":"" + crossing, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(give_way==null?"null":"" + give_way, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(junction==null?"null":"" + junction, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(no_exit==null?"null":"" + no_exit, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(railway==null?"null":"" + railway, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(roundabout==null?"null":"" + roundabout, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(station==null?"null":"" + station, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(stop==null?"null":"" + stop, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(traffic_calming==null?"null":"" + traffic_calming, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(traffic_signal==null?"null":"" + traffic_signal, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(turning_loop==null?"null":"" + turning_loop, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(sunrise_sunset==null?"null":sunrise_sunset, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(civil_twilight==null?"null":civil_twilight, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(nautical_twilight==null?"null":nautical_twilight, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(astronomical_twilight==null?"null":astronomical_twilight, delimiters));
-    if (useRecordDelim) {
-      __sb.append(delimiters.getLinesTerminatedBy());
-    }
-    return __sb.toString();
+    AccidentTextWriter __w = __textWriter(delimiters, delimiters.getFieldsTerminatedBy());
+    __w.write(this, useRecordDelim);
+    return __w.toString();
   }
   public void toString0(DelimiterSet delimiters, StringBuilder __sb, char fieldDelim) {
-    __sb.append(FieldFormatter.escapeAndEnclose(id==null?"null":"" + id, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(id_str==null?"null":id_str, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(source==null?"null":source, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(severity==null?"null":"" + severity, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(start_time==null?"null":"" + start_time, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(end_time==null?"null":"" + end_time, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(start_lat==null?"null":"" + start_lat, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(start_lng==null?"null":"" + start_lng, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(end_lat==null?"null":"" + end_lat, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(end_lng==null?"null":"" + end_lng, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(distance_mi==null?"null":"" + distance_mi, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(description==null?"null":description, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(street==null?"null":street, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(city==null?"null":city, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(county==null?"null":county, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(state==null?"null":state, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(zipcode==null?"null":zipcode, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(country==null?"null":country, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(timezone==null?"null":timezone, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(airport_code==null?"null":airport_code, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(weather_timestamp==null?"null":"" + weather_timestamp, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(temperature_f==null?"null":"" + temperature_f, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(wind_chill_f==null?"null":"" + wind_chill_f, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(humidity_percent==null?"null":"" + humidity_percent, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(pressure_in==null?"null":"" + pressure_in, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(visibility_mi==null?"null":"" + visibility_mi, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(wind_direction==null?"null":wind_direction, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(wind_speed_mph==null?"null":"" + wind_speed_mph, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(precipitation_in==null?"null":"" + precipitation_in, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(weather_condition==null?"null":weather_condition, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(amenity==null?"null":"" + amenity, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(bump==null?"null":"" + bump, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(crossing==null?"null":"" + crossing, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(give_way==null?"null":"" + give_way, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(junction==null?"null":"" + junction, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(no_exit==null?"null":"" + no_exit, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(railway==null?"null":"" + railway, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(roundabout==null?"null":"" + roundabout, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(station==null?"null":"" + station, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(stop==null?"null":"" + stop, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(traffic_calming==null?"null":"" + traffic_calming, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(traffic_signal==null?"null":"" + traffic_signal, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(turning_loop==null?"null":"" + turning_loop, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(sunrise_sunset==null?"null":sunrise_sunset, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(civil_twilight==null?"null":civil_twilight, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(nautical_twilight==null?"null":nautical_twilight, delimiters));
-    __sb.append(fieldDelim);
-    __sb.append(FieldFormatter.escapeAndEnclose(astronomical_twilight==null?"null":astronomical_twilight, delimiters));
+    AccidentTextWriter __w = __textWriter(delimiters, fieldDelim);
+    __w.write(this, false);
+    __w.appendTo(__sb);
   }
+
   private static final DelimiterSet __inputDelimiters = new DelimiterSet((char) 44, (char) 10, (char) 0, (char) 0, false);
-  private RecordParser __parser;
+  private AccidentTextParser __textParser;
   public void parse(Text __record) throws RecordParser.ParseError {
-    if (null == this.__parser) {
-      this.__parser = new RecordParser(__inputDelimiters);
+    if (null == __record) {
+      throw new RecordParser.ParseError("null input string");
+    }
+    if (null == this.__textParser) {
+      this.__textParser = new AccidentTextParser(__inputDelimiters);
     }
-    List<String> __fields = this.__parser.parseRecord(__record);
-    __loadFromFields(__fields);
+    this.__textParser.split(__record.getBytes(), 0, __record.getLength());
+    __load(this.__textParser);
   }
 
   public void parse(CharSequence __record) throws RecordParser.ParseError {
-    if (null == this.__parser) {
-      this.__parser = new RecordParser(__inputDelimiters);
+    if (null == __record) {
+      throw new RecordParser.ParseError("null input string");
     }
-    List<String> __fields = this.__parser.parseRecord(__record);
-    __loadFromFields(__fields);
+    if (null == this.__textParser) {
+      this.__textParser = new AccidentTextParser(__inputDelimiters);
+    }
+    this.__textParser.split(__record);
+    __load(this.__textParser);
   }
 
   public void parse(byte [] __record) throws RecordParser.ParseError {
-    if (null == this.__parser) {
-      this.__parser = new RecordParser(__inputDelimiters);
+    if (null == __record) {
+      throw new RecordParser.ParseError("null input string");
+    }
+    if (null == this.__textParser) {
+      this.__textParser = new AccidentTextParser(__inputDelimiters);
     }
-    List<String> __fields = this.__parser.parseRecord(__record);
-    __loadFromFields(__fields);
+    this.__textParser.split(__record, 0, __record.length);
+    __load(this.__textParser);
   }
 
   public void parse(char [] __record) throws RecordParser.ParseError {
-    if (null == this.__parser) {
-      this.__parser = new RecordParser(__inputDelimiters);
+    if (null == __record) {
+      throw new RecordParser.ParseError("null input string");
     }
-    List<String> __fields = this.__parser.parseRecord(__record);
-    __loadFromFields(__fields);
+    if (null == this.__textParser) {
+      this.__textParser = new AccidentTextParser(__inputDelimiters);
+    }
+    this.__textParser.split(__record);
+    __load(this.__textParser);
   }
 
   public void parse(ByteBuffer __record) throws RecordParser.ParseError {
-    if (null == this.__parser) {
-      this.__parser = new RecordParser(__inputDelimiters);
+    if (null == __record) {
+      throw new RecordParser.ParseError("null input string");
+    }
+    if (null == this.__textParser) {
+      this.__textParser = new AccidentTextParser(__inputDelimiters);
     }
-    List<String> __fields = this.__parser.parseRecord(__record);
-    __loadFromFields(__fields);
+    this.__textParser.split(__record);
+    __load(this.__textParser);
   }
 
   public void parse(CharBuffer __record) throws RecordParser.ParseError {
-    if (null == this.__parser) {
-      this.__parser = new RecordParser(__inputDelimiters);
+    if (null == __record) {
+      throw new RecordParser.ParseError("null input string");
     }
-    List<String> __fields = this.__parser.parseRecord(__record);
-    __loadFromFields(__fields);
+    if (null == this.__textParser) {
+      this.__textParser = new AccidentTextParser(__inputDelimiters);
+    }
+    this.__textParser.split((CharSequence) __record);
+    __load(this.__textParser);
   }
 
-  private void __loadFromFields(List<String> fields) {
-    Iterator<String> __it = fields.listIterator();
-    String __cur_str = null;
-    try {
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.id = null; } else {
-      this.id = Integer.valueOf(__cur_str);
+  private void __load(AccidentTextParser __p) {
+    this.__fingerprinted = false;
+    this.__rejected = false;
+    if (null == this.__parseErrors) {
+      __loadFromParser(__p);
+      __fingerprint();
+      return;
     }
+    try {
+      __loadFromParser(__p);
+    } catch (RuntimeException __e) {
+      PrimitiveAccident __row = new PrimitiveAccident();
+      long __failed = __p.load(__row, __projection, this.__parseErrors);
+      if (__failed == 0) {
+        throw __e;
+      }
+      __row.copyTo(this);
+      this.__rejected = this.__parseErrors.isQuarantine();
+    }
+    __fingerprint();
+  }
+
+  private void __loadFromParser(AccidentTextParser __p) {
+    this.id = (__projection & (1L << 0)) == 0 || __p.isNullValue(0) ? null : Integer.valueOf(__p.getInt(0));
+    this.id_str = (__projection & (1L << 1)) == 0 || __p.isNullValue(1) ? null : __p.getString(1);
+    this.source = (__projection & (1L << 2)) == 0 || __p.isNullValue(2) ? null : __p.getString(2);
+    this.severity = (__projection & (1L << 3)) == 0 || __p.isNullValue(3) ? null : Integer.valueOf(__p.getInt(3));
+    this.start_time = (__projection & (1L << 4)) == 0 || __p.isNullValue(4) ? null : __p.getTimestamp(4);
+    this.end_time = (__projection & (1L << 5)) == 0 || __p.isNullValue(5) ? null : __p.getTimestamp(5);
+    this.start_lat = (__projection & (1L << 6)) == 0 || __p.isNullValue(6) ? null : Double.valueOf(__p.getDouble(6));
+    this.start_lng = (__projection & (1L << 7)) == 0 || __p.isNullValue(7) ? null : Double.valueOf(__p.getDouble(7));
+    this.end_lat = (__projection & (1L << 8)) == 0 || __p.isNullValue(8) ? null : Double.valueOf(__p.getDouble(8));
+    this.end_lng = (__projection & (1L << 9)) == 0 || __p.isNullValue(9) ? null : Double.valueOf(__p.getDouble(9));
+    this.distance_mi = (__projection & (1L << 10)) == 0 || __p.isNullValue(10) ? null : Double.valueOf(__p.getDouble(10));
+    this.description = (__projection & (1L << 11)) == 0 || __p.isNullValue(11) ? null : __p.getString(11);
+    this.street = (__projection & (1L << 12)) == 0 || __p.isNullValue(12) ? null : __p.getString(12);
+    this.city = (__projection & (1L << 13)) == 0 || __p.isNullValue(13) ? null : __p.getString(13);
+    this.county = (__projection & (1L << 14)) == 0 || __p.isNullValue(14) ? null : __p.getString(14);
+    this.state = (__projection & (1L << 15)) == 0 || __p.isNullValue(15) ? null : __p.getString(15);
+    this.zipcode = (__projection & (1L << 16)) == 0 || __p.isNullValue(16) ? null : __p.getString(16);
+    this.country = (__projection & (1L << 17)) == 0 || __p.isNullValue(17) ? null : __p.getString(17);
+    this.timezone = (__projection & (1L << 18)) == 0 || __p.isNullValue(18) ? null : __p.getString(18);
+    this.airport_code = (__projection & (1L << 19)) == 0 || __p.isNullValue(19) ? null : __p.getString(19);
+    this.weather_timestamp = (__projection & (1L << 20)) == 0 || __p.isNullValue(20) ? null : __p.getTimestamp(20);
+    this.temperature_f = (__projection & (1L << 21)) == 0 || __p.isNullValue(21) ? null : Double.valueOf(__p.getDouble(21));
+    this.wind_chill_f = (__projection & (1L << 22)) == 0 || __p.isNullValue(22) ? null : Double.valueOf(__p.getDouble(22));
+    this.humidity_percent = (__projection & (1L << 23)) == 0 || __p.isNullValue(23) ? null : Double.valueOf(__p.getDouble(23));
+    this.pressure_in = (__projection & (1L << 24)) == 0 || __p.isNullValue(24) ? null : Double.valueOf(__p.getDouble(24));
+    this.visibility_mi = (__projection & (1L << 25)) == 0 || __p.isNullValue(25) ? null : Double.valueOf(__p.getDouble(25));
+    this.wind_direction = (__projection & (1L << 26)) == 0 || __p.isNullValue(26) ? null : __p.getString(26);
+    this.wind_speed_mph = (__projection & (1L << 27)) == 0 || __p.isNullValue(27) ? null : Double.valueOf(__p.getDouble(27));
+    this.precipitation_in = (__projection & (1L << 28)) == 0 || __p.isNullValue(28) ? null : Double.valueOf(__p.getDouble(28));
+    this.weather_condition = (__projection & (1L << 29)) == 0 || __p.isNullValue(29) ? null : __p.getString(29);
+    set_amenity((__projection & (1L << 30)) == 0 || __p.isNullValue(30) ? null : Boolean.valueOf(__p.getBoolean(30)));
+    set_bump((__projection & (1L << 31)) == 0 || __p.isNullValue(31) ? null : Boolean.valueOf(__p.getBoolean(31)));
+    set_crossing((__projection & (1L << 32)) == 0 || __p.isNullValue(32) ? null : Boolean.valueOf(__p.getBoolean(32)));
+    set_give_way((__projection & (1L << 33)) == 0 || __p.isNullValue(33) ? null : Boolean.valueOf(__p.getBoolean(33)));
+    set_junction((__projection & (1L << 34)) == 0 || __p.isNullValue(34) ? null : Boolean.valueOf(__p.getBoolean(34)));
+    set_no_exit((__projection & (1L << 35)) == 0 || __p.isNullValue(35) ? null : Boolean.valueOf(__p.getBoolean(35)));
+    set_railway((__projection & (1L << 36)) == 0 || __p.isNullValue(36) ? null : Boolean.valueOf(__p.getBoolean(36)));
+    set_roundabout((__projection & (1L << 37)) == 0 || __p.isNullValue(37) ? null : Boolean.valueOf(__p.getBoolean(37)));
+    set_station((__projection & (1L << 38)) == 0 || __p.isNullValue(38) ? null : Boolean.valueOf(__p.getBoolean(38)));
+    set_stop((__projection & (1L << 39)) == 0 || __p.isNullValue(39) ? null : Boolean.valueOf(__p.getBoolean(39)));
+    set_traffic_calming((__projection & (1L << 40)) == 0 || __p.isNullValue(40) ? null : Boolean.valueOf(__p.getBoolean(40)));
+    set_traffic_signal((__projection & (1L << 41)) == 0 || __p.isNullValue(41) ? null : Boolean.valueOf(__p.getBoolean(41)));
+    set_turning_loop((__projection & (1L << 42)) == 0 || __p.isNullValue(42) ? null : Boolean.valueOf(__p.getBoolean(42)));
+    this.sunrise_sunset = (__projection & (1L << 43)) == 0 || __p.isNullValue(43) ? null : __p.getString(43);
+    this.civil_twilight = (__projection & (1L << 44)) == 0 || __p.isNullValue(44) ? null : __p.getString(44);
+    this.nautical_twilight = (__projection & (1L << 45)) == 0 || __p.isNullValue(45) ? null : __p.getString(45);
+    this.astronomical_twilight = (__projection & (1L << 46)) == 0 || __p.isNullValue(46) ? null : __p.getString(46);
+  }
 
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.id_str = null; } else {
-      this.id_str = __cur_str;
-    }
+  public Object clone() throws CloneNotSupportedException {
+    us_accidents o = (us_accidents) super.clone();
+    o.__textParser = null;
+    o.__textWriter = null;
+    o.__fieldMap = null;
+    o.start_time = (o.start_time != null) ? (java.sql.Timestamp) o.start_time.clone() : null;
+    o.end_time = (o.end_time != null) ? (java.sql.Timestamp) o.end_time.clone() : null;
+    o.weather_timestamp = (o.weather_timestamp != null) ? (java.sql.Timestamp) o.weather_timestamp.clone() : null;
+    return o;
+  }
 
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.source = null; } else {
-      this.source = __cur_str;
-    }
+  public void clone0(us_accidents o) throws CloneNotSupportedException {
+    o.start_time = (o.start_time != null) ? (java.sql.Timestamp) o.start_time.clone() : null;
+    o.end_time = (o.end_time != null) ? (java.sql.Timestamp) o.end_time.clone() : null;
+    o.weather_timestamp = (o.weather_timestamp != null) ? (java.sql.Timestamp) o.weather_timestamp.clone() : null;
+  }
 
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.severity = null; } else {
-      this.severity = Integer.valueOf(__cur_str);
-    }
+  public Map<String, Object> getFieldMap() {
+    Map<String, Object> __sqoop$field_map = new HashMap<String, Object>();
+    getFieldMap0(__sqoop$field_map);
+    return __sqoop$field_map;
+  }
 
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.start_time = null; } else {
-      this.start_time = java.sql.Timestamp.valueOf(__cur_str);
+  // Live view of the columns backed by this record, created on first use
+  // and returned again on later calls; see AccidentFieldMap.
+  private AccidentFieldMap __fieldMap;
+  public Map<String, Object> getFieldMap0() {
+    if (__fieldMap == null) {
+      __fieldMap = new AccidentFieldMap(this);
     }
+    return __fieldMap;
+  }
 
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.end_time = null; } else {
-      this.end_time = java.sql.Timestamp.valueOf(__cur_str);
+  public void getFieldMap0(Map<String, Object> __sqoop$field_map) {
+    for (int __f = 0; __f < AccidentSchema.FIELD_COUNT; __f++) {
+      __sqoop$field_map.put(AccidentSchema.name(__f), getField(__f));
     }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.start_lat = null; } else {
-      this.start_lat = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.start_lng = null; } else {
-      this.start_lng = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.end_lat = null; } else {
-      this.end_lat = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.end_lng = null; } else {
-      this.end_lng = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.distance_mi = null; } else {
-      this.distance_mi = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.description = null; } else {
-      this.description = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.street = null; } else {
-      this.street = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.city = null; } else {
-      this.city = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.county = null; } else {
-      this.county = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.state = null; } else {
-      this.state = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.zipcode = null; } else {
-      this.zipcode = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.country = null; } else {
-      this.country = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.timezone = null; } else {
-      this.timezone = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.airport_code = null; } else {
-      this.airport_code = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.weather_timestamp = null; } else {
-      this.weather_timestamp = java.sql.Timestamp.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.temperature_f = null; } else {
-      this.temperature_f = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.wind_chill_f = null; } else {
-      this.wind_chill_f = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.humidity_percent = null; } else {
-      this.humidity_percent = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.pressure_in = null; } else {
-      this.pressure_in = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.visibility_mi = null; } else {
-      this.visibility_mi = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.wind_direction = null; } else {
-      this.wind_direction = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.wind_speed_mph = null; } else {
-      this.wind_speed_mph = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.precipitation_in = null; } else {
-      this.precipitation_in = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.weather_condition = null; } else {
-      this.weather_condition = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.amenity = null; } else {
-      this.amenity = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.bump = null; } else {
-      this.bump = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.crossing = null; } else {
-      this.crossing = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.give_way = null; } else {
-      this.give_way = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.junction = null; } else {
-      this.junction = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.no_exit = null; } else {
-      this.no_exit = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.railway = null; } else {
-      this.railway = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.roundabout = null; } else {
-      this.roundabout = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.station = null; } else {
-      this.station = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.stop = null; } else {
-      this.stop = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.traffic_calming = null; } else {
-      this.traffic_calming = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.traffic_signal = null; } else {
-      this.traffic_signal = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.turning_loop = null; } else {
-      this.turning_loop = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.sunrise_sunset = null; } else {
-      this.sunrise_sunset = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.civil_twilight = null; } else {
-      this.civil_twilight = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.nautical_twilight = null; } else {
-      this.nautical_twilight = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.astronomical_twilight = null; } else {
-      this.astronomical_twilight = __cur_str;
-    }
-
-    } catch (RuntimeException e) {    throw new RuntimeException("Can't parse input data: '" + __cur_str + "'", e);    }  }
-
-  private void __loadFromFields0(Iterator<String> __it) {
-    String __cur_str = null;
-    try {
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.id = null; } else {
-      this.id = Integer.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.id_str = null; } else {
-      this.id_str = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.source = null; } else {
-      this.source = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.severity = null; } else {
-      this.severity = Integer.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.start_time = null; } else {
-      this.start_time = java.sql.Timestamp.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.end_time = null; } else {
-      this.end_time = java.sql.Timestamp.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.start_lat = null; } else {
-      this.start_lat = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.start_lng = null; } else {
-      this.start_lng = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.end_lat = null; } else {
-      this.end_lat = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.end_lng = null; } else {
-      this.end_lng = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.distance_mi = null; } else {
-      this.distance_mi = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.description = null; } else {
-      this.description = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.street = null; } else {
-      this.street = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.city = null; } else {
-      this.city = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.county = null; } else {
-      this.county = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.state = null; } else {
-      this.state = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.zipcode = null; } else {
-      this.zipcode = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.country = null; } else {
-      this.country = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.timezone = null; } else {
-      this.timezone = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.airport_code = null; } else {
-      this.airport_code = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.weather_timestamp = null; } else {
-      this.weather_timestamp = java.sql.Timestamp.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.temperature_f = null; } else {
-      this.temperature_f = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.wind_chill_f = null; } else {
-      this.wind_chill_f = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.humidity_percent = null; } else {
-      this.humidity_percent = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.pressure_in = null; } else {
-      this.pressure_in = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.visibility_mi = null; } else {
-      this.visibility_mi = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.wind_direction = null; } else {
-      this.wind_direction = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.wind_speed_mph = null; } else {
-      this.wind_speed_mph = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.precipitation_in = null; } else {
-      this.precipitation_in = Double.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.weather_condition = null; } else {
-      this.weather_condition = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.amenity = null; } else {
-      this.amenity = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.bump = null; } else {
-      this.bump = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.crossing = null; } else {
-      this.crossing = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.give_way = null; } else {
-      this.give_way = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.junction = null; } else {
-      this.junction = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.no_exit = null; } else {
-      this.no_exit = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.railway = null; } else {
-      this.railway = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.roundabout = null; } else {
-      this.roundabout = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.station = null; } else {
-      this.station = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.stop = null; } else {
-      this.stop = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.traffic_calming = null; } else {
-      this.traffic_calming = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.traffic_signal = null; } else {
-      this.traffic_signal = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null") || __cur_str.length() == 0) { this.turning_loop = null; } else {
-      this.turning_loop = BooleanParser.valueOf(__cur_str);
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.sunrise_sunset = null; } else {
-      this.sunrise_sunset = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.civil_twilight = null; } else {
-      this.civil_twilight = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.nautical_twilight = null; } else {
-      this.nautical_twilight = __cur_str;
-    }
-
-    if (__it.hasNext()) {
-        __cur_str = __it.next();
-    } else {
-        __cur_str = "null";
-    }
-    if (__cur_str.equals("null")) { this.astronomical_twilight = null; } else {
-      this.astronomical_twilight = __cur_str;
-    }
-
-    } catch (RuntimeException e) {    throw new RuntimeException("Can't parse input data: '" + __cur_str + "'", e);    }  }
-
-  public Object clone() throws CloneNotSupportedException {
-    us_accidents o = (us_accidents) super.clone();
-    o.start_time = (o.start_time != null) ? (java.sql.Timestamp) o.start_time.clone() : null;
-    o.end_time = (o.end_time != null) ? (java.sql.Timestamp) o.end_time.clone() : null;
-    o.weather_timestamp = (o.weather_timestamp != null) ? (java.sql.Timestamp) o.weather_timestamp.clone() : null;
-    return o;
-  }
-
-  public void clone0(us_accidents o) throws CloneNotSupportedException {
-    o.start_time = (o.start_time != null) ? (java.sql.Timestamp) o.start_time.clone() : null;
-    o.end_time = (o.end_time != null) ? (java.sql.Timestamp) o.end_time.clone() : null;
-    o.weather_timestamp = (o.weather_timestamp != null) ? (java.sql.Timestamp) o.weather_timestamp.clone() : null;
-  }
-
-  public Map<String, Object> getFieldMap() {
-    Map<String, Object> __sqoop$field_map = new HashMap<String, Object>();
-    __sqoop$field_map.put("id", this.id);
-    __sqoop$field_map.put("id_str", this.id_str);
-    __sqoop$field_map.put("source", this.source);
-    __sqoop$field_map.put("severity", this.severity);
-    __sqoop$field_map.put("start_time", this.start_time);
-    __sqoop$field_map.put("end_time", this.end_time);
-    __sqoop$field_map.put("start_lat", this.start_lat);
-    __sqoop$field_map.put("start_lng", this.start_lng);
-    __sqoop$field_map.put("end_lat", this.end_lat);
-    __sqoop$field_map.put("end_lng", this.end_lng);
-    __sqoop$field_map.put("distance_mi", this.distance_mi);
-    __sqoop$field_map.put("description", this.description);
-    __sqoop$field_map.put("street", this.street);
-    __sqoop$field_map.put("city", this.city);
-    __sqoop$field_map.put("county", this.county);
-    __sqoop$field_map.put("state", this.state);
-    __sqoop$field_map.put("zipcode", this.zipcode);
-    __sqoop$field_map.put("country", this.country);
-    __sqoop$field_map.put("timezone", this.timezone);
-    __sqoop$field_map.put("airport_code", this.airport_code);
-    __sqoop$field_map.put("weather_timestamp", this.weather_timestamp);
-    __sqoop$field_map.put("temperature_f", this.temperature_f);
-    __sqoop$field_map.put("wind_chill_f", this.wind_chill_f);
-    __sqoop$field_map.put("humidity_percent", this.humidity_percent);
-    __sqoop$field_map.put("pressure_in", this.pressure_in);
-    __sqoop$field_map.put("visibility_mi", this.visibility_mi);
-    __sqoop$field_map.put("wind_direction", this.wind_direction);
-    __sqoop$field_map.put("wind_speed_mph", this.wind_speed_mph);
-    __sqoop$field_map.put("precipitation_in", this.precipitation_in);
-    __sqoop$field_map.put("weather_condition", this.weather_condition);
-    __sqoop$field_map.put("amenity", this.amenity);
-    __sqoop$field_map.put("bump", this.bump);
-    __sqoop$field_map.put("crossing", this.crossing);
-    __sqoop$field_map.put("give_way", this.give_way);
-    __sqoop$field_map.put("junction", this.junction);
-    __sqoop$field_map.put("no_exit", this.no_exit);
-    __sqoop$field_map.put("railway", this.railway);
-    __sqoop$field_map.put("roundabout", this.roundabout);
-    __sqoop$field_map.put("station", this.station);
-    __sqoop$field_map.put("stop", this.stop);
-    __sqoop$field_map.put("traffic_calming", this.traffic_calming);
-    __sqoop$field_map.put("traffic_signal", this.traffic_signal);
-    __sqoop$field_map.put("turning_loop", this.turning_loop);
-    __sqoop$field_map.put("sunrise_sunset", this.sunrise_sunset);
-    __sqoop$field_map.put("civil_twilight", this.civil_twilight);
-    __sqoop$field_map.put("nautical_twilight", this.nautical_twilight);
-    __sqoop$field_map.put("astronomical_twilight", this.astronomical_twilight);
-    return __sqoop$field_map;
-  }
-
-  public void getFieldMap0(Map<String, Object> __sqoop$field_map) {
-    __sqoop$field_map.put("id", this.id);
-    __sqoop$field_map.put("id_str", this.id_str);
-    __sqoop$field_map.put("source", this.source);
-    __sqoop$field_map.put("severity", this.severity);
-    __sqoop$field_map.put("start_time", this.start_time);
-    __sqoop$field_map.put("end_time", this.end_time);
-    __sqoop$field_map.put("start_lat", this.start_lat);
-    __sqoop$field_map.put("start_lng", this.start_lng);
-    __sqoop$field_map.put("end_lat", this.end_lat);
-    __sqoop$field_map.put("end_lng", this.end_lng);
-    __sqoop$field_map.put("distance_mi", this.distance_mi);
-    __sqoop$field_map.put("description", this.description);
-    __sqoop$field_map.put("street", this.street);
-    __sqoop$field_map.put("city", this.city);
-    __sqoop$field_map.put("county", this.county);
-    __sqoop$field_map.put("state", this.state);
-    __sqoop$field_map.put("zipcode", this.zipcode);
-    __sqoop$field_map.put("country", this.country);
-    __sqoop$field_map.put("timezone", this.timezone);
-    __sqoop$field_map.put("airport_code", this.airport_code);
-    __sqoop$field_map.put("weather_timestamp", this.weather_timestamp);
-    __sqoop$field_map.put("temperature_f", this.temperature_f);
-    __sqoop$field_map.put("wind_chill_f", this.wind_chill_f);
-    __sqoop$field_map.put("humidity_percent", this.humidity_percent);
-    __sqoop$field_map.put("pressure_in", this.pressure_in);
-    __sqoop$field_map.put("visibility_mi", this.visibility_mi);
-    __sqoop$field_map.put("wind_direction", this.wind_direction);
-    __sqoop$field_map.put("wind_speed_mph", this.wind_speed_mph);
-    __sqoop$field_map.put("precipitation_in", this.precipitation_in);
-    __sqoop$field_map.put("weather_condition", this.weather_condition);
-    __sqoop$field_map.put("amenity", this.amenity);
-    __sqoop$field_map.put("bump", this.bump);
-    __sqoop$field_map.put("crossing", this.crossing);
-    __sqoop$field_map.put("give_way", this.give_way);
-    __sqoop$field_map.put("junction", this.junction);
-    __sqoop$field_map.put("no_exit", this.no_exit);
-    __sqoop$field_map.put("railway", this.railway);
-    __sqoop$field_map.put("roundabout", this.roundabout);
-    __sqoop$field_map.put("station", this.station);
-    __sqoop$field_map.put("stop", this.stop);
-    __sqoop$field_map.put("traffic_calming", this.traffic_calming);
-    __sqoop$field_map.put("traffic_signal", this.traffic_signal);
-    __sqoop$field_map.put("turning_loop", this.turning_loop);
-    __sqoop$field_map.put("sunrise_sunset", this.sunrise_sunset);
-    __sqoop$field_map.put("civil_twilight", this.civil_twilight);
-    __sqoop$field_map.put("nautical_twilight", this.nautical_twilight);
-    __sqoop$field_map.put("astronomical_twilight", this.astronomical_twilight);
   }
 
   public void setField(String __fieldName, Object __fieldVal) {
-    if (!setters.containsKey(__fieldName)) {
+    int __field = AccidentSchema.indexOf(__fieldName);
+    if (__field < 0) {
       throw new RuntimeException("No such field:"+__fieldName);
     }
-    setters.get(__fieldName).setField(__fieldVal);
+    setField(__field, __fieldVal);
   }
 
 }
@@ -40,9 +40,13 @@ python3 scripts/build_projectdb.py
 #     IMPORT TO HDFS VIA SQOOP     #
 ####################################
 
-# drop old sqoop files from root output
+# drop old sqoop schema from output; output/us_accidents.java is maintained
+# by hand (compact format, projection, field table) and is never regenerated
 rm -r output/*.avsc
-rm -r output/*.java
+
+# sqoop generates its own us_accidents.java on every import; keep it and
+# the compiled classes in a scratch directory so they cannot clobber ours
+sqoop_codegen=$(mktemp -d)
 
 # delete folders from hdfs
 hdfs dfs -rm -r project/
@@ -53,11 +57,12 @@ sqoop_password=$(head -n 1 secrets/.psql.pass)
 # import all tables (single one) via sqoop
 sqoop import-all-tables --connect jdbc:postgresql://hadoop-04.uni.innopolis.ru/team2_projectdb \
         --username team2 --password $sqoop_password --compression-codec=snappy --compress --as-avrodatafile \
-        --warehouse-dir=project/warehouse --m 1
+        --warehouse-dir=project/warehouse --m 1 \
+        --outdir "$sqoop_codegen" --bindir "$sqoop_codegen/classes"
 
-# move avsc and java files to output folder
-mv *.avsc output/
-mv *.java output/
+# move the avsc schema to output folder and drop the generated sources
+mv "$sqoop_codegen"/*.avsc output/ 2>/dev/null || mv *.avsc output/
+rm -rf "$sqoop_codegen"
 
 # put avsc schemas to hdfs
 hdfs dfs -mkdir -p project/warehouse/avsc